@@ -12,6 +12,7 @@ import static java.util.Spliterators.spliterator;
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.Option;
+import java.util.List;
 import java.util.Objects;
 import java.util.Spliterator;
 import java.util.stream.StreamSupport;
@@ -28,4 +29,12 @@ public class JsonPathEvaluator {
         return StreamSupport.stream(spliterator(ret.iterator(), ret.size(), Spliterator.DISTINCT), false)
             .anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Evaluates a compiled path against an already parsed document (maps, lists and simple values).
+     */
+    public static boolean evaluate(Object json, JsonPath jsonPath) {
+        List<?> ret = jsonPath.read(json, CONFIG);
+        return ret.stream().anyMatch(Objects::nonNull);
+    }
 }
@@ -13,15 +13,27 @@ import com.chutneytesting.action.common.JsonUtils;
 import com.chutneytesting.action.spi.SpelFunction;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.spi.json.JsonProvider;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
 public class JsonFunctions {
 
     private static final ObjectMapper om = new ObjectMapper();
 
+    // Keyed by identity, so that a JSON body kept in context is parsed once whatever the number of extractions
+    private static final Cache<String, DocumentContext> PARSED_DOCUMENTS = CacheBuilder.newBuilder().weakKeys().maximumSize(100).build();
+    private static final Cache<String, JsonPath> COMPILED_PATHS = CacheBuilder.newBuilder().maximumSize(1000).build();
+
     @Deprecated
     @SpelFunction
     public static Object json(Object document, String jsonPath) {
@@ -30,7 +42,11 @@ public class JsonFunctions {
 
     @SpelFunction
     public static Object jsonPath(Object document, String jsonPath) {
-        return JsonPath.parse(JsonUtils.jsonStringify(document)).read(jsonPath);
+        if (document instanceof String json) {
+            DocumentContext parsed = cached(PARSED_DOCUMENTS, json, () -> JsonPath.parse(json));
+            return copyOf(parsed.configuration().jsonProvider(), parsed.read(compiledPath(jsonPath)));
+        }
+        return JsonPath.parse(JsonUtils.jsonStringify(document)).read(compiledPath(jsonPath));
     }
 
     @SpelFunction
@@ -41,14 +57,14 @@ public class JsonFunctions {
     @SpelFunction
     public static String jsonSet(Object document, String path, Object value) {
         return JsonPath.parse(JsonUtils.jsonStringify(document))
-            .set(path, value)
+            .set(compiledPath(path), value)
             .jsonString();
     }
 
     @SpelFunction
     public static String jsonSetMany(Object document, Map<String, Object> map) {
         DocumentContext jsonDocument = JsonPath.parse(JsonUtils.jsonStringify(document));
-        map.forEach(jsonDocument::set);
+        map.forEach((path, value) -> jsonDocument.set(compiledPath(path), value));
         return jsonDocument.jsonString();
     }
 
@@ -62,4 +78,37 @@ public class JsonFunctions {
         return JsonPath.parse(JsonUtils.jsonStringify(jsonDocA)).jsonString();
     }
 
+    private static JsonPath compiledPath(String path) {
+        return cached(COMPILED_PATHS, path, () -> JsonPath.compile(path));
+    }
+
+    private static <K, V> V cached(Cache<K, V> cache, K key, Callable<V> loader) {
+        try {
+            return cache.get(key, loader);
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new UncheckedExecutionException(e.getCause());
+        }
+    }
+
+    /**
+     * Parsed JSON strings are cached and shared, so their objects and arrays are copied before being handed out,
+     * with the provider which parsed them, as a fresh parsing would.
+     */
+    private static Object copyOf(JsonProvider provider, Object node) {
+        if (provider.isMap(node)) {
+            Object copy = provider.createMap();
+            provider.getPropertyKeys(node).forEach(key -> provider.setProperty(copy, key, copyOf(provider, provider.getMapValue(node, key))));
+            return copy;
+        }
+        if (provider.isArray(node)) {
+            Object copy = provider.createArray();
+            int index = 0;
+            for (Object item : provider.toIterable(node)) {
+                provider.setArrayIndex(copy, index++, copyOf(provider, item));
+            }
+            return copy;
+        }
+        return node;
+    }
 }
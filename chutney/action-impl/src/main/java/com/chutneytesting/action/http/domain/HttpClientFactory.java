@@ -9,33 +9,44 @@ package com.chutneytesting.action.http.domain;
 
 
 import static com.chutneytesting.action.common.SecurityUtils.buildSslContext;
+import static com.chutneytesting.action.spi.time.Duration.parseToMs;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
 
 import com.chutneytesting.action.spi.injectable.Logger;
 import com.chutneytesting.action.spi.injectable.Target;
+import com.chutneytesting.action.spi.metrics.ConnectionPools;
 import java.net.MalformedURLException;
 import java.net.ProxySelector;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import javax.net.ssl.SSLContext;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.impl.routing.DefaultProxyRoutePlanner;
 import org.apache.hc.client5.http.impl.routing.SystemDefaultRoutePlanner;
-import org.apache.hc.client5.http.io.HttpClientConnectionManager;
-import org.apache.hc.client5.http.routing.HttpRoutePlanner;
 import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.client.support.BasicAuthenticationInterceptor;
@@ -45,6 +56,24 @@ import org.springframework.web.client.RestTemplate;
 public class HttpClientFactory {
 
     private static final String PROXY_PROPERTY = "proxy";
+    private static final String MAX_CONNECTIONS_PER_ROUTE_PROPERTY = "maxConnectionsPerRoute";
+    private static final String CONNECTION_IDLE_TIMEOUT_PROPERTY = "connectionIdleTimeout";
+    private static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 20;
+    private static final String DEFAULT_CONNECTION_IDLE_TIMEOUT = "60 s";
+    private static final long UNUSED_CLIENT_TIMEOUT = TimeUnit.MINUTES.toMillis(10);
+
+    private static final long UNUSED_CLIENTS_SWEEP_PERIOD = TimeUnit.MINUTES.toMillis(1);
+
+    private static final Map<HttpClientKey, PooledHttpClient> CLIENTS = new ConcurrentHashMap<>();
+
+    static {
+        ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-clients-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(HttpClientFactory::closeUnusedClients, UNUSED_CLIENTS_SWEEP_PERIOD, UNUSED_CLIENTS_SWEEP_PERIOD, TimeUnit.MILLISECONDS);
+    }
 
     /**
      * @return an {@link HttpClient} depending on given {@link Target} able to handle:
@@ -58,43 +87,49 @@ public class HttpClientFactory {
      * </ul>
      * </li>
      * </ul>
+     * Underlying connections are pooled and reused by all clients created for the same target authority, security, proxy and timeout.
+     * Cookies are not kept between requests, since a pool is shared by all executions.
+     * Pools without running request for 10 minutes are closed.
      */
     public HttpClient create(Logger logger, Target target, Class<String> responseType, int timeout) {
-        RestTemplate restTemplate = buildRestTemplate(logger, target, timeout);
+        HttpClientKey key = HttpClientKey.of(target, getProxyConfiguration(logger, target), timeout);
+        lease(target, key).release();
 
-        return (httpMethod, resource, input) -> restTemplate.exchange(target.uri().toString() + resource, httpMethod, input, responseType);
+        return (httpMethod, resource, input) -> {
+            PooledHttpClient client = lease(target, key);
+            try {
+                return client.restTemplate.exchange(target.uri().toString() + resource, httpMethod, input, responseType);
+            } finally {
+                client.release();
+            }
+        };
     }
 
-    private static RestTemplate buildRestTemplate(Logger logger, Target target, int timeout) {
-
-        SSLContext sslContext;
-        try {
-            sslContext = buildSslContext(target).build();
-        } catch (GeneralSecurityException e) {
-            throw new IllegalArgumentException(e.getMessage(), e);
-        }
-
-        final SSLConnectionSocketFactory socketFactory = new SSLConnectionSocketFactory(sslContext, NoopHostnameVerifier.INSTANCE);
-
-        final HttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
-            .setSSLSocketFactory(socketFactory)
-            .setDefaultSocketConfig(SocketConfig.custom().setSoTimeout(timeout, TimeUnit.MILLISECONDS).build())
-            .build();
-        final HttpClientBuilder httpClient = HttpClients.custom().setConnectionManager(connectionManager);
-
-        final Optional<HttpRoutePlanner> httpRoutePlanner = getProxyConfiguration(logger, target);
-        httpRoutePlanner.ifPresent(httpClient::setRoutePlanner);
+    static int pooledClientsCount() {
+        return CLIENTS.size();
+    }
 
-        final HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient.build());
-        requestFactory.setConnectTimeout(timeout);
+    /**
+     * Leases are taken under the map lock, so that a client cannot be closed between its lookup and its use.
+     */
+    private static PooledHttpClient lease(Target target, HttpClientKey key) {
+        return CLIENTS.compute(key, (k, client) -> (client == null ? new PooledHttpClient(target, k) : client).lease());
+    }
 
-        final RestTemplate restTemplate = new RestTemplate(requestFactory);
-        configureBasicAuth(target, restTemplate);
-        removeErrorHandler(restTemplate);
-        return restTemplate;
+    static void closeUnusedClients() {
+        long unusedSince = System.currentTimeMillis() - UNUSED_CLIENT_TIMEOUT;
+        CLIENTS.keySet().forEach(key ->
+            CLIENTS.computeIfPresent(key, (k, client) -> {
+                if (client.leases.get() == 0 && client.lastAccess < unusedSince) {
+                    client.close();
+                    return null;
+                }
+                return client;
+            })
+        );
     }
 
-    private static Optional<HttpRoutePlanner> getProxyConfiguration(Logger logger, Target target) {
+    private static Optional<HttpHost> getProxyConfiguration(Logger logger, Target target) {
         if (isTargetProxySet(target)) {
             try {
                 final String proxy = target.property(PROXY_PROPERTY).orElseThrow();
@@ -104,13 +139,11 @@ public class HttpClientFactory {
                 final int port = ofNullable(url.getPort()).orElse(3128);
                 final HttpHost httpProxy = new HttpHost(scheme, host, port);
                 logger.info("Proxy used: [" + httpProxy + "]");
-                return of(new DefaultProxyRoutePlanner(httpProxy));
+                return of(httpProxy);
             } catch (MalformedURLException e) {
                 logger.error("Malformed proxy url [" + target.property(PROXY_PROPERTY).get() + "]" + e.getMessage());
                 return empty();
             }
-        } else if (isSystemProxySet()) {
-            return of(new SystemDefaultRoutePlanner(ProxySelector.getDefault()));
         }
         return empty();
     }
@@ -119,24 +152,135 @@ public class HttpClientFactory {
         return target.property(PROXY_PROPERTY).isPresent();
     }
 
-    private static void removeErrorHandler(RestTemplate restTemplate) {
-        restTemplate.setErrorHandler(new NoOpResponseErrorHandler());
+    private static Boolean isSystemProxySet() {
+        return Stream.of("http.proxyHost", "https.proxyHost")
+            .map(System::getProperty)
+            .anyMatch(Objects::nonNull);
     }
 
-    private static void configureBasicAuth(Target target, RestTemplate restTemplate) {
-        if (target.user().isPresent()) {
-            String user = target.user().get();
-            String password = target.userPassword().orElse("");
-            restTemplate.getInterceptors().add(
-                new BasicAuthenticationInterceptor(user, password, StandardCharsets.UTF_8)
+    private record HttpClientKey(
+        String scheme,
+        String authority,
+        HttpHost proxy,
+        boolean systemProxy,
+        Map<String, String> security,
+        String user,
+        String password,
+        int timeout,
+        int maxConnectionsPerRoute,
+        long connectionIdleTimeout
+    ) {
+        private static HttpClientKey of(Target target, Optional<HttpHost> proxy, int timeout) {
+            Map<String, String> security = new HashMap<>();
+            target.property("sslProtocol").ifPresent(p -> security.put("sslProtocol", p));
+            target.trustStore().ifPresent(p -> security.put("trustStore", p));
+            target.trustStorePassword().ifPresent(p -> security.put("trustStorePassword", p));
+            target.keyStore().ifPresent(p -> security.put("keyStore", p));
+            target.keyStorePassword().ifPresent(p -> security.put("keyStorePassword", p));
+            target.keyPassword().ifPresent(p -> security.put("keyPassword", p));
+            return new HttpClientKey(
+                target.uri().getScheme(),
+                target.uri().getRawAuthority(),
+                proxy.orElse(null),
+                proxy.isEmpty() && isSystemProxySet(),
+                Map.copyOf(security),
+                target.user().orElse(null),
+                target.userPassword().orElse(""),
+                timeout,
+                target.numericProperty(MAX_CONNECTIONS_PER_ROUTE_PROPERTY).map(Number::intValue).orElse(DEFAULT_MAX_CONNECTIONS_PER_ROUTE),
+                parseToMs(target.property(CONNECTION_IDLE_TIMEOUT_PROPERTY).orElse(DEFAULT_CONNECTION_IDLE_TIMEOUT))
             );
         }
+
+        private String poolName() {
+            return scheme + "://" + authority;
+        }
+
+        @Override
+        public String toString() {
+            return "HttpClientKey[" + poolName() + ", user=" + user + ", timeout=" + timeout + "]";
+        }
     }
 
-    private static Boolean isSystemProxySet() {
-        return Stream.of("http.proxyHost", "https.proxyHost")
-            .map(System::getProperty)
-            .anyMatch(Objects::nonNull);
+    private static class PooledHttpClient {
+        private final CloseableHttpClient httpClient;
+        private final RestTemplate restTemplate;
+        private final ConnectionPools.Registration metricsRegistration;
+        private final AtomicInteger leases = new AtomicInteger();
+        private volatile long lastAccess;
+
+        private PooledHttpClient(Target target, HttpClientKey key) {
+            SSLContext sslContext;
+            try {
+                sslContext = buildSslContext(target).build();
+            } catch (GeneralSecurityException e) {
+                throw new IllegalArgumentException(e.getMessage(), e);
+            }
+
+            final SSLConnectionSocketFactory socketFactory = new SSLConnectionSocketFactory(sslContext, NoopHostnameVerifier.INSTANCE);
+
+            final PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setSSLSocketFactory(socketFactory)
+                .setDefaultSocketConfig(SocketConfig.custom().setSoTimeout(key.timeout, TimeUnit.MILLISECONDS).build())
+                .setMaxConnPerRoute(key.maxConnectionsPerRoute)
+                .setMaxConnTotal(key.maxConnectionsPerRoute)
+                .build();
+            final HttpClientBuilder httpClientBuilder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .disableCookieManagement()
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(key.connectionIdleTimeout));
+
+            if (key.proxy != null) {
+                httpClientBuilder.setRoutePlanner(new DefaultProxyRoutePlanner(key.proxy));
+            } else if (key.systemProxy) {
+                httpClientBuilder.setRoutePlanner(new SystemDefaultRoutePlanner(ProxySelector.getDefault()));
+            }
+            this.httpClient = httpClientBuilder.build();
+
+            final HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+            requestFactory.setConnectTimeout(key.timeout);
+
+            this.restTemplate = new RestTemplate(requestFactory);
+            configureBasicAuth(key, restTemplate);
+            removeErrorHandler(restTemplate);
+
+            this.metricsRegistration = ConnectionPools.register(key.poolName(), () -> {
+                PoolStats stats = connectionManager.getTotalStats();
+                return new ConnectionPools.PoolStats(stats.getLeased(), stats.getAvailable(), stats.getPending());
+            }, () -> {
+                CLIENTS.remove(key, this);
+                httpClient.close(CloseMode.GRACEFUL);
+            });
+        }
+
+        private PooledHttpClient lease() {
+            leases.incrementAndGet();
+            lastAccess = System.currentTimeMillis();
+            return this;
+        }
+
+        private void release() {
+            lastAccess = System.currentTimeMillis();
+            leases.decrementAndGet();
+        }
+
+        private void close() {
+            metricsRegistration.close();
+            httpClient.close(CloseMode.GRACEFUL);
+        }
+
+        private static void removeErrorHandler(RestTemplate restTemplate) {
+            restTemplate.setErrorHandler(new NoOpResponseErrorHandler());
+        }
+
+        private static void configureBasicAuth(HttpClientKey key, RestTemplate restTemplate) {
+            if (key.user != null) {
+                restTemplate.getInterceptors().add(
+                    new BasicAuthenticationInterceptor(key.user, key.password, StandardCharsets.UTF_8)
+                );
+            }
+        }
     }
 
     private static class NoOpResponseErrorHandler extends DefaultResponseErrorHandler {
@@ -24,14 +24,18 @@ import static org.springframework.util.MimeTypeUtils.APPLICATION_JSON_VALUE;
 import static org.springframework.util.MimeTypeUtils.APPLICATION_XML;
 
 import com.chutneytesting.action.amqp.utils.JsonPathEvaluator;
-import com.chutneytesting.action.function.XPathFunction;
+import com.chutneytesting.action.common.XmlUtils;
 import com.chutneytesting.action.spi.Action;
 import com.chutneytesting.action.spi.ActionExecutionResult;
+import com.chutneytesting.action.spi.FinallyAction;
+import com.chutneytesting.action.spi.injectable.FinallyActionRegistry;
 import com.chutneytesting.action.spi.injectable.Input;
 import com.chutneytesting.action.spi.injectable.Logger;
 import com.chutneytesting.action.spi.injectable.Target;
 import com.chutneytesting.action.spi.time.Duration;
+import com.chutneytesting.action.spi.validation.Validator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -41,9 +45,11 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Stream;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.common.header.Header;
+import org.jdom2.xpath.XPathExpression;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.MessageListener;
 import org.springframework.util.MimeType;
@@ -60,6 +66,7 @@ public class KafkaBasicConsumeAction implements Action {
     static final String OUTPUT_PAYLOADS = "payloads";
     static final String OUTPUT_BODY_KEY_KEY = "key";
     static final String OUTPUT_KEYS = "keys";
+    static final String OUTPUT_SESSION = "kafkaConsumerSession";
 
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
@@ -77,7 +84,15 @@ public class KafkaBasicConsumeAction implements Action {
     private final String group;
     private final String ackMode;
     private final Boolean resetOffset;
+    private final Boolean keepSession;
+    private final KafkaConsumerSession session;
+    private final FinallyActionRegistry finallyActionRegistry;
     private MimeType recordContentType;
+    private JsonPath jsonSelector;
+    private XPathExpression<Object> xmlSelector;
+    private JsonPath compiledHeaderSelector;
+    private final LongAdder filteredRecords = new LongAdder();
+    private final LongAdder filteringNanos = new LongAdder();
 
     public KafkaBasicConsumeAction(Target target,
                                    @Input("topic") String topic,
@@ -90,6 +105,9 @@ public class KafkaBasicConsumeAction implements Action {
                                    @Input("timeout") String timeout,
                                    @Input("ackMode") String ackMode,
                                    @Input("reset-offset") Boolean resetOffset,
+                                   @Input("keep-session") Boolean keepSession,
+                                   @Input("session") KafkaConsumerSession session,
+                                   FinallyActionRegistry finallyActionRegistry,
                                    Logger logger) {
         this.topic = topic;
         this.nbMessages = defaultIfNull(nbMessages, 1);
@@ -106,6 +124,9 @@ public class KafkaBasicConsumeAction implements Action {
             .or(() -> ofNullable(target).flatMap(t -> t.property("ackMode")))
             .orElse(ContainerProperties.AckMode.BATCH.name());
         this.resetOffset = ofNullable(resetOffset).orElse(false);
+        this.keepSession = ofNullable(keepSession).orElse(false);
+        this.session = session;
+        this.finallyActionRegistry = finallyActionRegistry;
     }
 
     @Override
@@ -115,12 +136,22 @@ public class KafkaBasicConsumeAction implements Action {
             notBlankStringValidation(group, "group"),
             targetValidation(target),
             durationValidation(timeout, "timeout"),
-            enumValidation(ContainerProperties.AckMode.class, ackMode, "ackMode")
+            enumValidation(ContainerProperties.AckMode.class, ackMode, "ackMode"),
+            sessionValidation()
         );
     }
 
+    private Validator<KafkaConsumerSession> sessionValidation() {
+        return Validator.of(session)
+            .validate(s -> s == null || target == null || s.consumes(target.name(), topic, group),
+                "Given session does not consume topic [" + topic + "] with group [" + group + "] on target [" + ofNullable(target).map(Target::name).orElse(null) + "]");
+    }
+
     @Override
     public ActionExecutionResult execute() {
+        if (session != null || keepSession) {
+            return consumeWithinSession();
+        }
         var messageListenerContainer = kafkaConsumerFactory.create(
             target, topic, group, resetOffset, ackMode, createMessageListener(), new ListenerContainerErrorHandler(logger), properties
         );
@@ -128,12 +159,7 @@ public class KafkaBasicConsumeAction implements Action {
             logger.info("Consuming message from topic " + topic);
             messageListenerContainer.start();
             countDownLatch.await(Duration.parse(timeout).toMilliseconds(), TimeUnit.MILLISECONDS);
-            if (consumedMessages.size() != nbMessages) {
-                logger.error("Unable to get the expected number of messages [" + nbMessages + "] during " + timeout + " from topic " + topic + ".");
-                return ActionExecutionResult.ko();
-            }
-            logger.info("Consumed [" + nbMessages + "] Kafka Messages from topic " + topic);
-            return ActionExecutionResult.ok(toOutputs());
+            return consumptionResult(toOutputs());
         } catch (Exception e) {
             logger.error("An exception occurs when consuming a message to Kafka server: " + e.getMessage());
             return ActionExecutionResult.ko();
@@ -142,18 +168,82 @@ public class KafkaBasicConsumeAction implements Action {
         }
     }
 
+    /**
+     * Reads records buffered by a running session, so that group join and partitions assignment are paid once for all steps sharing it.
+     */
+    private ActionExecutionResult consumeWithinSession() {
+        try {
+            final KafkaConsumerSession consumerSession = ofNullable(session).orElseGet(this::startSession);
+            logger.info("Consuming message from topic " + topic + " within " + consumerSession);
+            final MessageListener<String, String> messageListener = createMessageListener();
+            final long deadline = System.currentTimeMillis() + Duration.parse(timeout).toMilliseconds();
+            while (countDownLatch.getCount() > 0) {
+                ConsumerRecord<String, String> record = consumerSession.poll(deadline - System.currentTimeMillis());
+                if (record == null) {
+                    break;
+                }
+                messageListener.onMessage(record);
+            }
+            Map<String, Object> outputs = toOutputs();
+            outputs.put(OUTPUT_SESSION, consumerSession);
+            return consumptionResult(outputs);
+        } catch (Exception e) {
+            logger.error("An exception occurs when consuming a message to Kafka server: " + e.getMessage());
+            return ActionExecutionResult.ko();
+        }
+    }
+
+    private KafkaConsumerSession startSession() {
+        KafkaConsumerSession newSession = new KafkaConsumerSession(target.name(), topic, group, listener ->
+            kafkaConsumerFactory.create(target, topic, group, resetOffset, KafkaConsumerSession.ACK_MODE.name(), listener, new ListenerContainerErrorHandler(logger), properties)
+        );
+        finallyActionRegistry.registerFinallyAction(
+            FinallyAction.Builder
+                .forAction("kafka-consumer-session-stop", KafkaBasicConsumeAction.class)
+                .withInput("session", newSession)
+                .build()
+        );
+        logger.info("KafkaConsumerSessionStop finally action registered");
+        newSession.start();
+        return newSession;
+    }
+
+    private ActionExecutionResult consumptionResult(Map<String, Object> outputs) {
+        logFilteringCost();
+        if (consumedMessages.size() != nbMessages) {
+            logger.error("Unable to get the expected number of messages [" + nbMessages + "] during " + timeout + " from topic " + topic + ".");
+            return ActionExecutionResult.ko(ofNullable(outputs.get(OUTPUT_SESSION)).map(s -> Map.of(OUTPUT_SESSION, s)).orElse(emptyMap()));
+        }
+        logger.info("Consumed [" + nbMessages + "] Kafka Messages from topic " + topic);
+        return ActionExecutionResult.ok(outputs);
+    }
+
     private MessageListener<String, String> createMessageListener() {
         return record -> {
             if (countDownLatch.getCount() <= 0) {
                 return;
             }
-            final Map<String, Object> message = extractMessageFromRecord(record);
-            if (applySelector(message) && applyHeaderSelector(message)) {
-                addMessageToResultAndCountDown(message);
-            }
+            long start = System.nanoTime();
+            final Optional<Map<String, Object>> message = selectMessage(record);
+            filteringNanos.add(System.nanoTime() - start);
+            filteredRecords.increment();
+            message.ifPresent(this::addMessageToResultAndCountDown);
         };
     }
 
+    /**
+     * Headers are selected first, so that payloads of records rejected on headers are never parsed.
+     */
+    private Optional<Map<String, Object>> selectMessage(ConsumerRecord<?, ?> record) {
+        final Map<String, Object> headers = extractHeaders(record);
+        checkContentTypeHeader(headers);
+        if (!applyHeaderSelector(headers)) {
+            return Optional.empty();
+        }
+        final Map<String, Object> message = extractMessageFromRecord(record, headers);
+        return applySelector(message) ? Optional.of(message) : Optional.empty();
+    }
+
     private boolean applySelector(Map<String, Object> message) {
         if (isBlank(selector)) {
             return true;
@@ -164,16 +254,20 @@ public class KafkaBasicConsumeAction implements Action {
 
         if (recordContentType.getSubtype().contains(APPLICATION_JSON.getSubtype())) {
             try {
-                String messageAsString = OBJECT_MAPPER.writeValueAsString(message);
-                return JsonPathEvaluator.evaluate(messageAsString, selector);
+                if (jsonSelector == null) {
+                    jsonSelector = JsonPath.compile(selector);
+                }
+                return JsonPathEvaluator.evaluate(message, jsonSelector);
             } catch (Exception e) {
                 logger.info("Received a message, however cannot read process it as json, ignoring payload selection : " + e.getMessage());
                 return true;
             }
         } else if (recordContentType.getSubtype().contains(APPLICATION_XML.getSubtype())) {
             try {
-                Object result = XPathFunction.xpath(String.valueOf(message.get(OUTPUT_BODY_PAYLOAD_KEY)), selector);
-                return ofNullable(result).isPresent();
+                if (xmlSelector == null) {
+                    xmlSelector = XmlUtils.compileXPath(selector);
+                }
+                return xmlSelector.evaluateFirst(XmlUtils.toDocument(String.valueOf(message.get(OUTPUT_BODY_PAYLOAD_KEY)))) != null;
             } catch (Exception e) {
                 logger.info("Received a message, however cannot read process it as xml, ignoring payload selection : " + e.getMessage());
                 return true;
@@ -189,14 +283,16 @@ public class KafkaBasicConsumeAction implements Action {
         }
     }
 
-    private boolean applyHeaderSelector(Map<String, Object> message) {
+    private boolean applyHeaderSelector(Map<String, Object> headers) {
         if (isBlank(headerSelector)) {
             return true;
         }
 
         try {
-            String messageAsString = OBJECT_MAPPER.writeValueAsString(message.get(OUTPUT_BODY_HEADERS_KEY));
-            return JsonPathEvaluator.evaluate(messageAsString, headerSelector);
+            if (compiledHeaderSelector == null) {
+                compiledHeaderSelector = JsonPath.compile(headerSelector);
+            }
+            return JsonPathEvaluator.evaluate(headers, compiledHeaderSelector);
         } catch (Exception e) {
             logger.error("\"Received a message, however cannot process headers selection, Ignoring header selection");
             return true;
@@ -223,10 +319,8 @@ public class KafkaBasicConsumeAction implements Action {
         return record.value();
     }
 
-    private Map<String, Object> extractMessageFromRecord(ConsumerRecord<?, ?> record) {
+    private Map<String, Object> extractMessageFromRecord(ConsumerRecord<?, ?> record, Map<String, Object> headers) {
         final Map<String, Object> message = new HashMap<>();
-        final Map<String, Object> headers = extractHeaders(record);
-        checkContentTypeHeader(headers);
         Object payload = extractPayload(record);
         message.put(OUTPUT_BODY_HEADERS_KEY, headers);
         message.put(OUTPUT_BODY_PAYLOAD_KEY, payload);
@@ -254,6 +348,14 @@ public class KafkaBasicConsumeAction implements Action {
         return result;
     }
 
+    private void logFilteringCost() {
+        long records = filteredRecords.sum();
+        if (records > 0 && (!isBlank(selector) || !isBlank(headerSelector))) {
+            long nanos = filteringNanos.sum();
+            logger.info("Filtered " + records + " records in " + TimeUnit.NANOSECONDS.toMillis(nanos) + " ms (" + TimeUnit.NANOSECONDS.toMicros(nanos / records) + " us per record)");
+        }
+    }
+
     private Map<String, Object> toOutputs() {
         Map<String, Object> results = new HashMap<>();
         results.put(OUTPUT_BODY, consumedMessages);
@@ -31,7 +31,7 @@ import org.springframework.kafka.listener.CommonErrorHandler;
 import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.ContainerProperties.AckMode;
-import org.springframework.kafka.listener.MessageListener;
+import org.springframework.kafka.listener.GenericMessageListener;
 import org.springframework.kafka.listener.MessageListenerContainer;
 
 public class KafkaConsumerFactory {
@@ -44,7 +44,7 @@ public class KafkaConsumerFactory {
         String group,
         Boolean resetOffset,
         String ackMode,
-        MessageListener messageListener,
+        GenericMessageListener<?> messageListener,
         CommonErrorHandler commonErrorHandler,
         Map<String, String> config
     ) {
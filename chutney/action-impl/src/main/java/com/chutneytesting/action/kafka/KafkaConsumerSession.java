@@ -0,0 +1,93 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.kafka;
+
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.AcknowledgingMessageListener;
+import org.springframework.kafka.listener.ContainerProperties.AckMode;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+
+/**
+ * Listener container kept running across consume steps on the same target, topic and group.<br>
+ * Received records are buffered until a consume step polls them, and only acknowledged then,
+ * so the container must use {@link AckMode#MANUAL_IMMEDIATE} and records never read by a step are not committed.<br>
+ * Buffering never blocks the listener: the container is paused when the buffer is full, and resumed once steps have read half of it.
+ */
+public class KafkaConsumerSession {
+
+    static final AckMode ACK_MODE = AckMode.MANUAL_IMMEDIATE;
+    private static final int BUFFER_CAPACITY = 10_000;
+
+    private final String targetName;
+    private final String topic;
+    private final String group;
+    private final BlockingQueue<BufferedRecord> records = new LinkedBlockingQueue<>();
+    private final MessageListenerContainer container;
+
+    KafkaConsumerSession(String targetName, String topic, String group, Function<AcknowledgingMessageListener<String, String>, MessageListenerContainer> containerFactory) {
+        this.targetName = targetName;
+        this.topic = topic;
+        this.group = group;
+        this.container = containerFactory.apply(this::buffer);
+    }
+
+    void start() {
+        container.start();
+    }
+
+    boolean consumes(String targetName, String topic, String group) {
+        return Objects.equals(this.targetName, targetName) && Objects.equals(this.topic, topic) && Objects.equals(this.group, group);
+    }
+
+    /**
+     * @return next buffered record, acknowledged, null if none is received before timeout
+     */
+    ConsumerRecord<String, String> poll(long timeoutInMs) throws InterruptedException {
+        BufferedRecord buffered = records.poll(Math.max(timeoutInMs, 0), TimeUnit.MILLISECONDS);
+        if (buffered == null) {
+            return null;
+        }
+        buffered.acknowledgment().acknowledge();
+        if (container.isPauseRequested() && records.size() <= BUFFER_CAPACITY / 2) {
+            container.resume();
+        }
+        return buffered.record();
+    }
+
+    void close() {
+        records.clear();
+        container.stop();
+    }
+
+    private void buffer(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+        records.add(new BufferedRecord(record, acknowledgment));
+        // Records of the current poll are still delivered after pausing, hence the unbounded queue
+        if (records.size() >= BUFFER_CAPACITY && container != null && !container.isPauseRequested()) {
+            container.pause();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "KafkaConsumerSession{" +
+            "target='" + targetName + '\'' +
+            ", topic='" + topic + '\'' +
+            ", group='" + group + '\'' +
+            ", buffered=" + records.size() +
+            '}';
+    }
+
+    private record BufferedRecord(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.kafka;
+
+import static com.chutneytesting.action.spi.validation.Validator.getErrorsFrom;
+import static com.chutneytesting.action.spi.validation.Validator.of;
+
+import com.chutneytesting.action.spi.Action;
+import com.chutneytesting.action.spi.ActionExecutionResult;
+import com.chutneytesting.action.spi.injectable.Input;
+import com.chutneytesting.action.spi.injectable.Logger;
+import com.chutneytesting.action.spi.validation.Validator;
+import java.util.List;
+import java.util.Objects;
+
+public class KafkaConsumerSessionStopAction implements Action {
+
+    private final Logger logger;
+    private final KafkaConsumerSession session;
+
+    public KafkaConsumerSessionStopAction(Logger logger, @Input("session") KafkaConsumerSession session) {
+        this.logger = logger;
+        this.session = session;
+    }
+
+    @Override
+    public List<String> validateInputs() {
+        Validator<KafkaConsumerSession> sessionValidation = of(session)
+            .validate(Objects::nonNull, "No consumer session provided");
+        return getErrorsFrom(sessionValidation);
+    }
+
+    @Override
+    public ActionExecutionResult execute() {
+        logger.info("Close " + session);
+        session.close();
+        return ActionExecutionResult.ok();
+    }
+}
@@ -20,6 +20,8 @@ import com.chutneytesting.action.spi.injectable.Input;
 import com.chutneytesting.action.spi.injectable.Logger;
 import com.chutneytesting.action.spi.injectable.Target;
 import com.chutneytesting.action.spi.validation.Validator;
+import com.chutneytesting.action.sql.core.BatchExecutionException;
+import com.chutneytesting.action.sql.core.ColumnarRecords;
 import com.chutneytesting.action.sql.core.DefaultSqlClientFactory;
 import com.chutneytesting.action.sql.core.Records;
 import com.chutneytesting.action.sql.core.SqlClient;
@@ -35,70 +37,136 @@ public class SqlAction implements Action {
 
     public static final String CONFIGURABLE_NB_LOGGED_ROW = "chutney.actions.sql.max-logged-rows";
     private static final Integer DEFAULT_NB_LOGGED_ROW = 30;
+    private static final Integer DEFAULT_BATCH_SIZE = 1000;
 
     private final Target target;
     private final Logger logger;
     private final List<String> statements;
     private final Integer nbLoggedRow;
+    private final boolean columnar;
+    private final Integer batchSize;
+    private final List<List<Object>> parameters;
+    private final boolean transaction;
 
     private final DefaultSqlClientFactory clientFactory = new DefaultSqlClientFactory();
 
-    public SqlAction(Target target, Logger logger, ActionsConfiguration configuration, @Input("statements") List<String> statements, @Input("nbLoggedRow") Integer nbLoggedRow) {
+    public SqlAction(Target target, Logger logger, ActionsConfiguration configuration, @Input("statements") List<String> statements, @Input("nbLoggedRow") Integer nbLoggedRow, @Input("columnar") Boolean columnar, @Input("batchSize") Integer batchSize, @Input("parameters") List<List<Object>> parameters, @Input("transaction") Boolean transaction) {
         this.target = target;
         this.logger = logger;
         this.statements = statements;
         this.nbLoggedRow = ofNullable(nbLoggedRow)
             .orElse(configuration.getInteger(CONFIGURABLE_NB_LOGGED_ROW, DEFAULT_NB_LOGGED_ROW));
+        this.columnar = ofNullable(columnar).orElse(false);
+        this.batchSize = batchSize != null || parameters != null ? ofNullable(batchSize).orElse(DEFAULT_BATCH_SIZE) : null;
+        this.parameters = parameters;
+        this.transaction = ofNullable(transaction).orElse(false);
     }
 
     @Override
     public List<String> validateInputs() {
         Validator<Target> targetPropertiesValidation = of(target)
             .validate(t -> target.property("jdbcUrl").orElse(""), StringUtils::isNotBlank, "Missing Target property 'jdbcUrl'");
+        Validator<Integer> batchValidation = of(batchSize)
+            .validate(size -> size == null || size > 0, "Batch size must be positive")
+            .validate(size -> parameters == null || statements == null || statements.size() == 1, "Parameters can only be bound to one statement")
+            .validate(size -> size == null || !columnar, "Columnar results are not available in batch mode");
         return getErrorsFrom(
             targetPropertiesValidation,
             targetValidation(target),
-            notEmptyListValidation(statements, "statements")
+            notEmptyListValidation(statements, "statements"),
+            batchValidation
         );
     }
 
     @Override
     public ActionExecutionResult execute() {
         SqlClient sqlClient = clientFactory.create(target);
+        if (batchSize != null) {
+            return executeBatch(sqlClient);
+        }
+        if (columnar) {
+            return executeColumnar(sqlClient);
+        }
+        var records = new ArrayList<Records>();
+        Map<String, Object> outputs = new HashMap<>();
+        AtomicBoolean failure = new AtomicBoolean(false);
+        statements.forEach(statement -> {
+            try {
+                Records result = sqlClient.execute(statement);
+                records.add(result);
+                logger.info(result.printable(nbLoggedRow));
+            } catch (SQLException e) {
+                logger.error(e.getMessage() + " for " + statement + "; Vendor error code: " + e.getErrorCode());
+                records.add(sqlClient.emptyRecords());
+                failure.set(true);
+            } catch (Exception e) {
+                logger.error(e.getMessage());
+                records.add(sqlClient.emptyRecords());
+                failure.set(true);
+            }
+        });
+
+        if (statements.size() == 1) {
+            outputs.put("affectedRows", records.getFirst().affectedRows);
+            outputs.put("rows", records.getFirst().rows()); // All rows result from the first statement only
+            outputs.put("firstRow", records.getFirst().rows().get(0)); // First row of the first statement
+            outputs.put("recordResult", records); // List of all results from each statement // TODO - remove after user migration
+        } else {
+            outputs.put("recordResult", records); // List of all results from each statement
+        }
+
+        return failure.get() ? ActionExecutionResult.ko(outputs) : ActionExecutionResult.ok(outputs);
+    }
+
+    private ActionExecutionResult executeBatch(SqlClient sqlClient) {
         try {
-            var records = new ArrayList<Records>();
+            Records result = sqlClient.executeBatch(statements, parameters, batchSize, transaction);
+            logger.info("Affected rows by batch: " + result.batchesAffectedRows);
             Map<String, Object> outputs = new HashMap<>();
-            AtomicBoolean failure = new AtomicBoolean(false);
-            statements.forEach(statement -> {
-                try {
-                    Records result = sqlClient.execute(statement);
-                    records.add(result);
-                    logger.info(result.printable(nbLoggedRow));
-                } catch (SQLException e) {
-                    logger.error(e.getMessage() + " for " + statement + "; Vendor error code: " + e.getErrorCode());
-                    records.add(sqlClient.emptyRecords());
-                    failure.set(true);
-                } catch (Exception e) {
-                    logger.error(e.getMessage());
-                    records.add(sqlClient.emptyRecords());
-                    failure.set(true);
-                }
-            });
-
-            if (statements.size() == 1) {
-                outputs.put("affectedRows", records.getFirst().affectedRows);
-                outputs.put("rows", records.getFirst().rows()); // All rows result from the first statement only
-                outputs.put("firstRow", records.getFirst().rows().get(0)); // First row of the first statement
-                outputs.put("recordResult", records); // List of all results from each statement // TODO - remove after user migration
-            } else {
-                outputs.put("recordResult", records); // List of all results from each statement
-            }
+            outputs.put("affectedRows", result.affectedRows);
+            outputs.put("batchesAffectedRows", result.batchesAffectedRows);
+            outputs.put("recordResult", List.of(result));
+            return ActionExecutionResult.ok(outputs);
+        } catch (BatchExecutionException e) {
+            logger.error(e.getMessage() + "; Vendor error code: " + e.getErrorCode() + (transaction ? "; Transaction rolled back" : ""));
+            logger.info("Affected rows by batch before failure: " + e.batchesAffectedRows);
+            return ActionExecutionResult.ko(Map.of("batchesAffectedRows", e.batchesAffectedRows));
+        } catch (SQLException e) {
+            logger.error(e.getMessage() + "; Vendor error code: " + e.getErrorCode() + (transaction ? "; Transaction rolled back" : ""));
+        } catch (Exception e) {
+            logger.error(e.getMessage());
+        }
+        return ActionExecutionResult.ko();
+    }
 
-            return failure.get() ? ActionExecutionResult.ko(outputs) : ActionExecutionResult.ok(outputs);
-        } finally {
-            if (sqlClient != null) {
-                sqlClient.closeDatasource();
+    private ActionExecutionResult executeColumnar(SqlClient sqlClient) {
+        var records = new ArrayList<ColumnarRecords>();
+        Map<String, Object> outputs = new HashMap<>();
+        boolean failure = false;
+        for (String statement : statements) {
+            try {
+                ColumnarRecords result = sqlClient.executeColumnar(statement);
+                records.add(result);
+                logger.info(result.printable(nbLoggedRow));
+            } catch (SQLException e) {
+                logger.error(e.getMessage() + " for " + statement + "; Vendor error code: " + e.getErrorCode());
+                records.add(ColumnarRecords.empty());
+                failure = true;
+            } catch (Exception e) {
+                logger.error(e.getMessage());
+                records.add(ColumnarRecords.empty());
+                failure = true;
             }
         }
+
+        if (statements.size() == 1) {
+            outputs.put("affectedRows", records.getFirst().affectedRows);
+            outputs.put("rows", records.getFirst());
+            outputs.put("firstRow", records.getFirst().get(0));
+        } else {
+            outputs.put("recordResult", records);
+        }
+
+        return failure ? ActionExecutionResult.ko(outputs) : ActionExecutionResult.ok(outputs);
     }
 }
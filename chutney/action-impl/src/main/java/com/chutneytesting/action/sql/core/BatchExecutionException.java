@@ -0,0 +1,32 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.sql.core;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Failure of a batch execution, holding the affected rows of the batches executed before it.
+ */
+public class BatchExecutionException extends SQLException {
+
+    public final List<Integer> batchesAffectedRows;
+
+    public BatchExecutionException(Exception cause, List<Integer> batchesAffectedRows) {
+        super(cause.getMessage(), sqlState(cause), errorCode(cause), cause);
+        this.batchesAffectedRows = List.copyOf(batchesAffectedRows);
+    }
+
+    private static String sqlState(Exception cause) {
+        return cause instanceof SQLException sqlException ? sqlException.getSQLState() : null;
+    }
+
+    private static int errorCode(Exception cause) {
+        return cause instanceof SQLException sqlException ? sqlException.getErrorCode() : 0;
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.sql.core;
+
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Statement result stored by column, integer and floating point columns being kept in primitive arrays.<br>
+ * Rows and columns are views built on access, aggregates are computed on the stored columns.<br>
+ * As with {@link Records}, SQL NULL values are read as the "null" string, but they are ignored by aggregates.
+ */
+public class ColumnarRecords {
+
+    public final int affectedRows;
+    @JsonProperty
+    public final List<Column> columns;
+    private final List<ColumnVector> vectors;
+    private final int count;
+
+    ColumnarRecords(int affectedRows, List<Column> columns, List<ColumnVector> vectors, int count) {
+        this.affectedRows = affectedRows;
+        this.columns = columns;
+        this.vectors = vectors;
+        this.count = count;
+    }
+
+    public static ColumnarRecords empty() {
+        return new ColumnarRecords(0, emptyList(), emptyList(), 0);
+    }
+
+    @JsonProperty
+    public int count() {
+        return count;
+    }
+
+    /**
+     * @return the row found at given index or an empty row if there is no result
+     */
+    public Row get(int index) {
+        if (count == 0) {
+            return new Row(emptyList());
+        }
+        Objects.checkIndex(index, count);
+        List<Cell> cells = new ArrayList<>(columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            cells.add(new Cell(columns.get(i), vectors.get(i).value(index)));
+        }
+        return new Row(cells);
+    }
+
+    /**
+     * @return values of given column, empty if there is no such column
+     */
+    public List<Object> get(String header) {
+        return column(header)
+            .map(vector -> (List<Object>) new AbstractList<>() {
+                @Override
+                public Object get(int index) {
+                    Objects.checkIndex(index, count);
+                    return vector.value(index);
+                }
+
+                @Override
+                public int size() {
+                    return count;
+                }
+            })
+            .orElse(emptyList());
+    }
+
+    public List<List<Object>> valuesOf(String... header) {
+        List<List<Object>> columnsValues = Arrays.stream(header).map(this::get).toList();
+        return IntStream.range(0, count)
+            .mapToObj(row -> columnsValues.stream().map(values -> values.isEmpty() ? Cell.NONE.value : values.get(row)).toList())
+            .collect(toList());
+    }
+
+    public List<Map<String, Object>> asMap() {
+        return IntStream.range(0, count).mapToObj(this::get).map(Row::asMap).collect(toList());
+    }
+
+    /**
+     * @return sum of given numeric column, ignoring null values
+     */
+    public Number sum(String header) {
+        return requiredColumn(header).sum(count);
+    }
+
+    /**
+     * @return average of given numeric column ignoring null values, NaN if there is no value
+     */
+    public double average(String header) {
+        ColumnVector vector = requiredColumn(header);
+        long values = count - vector.nulls.cardinality();
+        return values == 0 ? Double.NaN : vector.sum(count).doubleValue() / values;
+    }
+
+    /**
+     * @return minimum of given column ignoring null values, null if there is no value
+     */
+    public Object min(String header) {
+        return extremum(header, -1);
+    }
+
+    /**
+     * @return maximum of given column ignoring null values, null if there is no value
+     */
+    public Object max(String header) {
+        return extremum(header, 1);
+    }
+
+    public Set<Object> distinct(String header) {
+        ColumnVector vector = requiredColumn(header);
+        Set<Object> distinct = new LinkedHashSet<>();
+        for (int row = 0; row < count; row++) {
+            distinct.add(vector.value(row));
+        }
+        return distinct;
+    }
+
+    /**
+     * @return number of rows of given column equal to given value
+     */
+    public int count(String header, Object value) {
+        ColumnVector vector = requiredColumn(header);
+        int matching = 0;
+        for (int row = 0; row < count; row++) {
+            if (Objects.equals(vector.value(row), value)) {
+                matching++;
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * @param limit maximum number of rows of returned records
+     * @return first rows as {@link Records}
+     */
+    public Records toRecords(int limit) {
+        return new Records(affectedRows, columns, IntStream.range(0, Math.min(limit, count)).mapToObj(this::get).collect(toList()));
+    }
+
+    public String printable(int limit) {
+        return toRecords(limit).printable(limit);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object extremum(String header, int sign) {
+        ColumnVector vector = requiredColumn(header);
+        Comparable extremum = null;
+        for (int row = 0; row < count; row++) {
+            if (!vector.nulls.get(row)) {
+                Comparable value = (Comparable) vector.value(row);
+                if (extremum == null || Integer.signum(value.compareTo(extremum)) == sign) {
+                    extremum = value;
+                }
+            }
+        }
+        return extremum;
+    }
+
+    private Optional<ColumnVector> column(String header) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).hasName(header)) {
+                return Optional.of(vectors.get(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private ColumnVector requiredColumn(String header) {
+        return column(header).orElseThrow(() -> new IllegalArgumentException("Unknown column " + header));
+    }
+
+    private static BigDecimal toBigDecimal(Number number) {
+        return number instanceof BigDecimal bigDecimal ? bigDecimal : new BigDecimal(number.toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnarRecords{" +
+            "affectedRows=" + affectedRows +
+            ", columns=" + columns +
+            ", count=" + count +
+            '}';
+    }
+
+    abstract static class ColumnVector {
+        private static final String NULL = "null";
+        private static final int INITIAL_CAPACITY = 64;
+
+        final BitSet nulls = new BitSet();
+
+        static ColumnVector of(int sqlType) {
+            return switch (sqlType) {
+                case Types.INTEGER -> new LongVector(false);
+                case Types.BIGINT -> new LongVector(true);
+                case Types.DOUBLE, Types.FLOAT -> new DoubleVector(true);
+                case Types.REAL -> new DoubleVector(false);
+                default -> new ObjectVector();
+            };
+        }
+
+        abstract void add(ResultSet rs, int columnIndex, int row) throws SQLException;
+
+        abstract Object get(int row);
+
+        abstract Number sum(int count);
+
+        Object value(int row) {
+            return nulls.get(row) ? NULL : get(row);
+        }
+
+        static int grownCapacity(int capacity) {
+            return Math.max(INITIAL_CAPACITY, capacity * 2);
+        }
+    }
+
+    private static class LongVector extends ColumnVector {
+        private final boolean bigint;
+        private long[] values = new long[0];
+
+        private LongVector(boolean bigint) {
+            this.bigint = bigint;
+        }
+
+        @Override
+        void add(ResultSet rs, int columnIndex, int row) throws SQLException {
+            if (row == values.length) {
+                values = Arrays.copyOf(values, grownCapacity(values.length));
+            }
+            values[row] = rs.getLong(columnIndex);
+            if (rs.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        Object get(int row) {
+            return bigint ? Long.valueOf(values[row]) : Integer.valueOf((int) values[row]);
+        }
+
+        @Override
+        Number sum(int count) {
+            long sum = 0;
+            for (int row = 0; row < count; row++) {
+                sum += values[row];
+            }
+            return sum;
+        }
+    }
+
+    private static class DoubleVector extends ColumnVector {
+        private final boolean doublePrecision;
+        private double[] values = new double[0];
+
+        private DoubleVector(boolean doublePrecision) {
+            this.doublePrecision = doublePrecision;
+        }
+
+        @Override
+        void add(ResultSet rs, int columnIndex, int row) throws SQLException {
+            if (row == values.length) {
+                values = Arrays.copyOf(values, grownCapacity(values.length));
+            }
+            values[row] = rs.getDouble(columnIndex);
+            if (rs.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        Object get(int row) {
+            return doublePrecision ? Double.valueOf(values[row]) : Float.valueOf((float) values[row]);
+        }
+
+        @Override
+        Number sum(int count) {
+            double sum = 0;
+            for (int row = 0; row < count; row++) {
+                sum += values[row];
+            }
+            return sum;
+        }
+    }
+
+    private static class ObjectVector extends ColumnVector {
+        private Object[] values = new Object[0];
+
+        @Override
+        void add(ResultSet rs, int columnIndex, int row) throws SQLException {
+            if (row == values.length) {
+                values = Arrays.copyOf(values, grownCapacity(values.length));
+            }
+            values[row] = SqlClient.StatementConverter.boxed(rs, columnIndex);
+            if (rs.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        Number sum(int count) {
+            BigDecimal sum = BigDecimal.ZERO;
+            for (int row = 0; row < count; row++) {
+                if (!nulls.get(row)) {
+                    if (!(values[row] instanceof Number number)) {
+                        throw new IllegalArgumentException("Cannot sum non numeric value " + values[row]);
+                    }
+                    sum = sum.add(toBigDecimal(number));
+                }
+            }
+            return sum;
+        }
+    }
+}
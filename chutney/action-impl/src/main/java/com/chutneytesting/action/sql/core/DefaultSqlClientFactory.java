@@ -8,29 +8,182 @@
 package com.chutneytesting.action.sql.core;
 
 import com.chutneytesting.action.spi.injectable.Target;
+import com.chutneytesting.action.spi.metrics.ConnectionPools;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Keeps one {@link HikariDataSource} by target connection properties (url, credentials and datasource properties),
+ * so that connections are reused across SQL actions executions.<br>
+ * Hikari resets auto-commit, isolation, read-only, catalog, schema and network timeout of connections going back to their pool.
+ * Other session state can be reset with the statement of the target property {@value #SESSION_RESET_STATEMENT};
+ * when it fails, the connection is closed instead of going back to its pool.<br>
+ * Data sources without connection in use for 10 minutes are closed, remaining ones are closed on {@link ConnectionPools#shutdown()}.
+ */
 public class DefaultSqlClientFactory implements SqlClientFactory {
 
-    private final int DEFAULT_MAX_FETCH_SIZE = 1000;
+    static final String SESSION_RESET_STATEMENT = "sessionResetStatement";
+
+    private static final int DEFAULT_MAX_FETCH_SIZE = 1000;
+    private static final long UNUSED_DATASOURCE_TIMEOUT = TimeUnit.MINUTES.toMillis(10);
+    private static final long UNUSED_DATASOURCES_SWEEP_PERIOD = TimeUnit.MINUTES.toMillis(1);
+
+    private static final Map<Properties, PooledDataSource> DATA_SOURCES = new ConcurrentHashMap<>();
+
+    static {
+        ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sql-datasources-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(DefaultSqlClientFactory::closeUnusedDataSources, UNUSED_DATASOURCES_SWEEP_PERIOD, UNUSED_DATASOURCES_SWEEP_PERIOD, TimeUnit.MILLISECONDS);
+    }
 
     @Override
     public SqlClient create(Target target) {
         return this.doCreate(target);
     }
 
+    static int pooledDataSourcesCount() {
+        return DATA_SOURCES.size();
+    }
+
     private SqlClient doCreate(Target target) {
         Properties props = new Properties();
-        props.put("jdbcUrl", target.property("jdbcUrl").orElse(target.uri().toString()));
+        String jdbcUrl = target.property("jdbcUrl").orElse(target.uri().toString());
+        props.put("jdbcUrl", jdbcUrl);
         target.user().ifPresent(user -> props.put("username", user));
         target.userPassword().ifPresent(password -> props.put("password", password));
+        // Do not open connections until needed, connections idle for idleTimeout are closed
+        props.put("minimumIdle", "0");
 
         props.putAll(target.prefixedProperties("dataSource."));
-        final HikariConfig config = new HikariConfig(props);
-        final HikariDataSource ds = new HikariDataSource(config);
+        Optional<String> sessionResetStatement = target.property(SESSION_RESET_STATEMENT);
+
+        return new SqlClient(() -> leaseConnection(props, sessionResetStatement), target.numericProperty("maxFetchSize").map(Number::intValue).orElse(DEFAULT_MAX_FETCH_SIZE));
+    }
+
+    /**
+     * Leases are taken under the map lock, so that a data source cannot be closed between its lookup and its use.
+     */
+    private static Connection leaseConnection(Properties props, Optional<String> sessionResetStatement) throws SQLException {
+        PooledDataSource pooled = DATA_SOURCES.compute(props, (p, ds) -> (ds == null ? new PooledDataSource(p) : ds).lease());
+        try {
+            return pooled.connection(sessionResetStatement);
+        } catch (SQLException | RuntimeException e) {
+            pooled.release();
+            throw e;
+        }
+    }
+
+    static void closeUnusedDataSources() {
+        long unusedSince = System.currentTimeMillis() - UNUSED_DATASOURCE_TIMEOUT;
+        DATA_SOURCES.keySet().forEach(props ->
+            DATA_SOURCES.computeIfPresent(props, (p, pooled) -> {
+                if (pooled.leases.get() == 0 && pooled.lastAccess < unusedSince) {
+                    pooled.close();
+                    return null;
+                }
+                return pooled;
+            })
+        );
+    }
+
+    private static class PooledDataSource {
+        private final HikariDataSource dataSource;
+        private final ConnectionPools.Registration metricsRegistration;
+        private final AtomicInteger leases = new AtomicInteger();
+        private volatile long lastAccess;
+
+        private PooledDataSource(Properties props) {
+            this.dataSource = new HikariDataSource(new HikariConfig(props));
+            this.metricsRegistration = ConnectionPools.register(poolName(props), () -> {
+                HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+                return new ConnectionPools.PoolStats(pool.getActiveConnections(), pool.getIdleConnections(), pool.getThreadsAwaitingConnection());
+            }, () -> {
+                DATA_SOURCES.remove(props, this);
+                dataSource.close();
+            });
+        }
+
+        private static String poolName(Properties props) {
+            // Url parameters may hold credentials
+            return props.getProperty("jdbcUrl").split("[?;]", 2)[0];
+        }
+
+        private PooledDataSource lease() {
+            leases.incrementAndGet();
+            lastAccess = System.currentTimeMillis();
+            return this;
+        }
+
+        private void release() {
+            lastAccess = System.currentTimeMillis();
+            leases.decrementAndGet();
+        }
+
+        /**
+         * @return a connection which session is reset, and lease released, when closed
+         */
+        private Connection connection(Optional<String> sessionResetStatement) throws SQLException {
+            Connection connection = dataSource.getConnection();
+            AtomicBoolean closed = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                    if (closed.compareAndSet(false, true)) {
+                        giveBack(connection, sessionResetStatement);
+                    }
+                    return null;
+                }
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+
+        private void giveBack(Connection connection, Optional<String> sessionResetStatement) throws SQLException {
+            try {
+                if (sessionResetStatement.isPresent() && !resetSession(connection, sessionResetStatement.get())) {
+                    dataSource.evictConnection(connection);
+                }
+            } finally {
+                try {
+                    connection.close();
+                } finally {
+                    release();
+                }
+            }
+        }
+
+        private static boolean resetSession(Connection connection, String sessionResetStatement) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(sessionResetStatement);
+                return true;
+            } catch (SQLException e) {
+                return false;
+            }
+        }
 
-        return new SqlClient(ds, target.numericProperty("maxFetchSize").map(Number::intValue).orElse(DEFAULT_MAX_FETCH_SIZE));
+        private void close() {
+            metricsRegistration.close();
+            dataSource.close();
+        }
     }
 }
@@ -7,6 +7,7 @@
 
 package com.chutneytesting.action.sql.core;
 
+import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
@@ -23,9 +24,18 @@ public class Records {
 
     public final List<Column> columns;
     public final List<Row> records; // TODO - rename to 'rows' after removing currently deprecated 'rows'
+    public final List<Integer> batchesAffectedRows;
 
     public Records(int affectedRows, List<Column> columns, List<Row> records) {
+        this(affectedRows, columns, records, emptyList());
+    }
+
+    /**
+     * @param batchesAffectedRows affected rows of each executed batch, when statements are executed in batch
+     */
+    public Records(int affectedRows, List<Column> columns, List<Row> records, List<Integer> batchesAffectedRows) {
         this.affectedRows = affectedRows;
+        this.batchesAffectedRows = batchesAffectedRows;
         this.columns = columns;
         this.records = records;
 
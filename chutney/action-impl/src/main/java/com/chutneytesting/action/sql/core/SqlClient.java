@@ -21,6 +21,7 @@ import java.math.BigDecimal;
 import java.sql.Blob;
 import java.sql.Connection;
 import java.sql.Date;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -30,6 +31,7 @@ import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.Period;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import org.slf4j.Logger;
@@ -37,26 +39,89 @@ import org.slf4j.LoggerFactory;
 
 public class SqlClient {
 
-    private final HikariDataSource dataSource;
+    private final ConnectionSupplier dataSource;
     private final int maxFetchSize;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SqlClient.class);
 
 
     public SqlClient(HikariDataSource dataSource, int maxFetchSize) {
+        this(dataSource::getConnection, maxFetchSize);
+    }
+
+    SqlClient(ConnectionSupplier dataSource, int maxFetchSize) {
         this.dataSource = dataSource;
         this.maxFetchSize = maxFetchSize;
     }
 
     public Records execute(String query) throws SQLException {
-        final Records records;
+        return execute(query, StatementConverter::createRecords);
+    }
+
+    /**
+     * Execute given query and read its results by column, see {@link ColumnarRecords}.
+     */
+    public ColumnarRecords executeColumnar(String query) throws SQLException {
+        return execute(query, StatementConverter::createColumnarRecords);
+    }
+
+    /**
+     * Execute statements in batches on one connection.
+     *
+     * @param statements  statements to execute, or the statement to prepare when parameters are given
+     * @param parameters  rows of parameters bound to the prepared statement, null to execute given statements as is
+     * @param batchSize   maximum number of statements or parameters rows sent at once
+     * @param transaction when true, all batches are committed at the end or rolled back on error
+     * @return records holding affected rows of each batch
+     * @throws BatchExecutionException holding affected rows of the batches executed before the failure
+     */
+    public Records executeBatch(List<String> statements, List<List<Object>> parameters, int batchSize, boolean transaction) throws SQLException {
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            final boolean autoCommit = connection.getAutoCommit();
+            if (transaction) {
+                connection.setAutoCommit(false);
+            }
+            final List<Integer> batchesAffectedRows = new ArrayList<>();
+            try {
+                if (parameters == null) {
+                    BatchExecutor.executeStatements(connection, statements, batchSize, batchesAffectedRows);
+                } else {
+                    BatchExecutor.executePrepared(connection, statements.getFirst(), parameters, batchSize, batchesAffectedRows);
+                }
+                if (transaction) {
+                    connection.commit();
+                }
+                return new Records(batchesAffectedRows.stream().mapToInt(Integer::intValue).sum(), Collections.emptyList(), Collections.emptyList(), batchesAffectedRows);
+            } catch (SQLException | RuntimeException e) {
+                if (transaction) {
+                    try {
+                        connection.rollback();
+                    } catch (SQLException rollbackException) {
+                        e.addSuppressed(rollbackException);
+                    }
+                }
+                throw new BatchExecutionException(e, batchesAffectedRows);
+            } finally {
+                if (transaction) {
+                    connection.setAutoCommit(autoCommit);
+                }
+            }
+        } finally {
+            silentClose(connection);
+        }
+    }
+
+    private <T> T execute(String query, StatementReader<T> reader) throws SQLException {
+        final T records;
         Connection connection = null;
         try {
             connection = dataSource.getConnection();
             try (final Statement statement = connection.createStatement()) {
                 statement.setFetchSize(maxFetchSize);
                 statement.execute(query);
-                records = StatementConverter.createRecords(statement);
+                records = reader.read(statement);
             }
         } finally {
             silentClose(connection);
@@ -65,10 +130,6 @@ public class SqlClient {
         return records;
     }
 
-    public void closeDatasource() {
-        this.dataSource.close();
-    }
-
     public Records emptyRecords() {
         return new Records(0, Collections.emptyList(), Collections.emptyList());
     }
@@ -83,7 +144,57 @@ public class SqlClient {
         }
     }
 
-    private static class StatementConverter {
+    @FunctionalInterface
+    interface ConnectionSupplier {
+        Connection getConnection() throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface StatementReader<T> {
+        T read(Statement statement) throws SQLException;
+    }
+
+    private static class BatchExecutor {
+
+        private static void executeStatements(Connection connection, List<String> statements, int batchSize, List<Integer> batchesAffectedRows) throws SQLException {
+            try (final Statement statement = connection.createStatement()) {
+                for (int i = 0; i < statements.size(); i++) {
+                    statement.addBatch(statements.get(i));
+                    if (isBatchEnd(i, statements.size(), batchSize)) {
+                        batchesAffectedRows.add(affectedRows(statement.executeBatch()));
+                    }
+                }
+            }
+        }
+
+        private static void executePrepared(Connection connection, String sql, List<List<Object>> parameters, int batchSize, List<Integer> batchesAffectedRows) throws SQLException {
+            try (final PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (int i = 0; i < parameters.size(); i++) {
+                    final List<Object> row = parameters.get(i);
+                    for (int j = 0; j < row.size(); j++) {
+                        statement.setObject(j + 1, row.get(j));
+                    }
+                    statement.addBatch();
+                    if (isBatchEnd(i, parameters.size(), batchSize)) {
+                        batchesAffectedRows.add(affectedRows(statement.executeBatch()));
+                    }
+                }
+            }
+        }
+
+        private static boolean isBatchEnd(int index, int size, int batchSize) {
+            return (index + 1) % batchSize == 0 || index == size - 1;
+        }
+
+        private static int affectedRows(int[] updateCounts) {
+            // Drivers may not know the count of each statement (Statement.SUCCESS_NO_INFO)
+            return Arrays.stream(updateCounts).filter(count -> count >= 0).sum();
+        }
+    }
+
+    static class StatementConverter {
+
+        private static final int COLUMNAR_MEMORY_CHECK_ROWS = 1024;
 
         private static Records createRecords(Statement statement) throws SQLException {
             final int affectedRows = statement.getUpdateCount();
@@ -102,6 +213,35 @@ public class SqlClient {
             return new Records(affectedRows, columns, rows);
         }
 
+        private static ColumnarRecords createColumnarRecords(Statement statement) throws SQLException {
+            final int affectedRows = statement.getUpdateCount();
+            if (!isSelectQuery(affectedRows)) {
+                return new ColumnarRecords(affectedRows, Collections.emptyList(), Collections.emptyList(), 0);
+            }
+
+            try (final ResultSet rs = statement.getResultSet()) {
+                final ResultSetMetaData md = rs.getMetaData();
+                final int columnCount = md.getColumnCount();
+                final List<Column> columns = createHeaders(md, columnCount);
+                final List<ColumnarRecords.ColumnVector> vectors = new ArrayList<>(columnCount);
+                for (int i = 1; i <= columnCount; i++) {
+                    vectors.add(ColumnarRecords.ColumnVector.of(md.getColumnType(i)));
+                }
+
+                int row = 0;
+                while (rs.next()) {
+                    if (row % COLUMNAR_MEMORY_CHECK_ROWS == 0 && !hasEnoughAvailableMemory()) {
+                        throw new NotEnoughMemoryException(usedMemory(), maxMemory(), "Query fetched " + row + " rows");
+                    }
+                    for (int i = 1; i <= columnCount; i++) {
+                        vectors.get(i - 1).add(rs, i, row);
+                    }
+                    row++;
+                }
+                return new ColumnarRecords(affectedRows, columns, vectors, row);
+            }
+        }
+
         private static boolean isSelectQuery(int affectedRows) {
             return affectedRows == -1;
         }
@@ -137,7 +277,7 @@ public class SqlClient {
             return rows;
         }
 
-        private static Object boxed(ResultSet rs, int i) throws SQLException {
+        static Object boxed(ResultSet rs, int i) throws SQLException {
             Object o = rs.getObject(i);
             Class<?> type = o == null ? Object.class : o.getClass();
             if (isPrimitiveOrWrapper(type) || isJDBCNumericType(type) || isJDBCDateType(type)) {
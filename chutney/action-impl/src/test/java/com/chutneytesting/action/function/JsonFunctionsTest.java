@@ -10,6 +10,7 @@ package com.chutneytesting.action.function;
 import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -45,6 +46,45 @@ public class JsonFunctionsTest {
         assertThat(result).isInstanceOfSatisfying(List.class, list -> assertThat(list).contains("value1"));
     }
 
+    @Test
+    public void same_document_is_read_many_times_and_left_untouched_by_updates() {
+        String json = "{\"dev\":{\"name\":\"Bruce\", \"needsCoffee\":false}}";
+
+        assertThat(JsonFunctions.jsonPath(json, "$.dev.name")).isEqualTo("Bruce");
+        assertThat(JsonFunctions.jsonSet(json, "$.dev.name", "Batman")).isEqualTo("{\"dev\":{\"name\":\"Batman\",\"needsCoffee\":false}}");
+        assertThat(JsonFunctions.jsonSetMany(json, Map.of("$.dev.needsCoffee", true))).isEqualTo("{\"dev\":{\"name\":\"Bruce\",\"needsCoffee\":true}}");
+        assertThat(JsonFunctions.jsonPath(json, "$.dev.name")).isEqualTo("Bruce");
+        assertThat(JsonFunctions.jsonPath(json, "$.dev.needsCoffee")).isEqualTo(false);
+    }
+
+    @Test
+    public void extracted_objects_can_be_modified_without_altering_further_reads() {
+        String json = "{\"dev\":{\"name\":\"Bruce\", \"gadgets\":[\"batarang\"]}}";
+
+        Map<String, Object> dev = (Map<String, Object>) JsonFunctions.jsonPath(json, "$.dev");
+        dev.put("name", "Batman");
+        ((List<Object>) dev.get("gadgets")).add("batmobile");
+
+        assertThat(JsonFunctions.jsonPath(json, "$.dev.name")).isEqualTo("Bruce");
+        assertThat((List<Object>) JsonFunctions.jsonPath(json, "$.dev.gadgets")).containsExactly("batarang");
+    }
+
+    @Test
+    public void extracted_arrays_are_rendered_as_json() {
+        String json = "{\"items\":[\"a\",\"b\"]}";
+
+        assertThat(JsonFunctions.jsonPath(json, "$.items")).hasToString("[\"a\",\"b\"]");
+    }
+
+    @Test
+    public void map_document_is_read_as_is() {
+        Map<String, Object> document = new HashMap<>(Map.of("name", "Bruce"));
+
+        assertThat(JsonFunctions.jsonPath(document, "$.name")).isEqualTo("Bruce");
+        document.put("name", "Batman");
+        assertThat(JsonFunctions.jsonPath(document, "$.name")).isEqualTo("Batman");
+    }
+
     @Test
     public void should_update_a_value_at_given_path() {
 
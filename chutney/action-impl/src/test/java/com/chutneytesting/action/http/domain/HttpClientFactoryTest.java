@@ -0,0 +1,91 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.http.domain;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.chutneytesting.action.TestTarget;
+import com.chutneytesting.action.spi.injectable.Logger;
+import com.chutneytesting.action.spi.injectable.Target;
+import com.chutneytesting.action.spi.metrics.ConnectionPools;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+class HttpClientFactoryTest {
+
+    private final HttpClientFactory sut = new HttpClientFactory();
+    private final Logger logger = mock(Logger.class);
+
+    @Test
+    void should_share_pool_between_clients_of_same_target_authority_and_security() {
+        Target target = target("http://pooled.host:8080/some/path", "user");
+        Target sameAuthority = target("http://pooled.host:8080/other/path", "user");
+        int pooledClients = HttpClientFactory.pooledClientsCount();
+
+        sut.create(logger, target, String.class, 1000);
+        sut.create(logger, sameAuthority, String.class, 1000);
+
+        assertThat(HttpClientFactory.pooledClientsCount()).isEqualTo(pooledClients + 1);
+        assertThat(ConnectionPools.stats()).containsKey("http://pooled.host:8080");
+    }
+
+    @Test
+    void should_not_share_pool_between_clients_with_different_credentials_or_timeout() {
+        int pooledClients = HttpClientFactory.pooledClientsCount();
+
+        sut.create(logger, target("http://isolated.host:8080", "user"), String.class, 1000);
+        sut.create(logger, target("http://isolated.host:8080", "other user"), String.class, 1000);
+        sut.create(logger, target("http://isolated.host:8080", "user"), String.class, 2000);
+
+        assertThat(HttpClientFactory.pooledClientsCount()).isEqualTo(pooledClients + 3);
+    }
+
+    @Test
+    void should_not_share_cookies_between_clients_of_same_pool() {
+        WireMockServer server = new WireMockServer(wireMockConfig().dynamicPort());
+        server.start();
+        try {
+            server.stubFor(get(urlEqualTo("/login")).willReturn(aResponse().withStatus(200).withHeader("Set-Cookie", "SESSION=secret; Path=/")));
+            server.stubFor(get(urlEqualTo("/resource")).willReturn(aResponse().withStatus(200)));
+            Target target = target("http://localhost:" + server.port(), "user");
+
+            sut.create(logger, target, String.class, 1000).get("/login", new HttpHeaders());
+            sut.create(logger, target, String.class, 1000).get("/resource", new HttpHeaders());
+
+            server.verify(getRequestedFor(urlEqualTo("/resource")).withHeader("Cookie", absent()));
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    void should_keep_recently_used_clients_when_sweeping() {
+        sut.create(logger, target("http://recent.host:8080", "user"), String.class, 1000);
+        int pooledClients = HttpClientFactory.pooledClientsCount();
+
+        HttpClientFactory.closeUnusedClients();
+
+        assertThat(HttpClientFactory.pooledClientsCount()).isEqualTo(pooledClients);
+    }
+
+    private static Target target(String url, String user) {
+        return TestTarget.TestTargetBuilder.builder()
+            .withTargetId("pooled target")
+            .withUrl(url)
+            .withProperty("user", user)
+            .build();
+    }
+}
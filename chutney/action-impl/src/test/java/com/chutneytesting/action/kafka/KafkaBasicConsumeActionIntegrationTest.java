@@ -199,7 +199,7 @@ public class KafkaBasicConsumeActionIntegrationTest {
             // When
             var consumeAction = new KafkaBasicConsumeAction(
                 kafkaTarget, uniqueTopic, GROUP, emptyMap(), 1, null, null,
-                APPLICATION_OCTET_STREAM.getMimeType(), "3 s", null, false, logger
+                APPLICATION_OCTET_STREAM.getMimeType(), "3 s", null, false, null, null, null, logger
             );
             var actionExecutionResult = consumeAction.execute();
 
@@ -235,7 +235,7 @@ public class KafkaBasicConsumeActionIntegrationTest {
             // When
             var consumeAction = new KafkaBasicConsumeAction(
                 kafkaTarget, uniqueTopic, GROUP, emptyMap(), 1, null, "$..[?($.header=='" + headerValueToSelect + "')]",
-                APPLICATION_OCTET_STREAM.getMimeType(), "3 s", null, false, logger
+                APPLICATION_OCTET_STREAM.getMimeType(), "3 s", null, false, null, null, null, logger
             );
             var actionExecutionResult = consumeAction.execute();
 
@@ -270,7 +270,7 @@ public class KafkaBasicConsumeActionIntegrationTest {
             // When
             var consumeAction = new KafkaBasicConsumeAction(
                 kafkaTarget, uniqueTopic, GROUP, emptyMap(), 1, "Hello", null,
-                mimeType, "3 s", null, false, logger
+                mimeType, "3 s", null, false, null, null, null, logger
             );
             var actionExecutionResult = consumeAction.execute();
 
@@ -285,7 +285,7 @@ public class KafkaBasicConsumeActionIntegrationTest {
     }
 
     private KafkaBasicConsumeAction getKafkaBasicConsumeAction(Target target, Map<String, String> props, boolean resetOffset) {
-        return new KafkaBasicConsumeAction(target, uniqueTopic, GROUP, props, 1, null, null, TEXT_PLAIN_VALUE, "3 s", null, resetOffset, logger);
+        return new KafkaBasicConsumeAction(target, uniqueTopic, GROUP, props, 1, null, null, TEXT_PLAIN_VALUE, "3 s", null, resetOffset, null, null, null, logger);
     }
 
     @SuppressWarnings("unchecked")
@@ -14,6 +14,7 @@ import static com.chutneytesting.action.kafka.KafkaBasicConsumeAction.OUTPUT_BOD
 import static com.chutneytesting.action.kafka.KafkaBasicConsumeAction.OUTPUT_HEADERS;
 import static com.chutneytesting.action.kafka.KafkaBasicConsumeAction.OUTPUT_KEYS;
 import static com.chutneytesting.action.kafka.KafkaBasicConsumeAction.OUTPUT_PAYLOADS;
+import static com.chutneytesting.action.kafka.KafkaBasicConsumeAction.OUTPUT_SESSION;
 import static com.chutneytesting.action.spi.ActionExecutionResult.Status.Failure;
 import static com.chutneytesting.action.spi.ActionExecutionResult.Status.Success;
 import static java.util.Arrays.asList;
@@ -23,10 +24,14 @@ import static java.util.Objects.requireNonNull;
 import static java.util.Optional.empty;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.util.MimeTypeUtils.APPLICATION_JSON_VALUE;
 import static org.springframework.util.MimeTypeUtils.APPLICATION_XML_VALUE;
@@ -36,11 +41,13 @@ import com.chutneytesting.action.TestLogger;
 import com.chutneytesting.action.TestTarget;
 import com.chutneytesting.action.spi.Action;
 import com.chutneytesting.action.spi.ActionExecutionResult;
+import com.chutneytesting.action.spi.injectable.FinallyActionRegistry;
 import com.chutneytesting.action.spi.injectable.Target;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
@@ -57,9 +64,13 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.AcknowledgingMessageListener;
 import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
 import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.ContainerProperties.AckMode;
 import org.springframework.kafka.listener.MessageListener;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.MimeType;
 
@@ -88,7 +99,7 @@ public class KafkaBasicConsumeActionTest {
 
     @Test
     void set_inputs_default_values() {
-        KafkaBasicConsumeAction defaultAction = new KafkaBasicConsumeAction(null, null, null, null, null, null, null, null, null, null, null, null);
+        KafkaBasicConsumeAction defaultAction = new KafkaBasicConsumeAction(null, null, null, null, null, null, null, null, null, null, null, null, null, null, null);
         assertThat(defaultAction)
             .hasFieldOrPropertyWithValue("target", null)
             .hasFieldOrPropertyWithValue("topic", null)
@@ -110,7 +121,7 @@ public class KafkaBasicConsumeActionTest {
     class ValidateInputs {
         @Test
         void validate_all_mandatory_inputs() {
-            KafkaBasicConsumeAction defaultAction = new KafkaBasicConsumeAction(null, null, null, null, null, null, null, null, null, null, null, null);
+            KafkaBasicConsumeAction defaultAction = new KafkaBasicConsumeAction(null, null, null, null, null, null, null, null, null, null, null, null, null, null, null);
             List<String> errors = defaultAction.validateInputs();
 
             assertThat(errors.size()).isEqualTo(8);
@@ -133,7 +144,7 @@ public class KafkaBasicConsumeActionTest {
         @Test
         void validate_timeout_input() {
             String badTimeout = "twenty seconds";
-            KafkaBasicConsumeAction defaultAction = new KafkaBasicConsumeAction(TARGET_STUB, "topic", "group", null, null, null, null, null, badTimeout, null, null, null);
+            KafkaBasicConsumeAction defaultAction = new KafkaBasicConsumeAction(TARGET_STUB, "topic", "group", null, null, null, null, null, badTimeout, null, null, null, null, null, null);
 
             List<String> errors = defaultAction.validateInputs();
 
@@ -144,7 +155,7 @@ public class KafkaBasicConsumeActionTest {
         @Test
         void validate_ackMode_input() {
             String badTackMode = "UNKNOWN_ACKMODE";
-            KafkaBasicConsumeAction defaultAction = new KafkaBasicConsumeAction(TARGET_STUB, "topic", "group", null, null, null, null, null, null, badTackMode, null, null);
+            KafkaBasicConsumeAction defaultAction = new KafkaBasicConsumeAction(TARGET_STUB, "topic", "group", null, null, null, null, null, null, badTackMode, null, null, null, null, null);
 
             List<String> errors = defaultAction.validateInputs();
 
@@ -396,6 +407,27 @@ public class KafkaBasicConsumeActionTest {
                 assertThat(jsonPayload.get("value")).isEqualTo(jsonMessageToSelect);
             }
 
+            @Test
+            void not_read_payload_of_messages_rejected_by_header_selector() {
+                // Given
+                ImmutableList<Header> headers = ImmutableList.of(new RecordHeader("header", "123".getBytes()));
+                Action action = givenKafkaConsumeAction(1, null, "$..[?($.header=='123')]", APPLICATION_JSON_VALUE, null);
+                givenActionReceiveMessages(action,
+                    buildRecord(FIRST_OFFSET, "KEY1", "{ not json"),
+                    buildRecord(FIRST_OFFSET + 1, "KEY2", "{\"id\": \"1\"}", headers)
+                );
+
+                // When
+                ActionExecutionResult actionExecutionResult = action.execute();
+
+                // Then
+                assertThat(actionExecutionResult.status).isEqualTo(Success);
+                List<Map<String, Object>> body = assertActionOutputsSize(actionExecutionResult, 1);
+                assertThat((Map<String, Object>) body.getFirst().get(OUTPUT_BODY_PAYLOAD_KEY)).containsEntry("id", "1");
+                assertThat(logger.info).noneMatch(info -> info.contains("cannot read it as a Json value"));
+                assertThat(logger.info).anyMatch(info -> info.startsWith("Filtered 2 records in "));
+            }
+
             @Test
             void consume_message_with_duplicated_header_pair_key_value() {
                 // Given
@@ -532,6 +564,105 @@ public class KafkaBasicConsumeActionTest {
         }
     }
 
+    @Nested
+    @DisplayName("Within consumer session")
+    class Session {
+
+        private final KafkaConsumerFactory kafkaConsumerFactory = mock(KafkaConsumerFactory.class);
+        private final MessageListenerContainer container = mock(MessageListenerContainer.class);
+        private final FinallyActionRegistry finallyActionRegistry = mock(FinallyActionRegistry.class);
+
+        @Test
+        void share_listener_container_between_consume_steps() {
+            // Given
+            Acknowledgment firstAcknowledgment = mock(Acknowledgment.class);
+            Acknowledgment secondAcknowledgment = mock(Acknowledgment.class);
+            when(kafkaConsumerFactory.create(any(), any(), any(), any(), eq(AckMode.MANUAL_IMMEDIATE.name()), any(), any(), any())).thenAnswer(invocation -> {
+                AcknowledgingMessageListener<String, String> listener = invocation.getArgument(5);
+                listener.onMessage(buildRecord(FIRST_OFFSET, "KEY1", "first message"), firstAcknowledgment);
+                listener.onMessage(buildRecord(FIRST_OFFSET + 1, "KEY2", "second message"), secondAcknowledgment);
+                return container;
+            });
+            KafkaBasicConsumeAction firstStep = givenSessionConsumeAction(true, null);
+
+            // When
+            ActionExecutionResult firstResult = firstStep.execute();
+            KafkaConsumerSession session = (KafkaConsumerSession) firstResult.outputs.get(OUTPUT_SESSION);
+            verify(firstAcknowledgment).acknowledge();
+            verify(secondAcknowledgment, never()).acknowledge();
+            ActionExecutionResult secondResult = givenSessionConsumeAction(null, session).execute();
+
+            // Then
+            assertThat(firstResult.status).isEqualTo(Success);
+            assertThat(firstResult.outputs.get(OUTPUT_PAYLOADS)).isEqualTo(List.of("first message"));
+            assertThat(secondResult.status).isEqualTo(Success);
+            assertThat(secondResult.outputs.get(OUTPUT_PAYLOADS)).isEqualTo(List.of("second message"));
+            assertThat(secondResult.outputs.get(OUTPUT_SESSION)).isSameAs(session);
+
+            verify(kafkaConsumerFactory, times(1)).create(any(), any(), any(), any(), any(), any(), any(), any());
+            verify(secondAcknowledgment).acknowledge();
+            verify(container).start();
+            verify(container, never()).stop();
+            verify(finallyActionRegistry).registerFinallyAction(argThat(finallyAction ->
+                finallyAction.type().equals("kafka-consumer-session-stop") && finallyAction.inputs().get("session") == session
+            ));
+        }
+
+        @Test
+        void close_session_with_stop_action() {
+            // Given
+            when(kafkaConsumerFactory.create(any(), any(), any(), any(), any(), any(), any(), any())).thenReturn(container);
+            ActionExecutionResult result = givenSessionConsumeAction(true, null).execute();
+            KafkaConsumerSession session = (KafkaConsumerSession) result.outputs.get(OUTPUT_SESSION);
+
+            // When
+            ActionExecutionResult stopResult = new KafkaConsumerSessionStopAction(logger, session).execute();
+
+            // Then
+            assertThat(result.status).isEqualTo(Failure);
+            assertThat(stopResult.status).isEqualTo(Success);
+            verify(container).stop();
+        }
+
+        @Test
+        void pause_container_when_buffer_is_full_and_resume_it_once_half_read() throws InterruptedException {
+            AtomicReference<AcknowledgingMessageListener<String, String>> listener = new AtomicReference<>();
+            KafkaConsumerSession session = new KafkaConsumerSession(TARGET_STUB.name(), TOPIC, GROUP, l -> {
+                listener.set(l);
+                return container;
+            });
+
+            Acknowledgment acknowledgment = mock(Acknowledgment.class);
+            for (int i = 0; i < 10_000; i++) {
+                listener.get().onMessage(buildRecord(FIRST_OFFSET + i, "KEY", "message"), acknowledgment);
+            }
+            verify(container).pause();
+
+            when(container.isPauseRequested()).thenReturn(true);
+            for (int i = 0; i < 4_999; i++) {
+                session.poll(0);
+            }
+            verify(container, never()).resume();
+            session.poll(0);
+            verify(container).resume();
+        }
+
+        @Test
+        void validate_session_consumes_same_topic_and_group() {
+            KafkaConsumerSession session = new KafkaConsumerSession(TARGET_STUB.name(), "other topic", GROUP, listener -> container);
+
+            List<String> errors = givenSessionConsumeAction(null, session).validateInputs();
+
+            assertThat(errors).containsExactly("Given session does not consume topic [topic] with group [mygroup] on target [kafka]");
+        }
+
+        private KafkaBasicConsumeAction givenSessionConsumeAction(Boolean keepSession, KafkaConsumerSession session) {
+            KafkaBasicConsumeAction action = new KafkaBasicConsumeAction(TARGET_STUB, TOPIC, GROUP, emptyMap(), 1, null, null, TEXT_PLAIN_VALUE, "1 sec", null, null, keepSession, session, finallyActionRegistry, logger);
+            ReflectionTestUtils.setField(action, "kafkaConsumerFactory", kafkaConsumerFactory);
+            return action;
+        }
+    }
+
 
     // todo mock kafka consumer
     private MessageListener overrideActionMessageListenerContainer(Action action) {
@@ -567,7 +698,7 @@ public class KafkaBasicConsumeActionTest {
     }
 
     private KafkaBasicConsumeAction givenKafkaConsumeAction(int expectedMessageNb, String selector, String headerSelector, String mimeType, String timeout) {
-        return new KafkaBasicConsumeAction(TARGET_STUB, TOPIC, GROUP, emptyMap(), expectedMessageNb, selector, headerSelector, mimeType, timeout, null, null, logger);
+        return new KafkaBasicConsumeAction(TARGET_STUB, TOPIC, GROUP, emptyMap(), expectedMessageNb, selector, headerSelector, mimeType, timeout, null, null, null, null, null, logger);
     }
 
     private void givenActionReceiveMessages(Action action, ConsumerRecord... messages) {
@@ -20,6 +20,7 @@ import com.chutneytesting.action.spi.ActionExecutionResult;
 import com.chutneytesting.action.spi.injectable.ActionsConfiguration;
 import com.chutneytesting.action.spi.injectable.Logger;
 import com.chutneytesting.action.spi.injectable.Target;
+import com.chutneytesting.action.sql.core.ColumnarRecords;
 import com.chutneytesting.action.sql.core.Records;
 import com.chutneytesting.action.sql.core.Row;
 import com.chutneytesting.action.sql.core.Rows;
@@ -61,7 +62,7 @@ public class SqlActionTest {
     public void should_output_only_one_result_when_single_statement() {
         // Given
         ActionsConfiguration configuration = new TestActionsConfiguration();
-        Action action = new SqlAction(sqlTarget, logger, configuration, Collections.singletonList("select * from users"), 2);
+        Action action = new SqlAction(sqlTarget, logger, configuration, Collections.singletonList("select * from users"), 2, null, null, null, null);
 
         // When
         ActionExecutionResult result = action.execute();
@@ -89,7 +90,7 @@ public class SqlActionTest {
     public void should_provide_affectedRows_when_single_statement() {
         // Given
         ActionsConfiguration configuration = new TestActionsConfiguration();
-        Action action = new SqlAction(sqlTarget, logger, configuration, Collections.singletonList("UPDATE USERS SET NAME = 'toto' WHERE ID = 1"), 5);
+        Action action = new SqlAction(sqlTarget, logger, configuration, Collections.singletonList("UPDATE USERS SET NAME = 'toto' WHERE ID = 1"), 5, null, null, null, null);
 
         // When
         ActionExecutionResult result = action.execute();
@@ -102,7 +103,7 @@ public class SqlActionTest {
     public void should_output_only_many_results_when_multi_statements() {
         // Given
         ActionsConfiguration configuration = new TestActionsConfiguration();
-        Action action = new SqlAction(sqlTarget, logger, configuration, Lists.newArrayList("select * from users where id = 1", "select * from users where id = 2") , 2);
+        Action action = new SqlAction(sqlTarget, logger, configuration, Lists.newArrayList("select * from users where id = 1", "select * from users where id = 2") , 2, null, null, null, null);
 
         // When
         ActionExecutionResult result = action.execute();
@@ -137,7 +138,7 @@ public class SqlActionTest {
     public void should_be_non_sensitive_to_header_case_or_spaces() {
         // Given
         ActionsConfiguration configuration = new TestActionsConfiguration();
-        Action action = new SqlAction(sqlTarget, logger, configuration, Lists.newArrayList("select * from users"), 2);
+        Action action = new SqlAction(sqlTarget, logger, configuration, Lists.newArrayList("select * from users"), 2, null, null, null, null);
 
         // When
         ActionExecutionResult result = action.execute();
@@ -149,4 +150,129 @@ public class SqlActionTest {
         assertThat(rows.get("NaMe")).isEqualTo(List.of("laitue","carotte", "tomate"));
         assertThat(rows.get(" EMAIL ")).isEqualTo(List.of("laitue@fake.com","kakarot@fake.db","null"));
     }
+
+    @Test
+    public void should_output_columnar_records_when_columnar() {
+        // Given
+        ActionsConfiguration configuration = new TestActionsConfiguration();
+        Action action = new SqlAction(sqlTarget, logger, configuration, Lists.newArrayList("select * from users"), 2, true, null, null, null);
+
+        // When
+        ActionExecutionResult result = action.execute();
+
+        // Then
+        assertThat(result.status).isEqualTo(ActionExecutionResult.Status.Success);
+
+        ColumnarRecords rows = (ColumnarRecords) result.outputs.get("rows");
+        Row firstRow = (Row) result.outputs.get("firstRow");
+
+        assertThat(rows.count()).isEqualTo(3);
+        assertThat(firstRow.get("NAME")).isEqualTo("laitue");
+        assertThat(rows.get("id")).isEqualTo(List.of(1, 2, 3));
+        assertThat(rows.get(" EMAIL ")).isEqualTo(List.of("laitue@fake.com", "kakarot@fake.db", "null"));
+        assertThat(rows.sum("ID")).isEqualTo(6L);
+        assertThat(rows.average("ID")).isEqualTo(2.0);
+        assertThat(rows.max("NAME")).isEqualTo("tomate");
+        assertThat(rows.min("EMAIL")).isEqualTo("kakarot@fake.db");
+        assertThat(rows.count("EMAIL", "null")).isEqualTo(1);
+
+        verify(logger).info(eq(
+            "| ID | NAME    | EMAIL           |\n" +
+            "|----|---------|-----------------|\n" +
+            "| 1  | laitue  | laitue@fake.com |\n" +
+            "| 2  | carotte | kakarot@fake.db |\n"));
+    }
+
+    @Test
+    public void should_execute_prepared_statement_in_batches() {
+        // Given
+        ActionsConfiguration configuration = new TestActionsConfiguration();
+        List<List<Object>> parameters = List.of(
+            List.of(4, "radis", "radis@fake.com"),
+            List.of(5, "navet", "navet@fake.com"),
+            List.of(6, "poireau", "poireau@fake.com")
+        );
+        Action action = new SqlAction(sqlTarget, logger, configuration, List.of("INSERT INTO users VALUES (?, ?, ?)"), null, null, 2, parameters, null);
+
+        // When
+        ActionExecutionResult result = action.execute();
+
+        // Then
+        assertThat(result.status).isEqualTo(ActionExecutionResult.Status.Success);
+        assertThat(result.outputs.get("affectedRows")).isEqualTo(3);
+        assertThat(result.outputs.get("batchesAffectedRows")).isEqualTo(List.of(2, 1));
+        assertThat(countUsers()).isEqualTo(6L);
+    }
+
+    @Test
+    public void should_rollback_all_batches_when_one_fails_in_transaction() {
+        // Given
+        ActionsConfiguration configuration = new TestActionsConfiguration();
+        List<String> statements = List.of(
+            "INSERT INTO users VALUES (4, 'radis', 'radis@fake.com')",
+            "INSERT INTO users VALUES (5, 'navet', 'navet@fake.com')",
+            "INSERT INTO users VALUES (1, 'duplicate', 'duplicate@fake.com')"
+        );
+        Action action = new SqlAction(sqlTarget, logger, configuration, statements, null, null, 2, null, true);
+
+        // When
+        ActionExecutionResult result = action.execute();
+
+        // Then
+        assertThat(result.status).isEqualTo(ActionExecutionResult.Status.Failure);
+        assertThat(countUsers()).isEqualTo(3L);
+    }
+
+    @Test
+    public void should_output_affected_rows_of_batches_executed_before_failure() {
+        // Given
+        ActionsConfiguration configuration = new TestActionsConfiguration();
+        List<String> statements = List.of(
+            "INSERT INTO users VALUES (4, 'radis', 'radis@fake.com')",
+            "INSERT INTO users VALUES (5, 'navet', 'navet@fake.com')",
+            "INSERT INTO users VALUES (1, 'duplicate', 'duplicate@fake.com')"
+        );
+        Action action = new SqlAction(sqlTarget, logger, configuration, statements, null, null, 2, null, false);
+
+        // When
+        ActionExecutionResult result = action.execute();
+
+        // Then
+        assertThat(result.status).isEqualTo(ActionExecutionResult.Status.Failure);
+        assertThat(result.outputs.get("batchesAffectedRows")).isEqualTo(List.of(2));
+        assertThat(countUsers()).isEqualTo(5L);
+    }
+
+    @Test
+    public void should_not_validate_columnar_batch_execution() {
+        // Given
+        ActionsConfiguration configuration = new TestActionsConfiguration();
+        Action action = new SqlAction(sqlTarget, logger, configuration, List.of("INSERT INTO users VALUES (4, 'radis', 'radis@fake.com')"), null, true, 2, null, null);
+
+        // When
+        List<String> errors = action.validateInputs();
+
+        // Then
+        assertThat(errors).containsExactly("Columnar results are not available in batch mode");
+    }
+
+    @Test
+    public void should_reuse_connection_of_previous_execution() {
+        // Given
+        ActionsConfiguration configuration = new TestActionsConfiguration();
+        List<String> statements = List.of("SELECT SESSION_ID() AS SESSION");
+
+        // When
+        ActionExecutionResult first = new SqlAction(sqlTarget, logger, configuration, statements, null, null, null, null, null).execute();
+        ActionExecutionResult second = new SqlAction(sqlTarget, logger, configuration, statements, null, null, null, null, null).execute();
+
+        // Then
+        assertThat(((Row) second.outputs.get("firstRow")).get("SESSION"))
+            .isEqualTo(((Row) first.outputs.get("firstRow")).get("SESSION"));
+    }
+
+    private Object countUsers() {
+        ActionExecutionResult count = new SqlAction(sqlTarget, logger, new TestActionsConfiguration(), List.of("SELECT COUNT(*) AS TOTAL FROM users"), null, null, null, null, null).execute();
+        return ((Row) count.outputs.get("firstRow")).get("TOTAL");
+    }
 }
@@ -0,0 +1,106 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.sql;
+
+import com.chutneytesting.action.TestTarget;
+import com.chutneytesting.action.spi.metrics.ConnectionPools;
+import com.chutneytesting.action.sql.core.DefaultSqlClientFactory;
+import com.chutneytesting.action.sql.core.Records;
+import com.chutneytesting.action.sql.core.SqlClient;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Time to insert rows in an in-memory H2 database with one statement execution by row, or with batches.<br>
+ * Run with the main method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqlBatchBenchmark {
+
+    @Param({"1000"})
+    public int rows;
+
+    @Param({"100"})
+    public int batchSize;
+
+    private SqlClient sqlClient;
+    private List<String> inserts;
+    private List<List<Object>> parameters;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        sqlClient = new DefaultSqlClientFactory().create(TestTarget.TestTargetBuilder.builder()
+            .withTargetId("benchmark")
+            .withUrl("jdbc:h2:mem")
+            .withProperty("jdbcUrl", "jdbc:h2:mem:batch_benchmark;DB_CLOSE_DELAY=-1")
+            .withProperty("user", "sa")
+            .withProperty("sessionResetStatement", "SET SCHEMA PUBLIC")
+            .build());
+        sqlClient.execute("CREATE TABLE movies (id INTEGER, title VARCHAR(50))");
+        inserts = IntStream.range(0, rows).mapToObj(i -> "INSERT INTO movies VALUES (" + i + ", 'title " + i + "')").toList();
+        parameters = new ArrayList<>(rows);
+        IntStream.range(0, rows).forEach(i -> parameters.add(List.of(i, "title " + i)));
+    }
+
+    @Setup(Level.Invocation)
+    public void truncate() throws SQLException {
+        sqlClient.execute("TRUNCATE TABLE movies");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ConnectionPools.shutdown();
+    }
+
+    @Benchmark
+    public int one_execution_by_statement() throws SQLException {
+        int affectedRows = 0;
+        for (String insert : inserts) {
+            affectedRows += sqlClient.execute(insert).affectedRows;
+        }
+        return affectedRows;
+    }
+
+    @Benchmark
+    public Records statements_batches() throws SQLException {
+        return sqlClient.executeBatch(inserts, null, batchSize, false);
+    }
+
+    @Benchmark
+    public Records prepared_statement_batches() throws SQLException {
+        return sqlClient.executeBatch(List.of("INSERT INTO movies VALUES (?, ?)"), parameters, batchSize, false);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SqlBatchBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.sql.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chutneytesting.action.TestTarget;
+import com.chutneytesting.action.spi.injectable.Target;
+import com.chutneytesting.action.spi.metrics.ConnectionPools;
+import java.sql.SQLException;
+import org.junit.jupiter.api.Test;
+
+class DefaultSqlClientFactoryTest {
+
+    private final DefaultSqlClientFactory sut = new DefaultSqlClientFactory();
+
+    @Test
+    void should_reuse_data_source_of_same_connection_properties() throws SQLException {
+        int pooledDataSources = DefaultSqlClientFactory.pooledDataSourcesCount();
+
+        sut.create(target("pooled").build()).execute("select 1");
+        sut.create(target("pooled").build()).execute("select 1");
+        sut.create(target("other").build()).execute("select 1");
+
+        assertThat(DefaultSqlClientFactory.pooledDataSourcesCount()).isEqualTo(pooledDataSources + 2);
+        assertThat(ConnectionPools.stats()).containsKey("jdbc:h2:mem:pooled");
+    }
+
+    @Test
+    void should_give_connection_back_to_pool_without_session_reset_statement() throws SQLException {
+        Records first = sut.create(target("session").build()).execute("SELECT SESSION_ID()");
+
+        Records second = sut.create(target("session").build()).execute("SELECT SESSION_ID()");
+
+        assertThat(second.row(0).get(0)).isEqualTo(first.row(0).get(0));
+    }
+
+    @Test
+    void should_close_connection_when_session_reset_fails() throws SQLException {
+        Target target = target("failed_reset")
+            .withProperty(DefaultSqlClientFactory.SESSION_RESET_STATEMENT, "RESET EVERYTHING")
+            .build();
+        Records first = sut.create(target).execute("SELECT SESSION_ID()");
+
+        Records second = sut.create(target).execute("SELECT SESSION_ID()");
+
+        assertThat(second.row(0).get(0)).isNotEqualTo(first.row(0).get(0));
+    }
+
+    @Test
+    void should_reset_session_with_given_statement_when_connection_is_given_back() throws SQLException {
+        Target target = target("reset")
+            .withProperty(DefaultSqlClientFactory.SESSION_RESET_STATEMENT, "SET SCHEMA PUBLIC")
+            .build();
+        sut.create(target).execute("CREATE SCHEMA IF NOT EXISTS GHIBLI");
+        sut.create(target).execute("SET SCHEMA GHIBLI");
+
+        Records records = sut.create(target).execute("SELECT SCHEMA()");
+
+        assertThat(records.row(0).get(0)).isEqualTo("PUBLIC");
+    }
+
+    @Test
+    void should_keep_recently_used_data_sources_when_sweeping() throws SQLException {
+        sut.create(target("in_use").build()).execute("select 1");
+        int pooledDataSources = DefaultSqlClientFactory.pooledDataSourcesCount();
+
+        DefaultSqlClientFactory.closeUnusedDataSources();
+
+        assertThat(DefaultSqlClientFactory.pooledDataSourcesCount()).isEqualTo(pooledDataSources);
+    }
+
+    private static TestTarget.TestTargetBuilder target(String database) {
+        return TestTarget.TestTargetBuilder.builder()
+            .withTargetId("sql")
+            .withUrl("jdbc:h2:mem")
+            .withProperty("jdbcUrl", "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1")
+            .withProperty("user", "sa");
+    }
+}
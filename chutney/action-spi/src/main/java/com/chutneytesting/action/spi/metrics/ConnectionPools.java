@@ -0,0 +1,88 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.spi.metrics;
+
+import static java.util.stream.Collectors.toMap;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Registry of connection pools kept by actions across executions.<br>
+ * Actions register their pools so that hosting applications can expose their usage and shut them down.
+ */
+public final class ConnectionPools {
+
+    private static final Map<Registration, Supplier<PoolStats>> POOLS = new ConcurrentHashMap<>();
+
+    private ConnectionPools() {
+    }
+
+    /**
+     * @param name  pool name, stats of pools sharing a name are summed
+     * @param stats current stats of the pool
+     * @return registration to close when the pool is closed
+     */
+    public static Registration register(String name, Supplier<PoolStats> stats) {
+        return register(name, stats, () -> {
+        });
+    }
+
+    /**
+     * @param name     pool name, stats of pools sharing a name are summed
+     * @param stats    current stats of the pool
+     * @param shutdown closes the pool on {@link #shutdown()}
+     * @return registration to close when the pool is closed
+     */
+    public static Registration register(String name, Supplier<PoolStats> stats, Runnable shutdown) {
+        Registration registration = new Registration(name, shutdown);
+        POOLS.put(registration, stats);
+        return registration;
+    }
+
+    /**
+     * Unregister and close all registered pools.
+     */
+    public static void shutdown() {
+        List.copyOf(POOLS.keySet()).forEach(registration -> {
+            registration.close();
+            registration.shutdown.run();
+        });
+    }
+
+    /**
+     * @return current stats of registered pools by name
+     */
+    public static Map<String, PoolStats> stats() {
+        return POOLS.entrySet().stream()
+            .collect(toMap(e -> e.getKey().name, e -> e.getValue().get(), PoolStats::plus));
+    }
+
+    public record PoolStats(int leased, int available, int pending) {
+        PoolStats plus(PoolStats other) {
+            return new PoolStats(leased + other.leased, available + other.available, pending + other.pending);
+        }
+    }
+
+    public static final class Registration implements AutoCloseable {
+        private final String name;
+        private final Runnable shutdown;
+
+        private Registration(String name, Runnable shutdown) {
+            this.name = name;
+            this.shutdown = shutdown;
+        }
+
+        @Override
+        public void close() {
+            POOLS.remove(this);
+        }
+    }
+}
@@ -19,6 +19,7 @@ import com.chutneytesting.action.domain.DefaultActionTemplateRegistry;
 import com.chutneytesting.action.infra.DefaultActionTemplateLoader;
 import com.chutneytesting.action.spi.Action;
 import com.chutneytesting.action.spi.injectable.ActionsConfiguration;
+import com.chutneytesting.action.spi.metrics.ConnectionPools;
 import com.chutneytesting.engine.api.execution.EmbeddedTestEngine;
 import com.chutneytesting.engine.api.execution.TestEngine;
 import com.chutneytesting.engine.domain.delegation.DelegationService;
@@ -43,6 +44,7 @@ import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.util.ReflectionUtils;
 
 public class ExecutionConfiguration {
@@ -53,6 +55,7 @@ public class ExecutionConfiguration {
     private final Reporter reporter;
     private final ExecutionEngine executionEngine;
     private final TestEngine embeddedTestEngine;
+    private final StepDataEvaluator stepDataEvaluator;
 
     private final SpelFunctions spelFunctions;
     private final Set<StepExecutionStrategy> stepExecutionStrategies;
@@ -63,6 +66,10 @@ public class ExecutionConfiguration {
     }
 
     public ExecutionConfiguration(Long reporterTTL, ExecutorService actionExecutor, Map<String, String> actionsConfiguration, String user, String password) {
+        this(reporterTTL, actionExecutor, actionsConfiguration, user, password, StepDataEvaluator.DEFAULT_EXPRESSION_CACHE_SIZE, SpelCompilerMode.OFF);
+    }
+
+    public ExecutionConfiguration(Long reporterTTL, ExecutorService actionExecutor, Map<String, String> actionsConfiguration, String user, String password, long expressionCacheSize, SpelCompilerMode expressionCompilerMode) {
         this.reporterTTL = reporterTTL;
 
         ActionTemplateLoader actionTemplateLoaderV2 = createActionTemplateLoaderV2();
@@ -71,6 +78,7 @@ public class ExecutionConfiguration {
 
         actionTemplateRegistry = new DefaultActionTemplateRegistry(new ActionTemplateLoaders(singletonList(actionTemplateLoaderV2)));
         reporter = createReporter();
+        stepDataEvaluator = new StepDataEvaluator(spelFunctions, expressionCacheSize, expressionCompilerMode);
         executionEngine = createExecutionEngine(actionExecutor, user, password);
         embeddedTestEngine = createEmbeddedTestEngine(new EngineActionsConfiguration(actionsConfiguration));
     }
@@ -95,6 +103,17 @@ public class ExecutionConfiguration {
         return executionEngine;
     }
 
+    public StepDataEvaluator stepDataEvaluator() {
+        return stepDataEvaluator;
+    }
+
+    /**
+     * Close connection pools kept by actions across executions.
+     */
+    public void shutdown() {
+        ConnectionPools.shutdown();
+    }
+
 
     private ActionTemplateLoader createActionTemplateLoaderV2() {
         return new DefaultActionTemplateLoader<>(
@@ -128,7 +147,7 @@ public class ExecutionConfiguration {
 
     private ExecutionEngine createExecutionEngine(ExecutorService actionExecutor, String user, String password) {
         return new DefaultExecutionEngine(
-            new StepDataEvaluator(spelFunctions),
+            stepDataEvaluator,
             new StepExecutionStrategies(stepExecutionStrategies),
             new DelegationService(new DefaultStepExecutor(actionTemplateRegistry), new HttpClient(user, password)),
             reporter,
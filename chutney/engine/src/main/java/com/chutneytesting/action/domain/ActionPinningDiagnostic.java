@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.domain;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Detects {@link ActionTemplate} implementations declaring synchronized methods.<br>
+ * When executed on virtual threads, such methods pin the carrier thread while blocked on I/O.<br>
+ * Synchronized blocks cannot be seen by reflection, run the JVM with <i>-Djdk.tracePinnedThreads=full</i> to trace them.
+ */
+public final class ActionPinningDiagnostic {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ActionPinningDiagnostic.class);
+
+    private ActionPinningDiagnostic() {
+    }
+
+    /**
+     * @return synchronized methods names indexed by action identifier, for actions declaring some
+     */
+    public static Map<String, List<String>> synchronizedMethods(ActionTemplateRegistry actionTemplateRegistry) {
+        Map<String, List<String>> synchronizedMethods = new LinkedHashMap<>();
+        actionTemplateRegistry.getAll().forEach(actionTemplate -> {
+            List<String> methods = synchronizedMethods(actionTemplate.implementationClass());
+            if (!methods.isEmpty()) {
+                synchronizedMethods.put(actionTemplate.identifier(), methods);
+            }
+        });
+        return synchronizedMethods;
+    }
+
+    public static void logPinningRisks(ActionTemplateRegistry actionTemplateRegistry) {
+        synchronizedMethods(actionTemplateRegistry).forEach((identifier, methods) ->
+            LOGGER.warn("Action [{}] may pin virtual threads, it declares synchronized methods: {}", identifier, methods)
+        );
+    }
+
+    private static List<String> synchronizedMethods(Class<?> implementationClass) {
+        List<String> methods = new ArrayList<>();
+        for (Class<?> c = implementationClass; c != null && c != Object.class; c = c.getSuperclass()) {
+            Arrays.stream(c.getDeclaredMethods())
+                .filter(m -> Modifier.isSynchronized(m.getModifiers()))
+                .map(Method::getName)
+                .map(name -> implementationClass.getSimpleName() + "#" + name)
+                .forEach(methods::add);
+        }
+        return methods;
+    }
+}
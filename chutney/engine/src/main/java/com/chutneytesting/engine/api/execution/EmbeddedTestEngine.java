@@ -35,7 +35,7 @@ public final class EmbeddedTestEngine implements TestEngine {
     @Override
     public StepExecutionReportDto execute(ExecutionRequestDto request) {
         Long executionId = executeAsync(request);
-        return receiveNotification(executionId).blockingLast();
+        return StepExecutionReportMapper.toDto(reporter.subscribeOnExecution(executionId).blockingLast());
     }
 
     @Override
@@ -58,6 +58,12 @@ public final class EmbeddedTestEngine implements TestEngine {
             .map(StepExecutionReportMapper::toDto);
     }
 
+    @Override
+    public Observable<StepReportDeltaDto> receiveNotificationDeltas(Long executionId) {
+        return reporter.subscribeOnExecutionDeltas(executionId)
+            .map(StepExecutionReportMapper::toDto);
+    }
+
     @Override
     public void pauseExecution(Long executionId) {
         executionManager.pauseExecution(executionId);
@@ -49,6 +49,11 @@ public class HttpTestEngine implements TestEngine {
         throw new IllegalArgumentException();
     }
 
+    @Override
+    public Observable<StepReportDeltaDto> receiveNotificationDeltas(Long executionId) {
+        throw new IllegalArgumentException();
+    }
+
     @Override
     public void pauseExecution(Long executionId) {
         throw new IllegalArgumentException();
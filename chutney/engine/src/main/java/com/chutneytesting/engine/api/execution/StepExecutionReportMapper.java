@@ -12,6 +12,7 @@ import static java.util.Optional.ofNullable;
 
 import com.chutneytesting.engine.domain.execution.report.Status;
 import com.chutneytesting.engine.domain.execution.report.StepExecutionReport;
+import com.chutneytesting.engine.domain.report.StepReportDelta;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -38,6 +39,14 @@ class StepExecutionReportMapper {
         );
     }
 
+    static StepReportDeltaDto toDto(StepReportDelta delta) {
+        return new StepReportDeltaDto(
+            delta.path(),
+            delta.ancestors().stream().map(StepExecutionReportMapper::toDto).collect(Collectors.toList()),
+            toDto(delta.report())
+        );
+    }
+
     static class StepContextMapper {
 
         @SuppressWarnings("unchecked")
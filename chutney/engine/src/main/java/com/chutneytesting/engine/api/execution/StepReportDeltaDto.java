@@ -0,0 +1,38 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.api.execution;
+
+import java.util.List;
+
+/**
+ * Report of a single step which changed during an execution.
+ */
+public class StepReportDeltaDto {
+
+    /**
+     * Indexes of the step from the root step, empty for the root step itself.
+     */
+    public List<Integer> path;
+    /**
+     * Reports of the step ancestors from the root step, without their sub steps.
+     */
+    public List<StepExecutionReportDto> ancestors;
+    /**
+     * The changed step report, with its sub steps.
+     */
+    public StepExecutionReportDto report;
+
+    public StepReportDeltaDto() {
+    }
+
+    public StepReportDeltaDto(List<Integer> path, List<StepExecutionReportDto> ancestors, StepExecutionReportDto report) {
+        this.path = path;
+        this.ancestors = ancestors;
+        this.report = report;
+    }
+}
@@ -26,6 +26,11 @@ public interface TestEngine extends AutoCloseable {
 
     Observable<StepExecutionReportDto> receiveNotification(Long executionId);
 
+    /**
+     * @return reports of the steps changed by the execution, starting with the whole report when the execution is already started
+     */
+    Observable<StepReportDeltaDto> receiveNotificationDeltas(Long executionId);
+
     void pauseExecution(Long executionId);
 
     void resumeExecution(Long executionId);
@@ -9,29 +9,38 @@ package com.chutneytesting.engine.domain.execution;
 
 
 import com.chutneytesting.engine.domain.execution.event.Event;
-import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.disposables.Disposable;
 import io.reactivex.rxjava3.functions.Consumer;
-import io.reactivex.rxjava3.subjects.PublishSubject;
-import io.reactivex.rxjava3.subjects.Subject;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * A singleton event bus that allows objects to subscribe to and post events.
- * It uses RxJava's `Subject` to allow multiple subscribers to listen to events and respond accordingly.
  * <p>
- * This implementation ensures thread-safety and provides a robust mechanism for error handling.
+ * Subscribers are indexed by event type, and by execution ID for execution bound subscribers,
+ * so posting an event only reaches the subscribers registered for it, whatever the number of running executions.
+ * Events are dispatched in the posting thread, without global lock, and each subscriber receives its events serially,
+ * as with a serialized subject: an event posted while the subscriber is busy is delivered by the thread already notifying it.
  *
  * <p>It includes:</p>
  * <ul>
  *     <li>Posting events to the bus.</li>
  *     <li>Subscribing to events of a specific type.</li>
- *     <li>Subscribing to events of a specific type with a filter on the execution ID.</li>
- *     <li>Exposing the bus as an Observable to allow further subscriptions.</li>
+ *     <li>Subscribing to events of a specific type for a given execution ID.</li>
  * </ul>
  *
- * <p>Additionally, error handling is provided in the subscription process to log any issues.</p>
+ * <p>Additionally, errors raised by subscribers are logged and dispose the failing subscription,
+ * without preventing other subscribers from being notified.</p>
  */
 public class RxBus {
 
@@ -42,19 +51,38 @@ public class RxBus {
         return INSTANCE;
     }
 
-    private final Subject<Object> bus = PublishSubject.create().toSerialized();
+    private static final ClassValue<List<Class<?>>> EVENT_TYPES = new ClassValue<>() {
+        @Override
+        protected List<Class<?>> computeValue(Class<?> type) {
+            Set<Class<?>> types = new LinkedHashSet<>();
+            collectTypes(type, types);
+            return List.copyOf(types);
+        }
+    };
+
+    private final Map<Class<?>, List<Subscription<?>>> typeSubscribers = new ConcurrentHashMap<>();
+    private final Map<Long, Map<Class<?>, List<Subscription<?>>>> executionSubscribers = new ConcurrentHashMap<>();
 
     /**
      * Posts an event to the bus, notifying all subscribers that a new event has occurred.
      *
-     * <p>This method is the producer of the bus, and the event can be consumed by any
-     * active subscriber that has registered for the event type.</p>
+     * <p>This method is the producer of the bus, and the event is consumed
+     * by active subscribers registered for the event type or one of its super types,
+     * and by subscribers registered for the exact event type on the event execution ID.</p>
      *
      * @param event The event to post to the bus.
      */
     public void post(Object event) {
         try {
-            bus.onNext(event);  // Publishes the event to the bus
+            for (Class<?> type : EVENT_TYPES.get(event.getClass())) {
+                notify(typeSubscribers.get(type), event);
+            }
+            if (event instanceof Event e) {
+                Map<Class<?>, List<Subscription<?>>> channel = executionSubscribers.get(e.executionId());
+                if (channel != null) {
+                    notify(channel.get(event.getClass()), event);
+                }
+            }
         } catch (Exception e) {
             LOGGER.error("Error while posting event: {}", event.getClass().getSimpleName(), e);
         }
@@ -62,11 +90,7 @@ public class RxBus {
 
     /**
      * Registers a subscriber for a specific event type. The subscriber will receive events
-     * of the specified class type.
-     *
-     * <p>Subscribers are notified asynchronously when an event of the given class type
-     * is posted to the bus. The method ensures that only events of the requested type
-     * are passed to the subscriber.</p>
+     * of the specified class type, including its subtypes.
      *
      * @param <T>        The type of event to subscribe to.
      * @param eventClass The class type of the event.
@@ -74,49 +98,140 @@ public class RxBus {
      * @return A Disposable object that can be used to unsubscribe from the bus.
      */
     public <T> Disposable register(final Class<T> eventClass, Consumer<T> onNext) {
-        return bus
-            .filter(eventClass::isInstance)  // Filters events of the specified class type
-            .map(eventClass::cast)  // Safely casts the event to the expected class
-            .subscribe(
-                onNext,  // Action to execute when the event is received
-                throwable -> LOGGER.error("Error while processing event: {}", eventClass.getSimpleName(), throwable)  // Error handling
-            );
+        Subscription<T> subscription = new Subscription<>(
+            onNext,
+            throwable -> LOGGER.error("Error while processing event: {}", eventClass.getSimpleName(), throwable),
+            () -> typeSubscribers.computeIfPresent(eventClass, (type, subscriptions) -> removeFrom(subscriptions))
+        );
+        typeSubscribers.compute(eventClass, (type, subscriptions) -> addTo(subscriptions, subscription));
+        return subscription;
     }
 
     /**
      * Registers a subscriber for a specific event type and execution ID. The subscriber
-     * will only receive events of the specified class type that match the given execution ID.
+     * will only receive events of the exact specified class type that match the given execution ID.
      *
-     * <p>This method is useful for filtering events by a specific execution context, ensuring
-     * that subscribers only receive relevant events related to their execution ID.</p>
+     * <p>Subscribers of an execution are grouped in a channel which is released when its last subscriber is disposed.</p>
      *
      * @param <T>         The type of event to subscribe to.
      * @param eventClass  The class type of the event.
-     * @param executionId The execution ID to filter the events.
+     * @param executionId The execution ID of the events.
      * @param onNext      The action to perform when the event is received.
      * @return A Disposable object that can be used to unsubscribe from the bus.
      */
     public <T extends Event> Disposable registerOnExecutionId(final Class<T> eventClass, long executionId, Consumer<? super Event> onNext) {
-        return bus
-            .filter(event -> event.getClass().equals(eventClass))  // Filters events by the exact class type
-            .map(obj -> (T) obj)  // Safely casts the event to the expected class
-            .filter(e -> e.executionId() == executionId)  // Filters by execution ID
-            .subscribe(
-                onNext,  // Action to execute when the event is received
-                throwable -> LOGGER.error("Error while processing event for executionId {}: {}", executionId, throwable.getMessage(), throwable)  // Error handling
-            );
+        Subscription<Event> subscription = new Subscription<>(
+            onNext::accept,
+            throwable -> LOGGER.error("Error while processing event for executionId {}: {}", executionId, throwable.getMessage(), throwable),
+            () -> executionSubscribers.computeIfPresent(executionId, (id, channel) -> {
+                channel.computeIfPresent(eventClass, (type, subscriptions) -> removeFrom(subscriptions));
+                return channel.isEmpty() ? null : channel;
+            })
+        );
+        executionSubscribers.compute(executionId, (id, channel) -> {
+            Map<Class<?>, List<Subscription<?>>> c = channel == null ? new ConcurrentHashMap<>() : channel;
+            c.compute(eventClass, (type, subscriptions) -> addTo(subscriptions, subscription));
+            return c;
+        });
+        return subscription;
     }
 
-    /**
-     * Exposes the event bus as an Observable, allowing subscribers to listen to all events.
-     *
-     * <p>This is useful if you want to observe all events on the bus without filtering by event type.</p>
-     *
-     * @return An Observable that emits all events posted to the bus.
-     */
-    public Observable<Object> toObservable() {
-        return bus;
+    int executionChannelsCount() {
+        return executionSubscribers.size();
     }
-}
 
+    private static List<Subscription<?>> addTo(List<Subscription<?>> subscriptions, Subscription<?> subscription) {
+        List<Subscription<?>> s = subscriptions == null ? new CopyOnWriteArrayList<>() : subscriptions;
+        s.add(subscription);
+        return s;
+    }
+
+    private static List<Subscription<?>> removeFrom(List<Subscription<?>> subscriptions) {
+        subscriptions.removeIf(Subscription::isDisposed);
+        return subscriptions.isEmpty() ? null : subscriptions;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void notify(List<Subscription<?>> subscriptions, Object event) {
+        if (subscriptions != null) {
+            for (Subscription<?> subscription : subscriptions) {
+                ((Subscription<Object>) subscription).accept(event);
+            }
+        }
+    }
 
+    private static void collectTypes(Class<?> type, Set<Class<?>> types) {
+        if (type != null && types.add(type)) {
+            collectTypes(type.getSuperclass(), types);
+            for (Class<?> i : type.getInterfaces()) {
+                collectTypes(i, types);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ErrorHandler {
+        void handle(Throwable throwable);
+    }
+
+    private static final class Subscription<T> implements Disposable {
+        private final Consumer<T> onNext;
+        private final ErrorHandler onError;
+        private final Runnable unregister;
+        private final AtomicBoolean disposed = new AtomicBoolean();
+        private final Queue<T> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private Subscription(Consumer<T> onNext, ErrorHandler onError, Runnable unregister) {
+            this.onNext = onNext;
+            this.onError = onError;
+            this.unregister = unregister;
+        }
+
+        /**
+         * Queue-drain loop: only one thread at a time delivers events to the subscriber, in their posting order.
+         */
+        private void accept(T event) {
+            if (disposed.get()) {
+                return;
+            }
+            pending.offer(event);
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                T next;
+                while ((next = pending.poll()) != null) {
+                    deliver(next);
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void deliver(T event) {
+            if (disposed.get()) {
+                pending.clear();
+                return;
+            }
+            try {
+                onNext.accept(event);
+            } catch (Throwable t) {
+                onError.handle(t);
+                dispose();
+            }
+        }
+
+        @Override
+        public void dispose() {
+            if (disposed.compareAndSet(false, true)) {
+                unregister.run();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed.get();
+        }
+    }
+}
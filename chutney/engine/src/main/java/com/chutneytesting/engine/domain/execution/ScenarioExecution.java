@@ -15,18 +15,29 @@ import com.chutneytesting.engine.domain.execution.command.StopExecutionCommand;
 import com.chutneytesting.engine.domain.execution.event.EndScenarioExecutionEvent;
 import io.reactivex.rxjava3.disposables.Disposable;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 public class ScenarioExecution {
 
-    private final List<FinallyAction> finallyActions = new ArrayList<>();
+    private final List<FinallyAction> finallyActions = Collections.synchronizedList(new ArrayList<>());
     private final ActionsConfiguration actionConfiguration;
     public final long executionId;
 
-    private boolean pause = false;
-    private boolean stop = false;
+    private volatile boolean pause = false;
+    private volatile boolean stop = false;
+
+    private final Lock stateLock = new ReentrantLock();
+    private final Condition stateChanged = stateLock.newCondition();
+    private final Set<Thread> interruptibleThreads = new HashSet<>();
 
     private Disposable endExecutionSubscriber;
 
@@ -62,12 +73,64 @@ public class ScenarioExecution {
         this.stop = false; // In case of a stopped scenario, we should set it to false in order to execute finally actions
     }
 
+    /**
+     * Blocks until the execution is resumed or stopped.
+     */
     public void waitForRestart() {
-        while (pause) {
+        stateLock.lock();
+        try {
+            while (pause && !stop) {
+                stateChanged.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    /**
+     * Blocks for the given duration, unless the execution is stopped meanwhile.
+     *
+     * @return true if the execution has been stopped
+     */
+    public boolean awaitStop(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        stateLock.lock();
+        try {
+            while (!stop && nanos > 0) {
+                nanos = stateChanged.awaitNanos(nanos);
+            }
+            return stop;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    /**
+     * Runs given action, interrupting the current thread if the execution is stopped meanwhile.<br>
+     * Used to release blocking calls (ex. waiting for a message) on stop.
+     */
+    public <T> T interruptibleOnStop(Supplier<T> action) {
+        Thread current = Thread.currentThread();
+        stateLock.lock();
+        try {
+            interruptibleThreads.add(current);
+        } finally {
+            stateLock.unlock();
+        }
+        try {
+            return action.get();
+        } finally {
+            stateLock.lock();
             try {
-                TimeUnit.SECONDS.sleep(1);
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
+                interruptibleThreads.remove(current);
+                if (stop) {
+                    Thread.interrupted(); // Clear interruption due to stop
+                }
+            } finally {
+                stateLock.unlock();
             }
         }
     }
@@ -85,11 +148,24 @@ public class ScenarioExecution {
     }
 
     private void stop() {
-        stop = true;
+        stateLock.lock();
+        try {
+            stop = true;
+            stateChanged.signalAll();
+            interruptibleThreads.forEach(Thread::interrupt);
+        } finally {
+            stateLock.unlock();
+        }
     }
 
     private void resume() {
-        pause = false;
+        stateLock.lock();
+        try {
+            pause = false;
+            stateChanged.signalAll();
+        } finally {
+            stateLock.unlock();
+        }
     }
 
     public ActionsConfiguration getActionsConfiguration() {
@@ -184,7 +184,19 @@ public class DefaultExecutionEngine implements ExecutionEngine {
         final Optional<Target> target = definition.getTarget();
         final StepExecutor executor = delegationService.findExecutor(target);
         final List<Step> steps = definition.steps.stream().map(this::buildStep).collect(toList());
+        compileTemplates(definition);
 
         return new Step(dataEvaluator, definition, executor, steps);
     }
+
+    private void compileTemplates(StepDefinition definition) {
+        dataEvaluator.compileTemplates(definition.name);
+        dataEvaluator.compileTemplates(definition.inputs());
+        dataEvaluator.compileTemplates(definition.outputs);
+        dataEvaluator.compileTemplates(definition.validations);
+        definition.getTarget().ifPresent(target -> {
+            dataEvaluator.compileTemplates(target.rawUri());
+            dataEvaluator.compileTemplates(target.prefixedProperties(""));
+        });
+    }
 }
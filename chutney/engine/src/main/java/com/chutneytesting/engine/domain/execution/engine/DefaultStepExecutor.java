@@ -54,7 +54,7 @@ public class DefaultStepExecutor implements StepExecutor {
                 Action action = matchedAction.get().create(parameterResolvers);
                 List<String> errors = action.validateInputs();
                 if (errors.isEmpty()) {
-                    executionResult = action.execute();
+                    executionResult = scenarioExecution.interruptibleOnStop(action::execute);
                     step.updateContextFrom(executionResult);
                 } else {
                     step.failure(errors.toArray(new String[0]));
@@ -7,40 +7,86 @@
 
 package com.chutneytesting.engine.domain.execution.engine.evaluation;
 
-import static com.chutneytesting.engine.domain.execution.engine.evaluation.Strings.escapeForRegex;
-
 import com.chutneytesting.action.spi.injectable.Target;
 import com.chutneytesting.engine.domain.environment.TargetImpl;
 import com.chutneytesting.engine.domain.execution.evaluation.SpelFunctions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.regex.Pattern;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.MethodResolver;
 import org.springframework.expression.ParseException;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.ReflectiveMethodResolver;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
 public class StepDataEvaluator {
 
-    private static final String EVALUATION_STRING_PREFIX = "${";
-    private static final String EVALUATION_STRING_SUFFIX = "}";
-    private static final String EVALUATION_STRING_ESCAPE = "\\";
-    private static final Pattern EVALUATION_OBJECT_PATTERN = Pattern.compile("^(?:" + escapeForRegex(EVALUATION_STRING_ESCAPE) + ")?" + escapeForRegex(EVALUATION_STRING_PREFIX) + "(?:(?!" + escapeForRegex(EVALUATION_STRING_PREFIX) + ").)*" + escapeForRegex(EVALUATION_STRING_SUFFIX) + "$", Pattern.DOTALL);
-
+    public static final long DEFAULT_EXPRESSION_CACHE_SIZE = 10_000;
 
-    private final SpelFunctions spelFunctions;
-    private final ExpressionParser parser = new SpelExpressionParser();
+    private final Map<String, Method> functions;
+    private final List<MethodResolver> methodResolvers;
+    private final ExpressionParser parser;
+    private final Cache<String, Expression> expressionCache;
+    private final Cache<String, Template> templateCache;
 
     public StepDataEvaluator(SpelFunctions spelFunctions) {
-        this.spelFunctions = spelFunctions;
+        this(spelFunctions, DEFAULT_EXPRESSION_CACHE_SIZE, SpelCompilerMode.OFF);
+    }
+
+    /**
+     * @param expressionCacheSize maximum number of parsed expressions kept in cache
+     * @param compilerMode        Spring compiler mode applied to parsed expressions, see {@link SpelCompilerMode}
+     */
+    public StepDataEvaluator(SpelFunctions spelFunctions, long expressionCacheSize, SpelCompilerMode compilerMode) {
+        this.functions = buildFunctions(spelFunctions);
+        this.methodResolvers = buildMethodResolvers();
+        this.parser = new SpelExpressionParser(new SpelParserConfiguration(compilerMode, StepDataEvaluator.class.getClassLoader()));
+        this.expressionCache = CacheBuilder.newBuilder()
+            .maximumSize(expressionCacheSize)
+            .recordStats()
+            .build();
+        this.templateCache = CacheBuilder.newBuilder()
+            .maximumSize(expressionCacheSize)
+            .build();
+    }
+
+    /**
+     * Parsed expressions cache, keyed by expression text.<br>
+     * Exposed for instrumentation purpose.
+     */
+    public Cache<String, Expression> expressionCache() {
+        return expressionCache;
+    }
+
+    /**
+     * Split all templates found in given object (String, Map, List or Set) into literal and expression segments
+     * and parse their expressions, so that later evaluations only walk precompiled structures.
+     */
+    public void compileTemplates(final Object o) {
+        if (o instanceof String stringValue) {
+            compileTemplate(stringValue).expressions().forEach(this::compileExpression);
+        } else if (o instanceof Map<?, ?> map) {
+            map.forEach((key, value) -> {
+                compileTemplates(key);
+                compileTemplates(value);
+            });
+        } else if (o instanceof Collection<?> collection) {
+            collection.forEach(this::compileTemplates);
+        }
     }
 
     public Map<String, Object> evaluateNamedDataWithContextVariables(final Map<String, Object> data, final Map<String, Object> contextVariables) {
@@ -87,15 +133,27 @@ public class StepDataEvaluator {
     }
 
     private StandardEvaluationContext buildEvaluationContext(Map<String, Object> contextVariables) {
-        StandardEvaluationContext evaluationContext = new StandardEvaluationContext();
-        evaluationContext.registerMethodFilter(Runtime.class, methods -> Collections.emptyList());
-        evaluationContext.registerMethodFilter(ProcessBuilder.class, methods -> Collections.emptyList());
+        StandardEvaluationContext evaluationContext = new ContextVariablesEvaluationContext(contextVariables, functions);
+        evaluationContext.setMethodResolvers(methodResolvers);
+        return evaluationContext;
+    }
 
+    private static Map<String, Method> buildFunctions(SpelFunctions spelFunctions) {
+        Map<String, Method> functions = new LinkedHashMap<>();
         if (spelFunctions != null) {
-            spelFunctions.stream().forEach(f -> evaluationContext.registerFunction(f.getName(), f.getMethod()));
+            spelFunctions.stream().forEach(f -> functions.put(f.getName(), f.getMethod()));
         }
-        evaluationContext.setVariables(contextVariables);
-        return evaluationContext;
+        return Collections.unmodifiableMap(functions);
+    }
+
+    /**
+     * Method filters are registered once on a shared resolver which is then reused by all evaluation contexts.
+     */
+    private static List<MethodResolver> buildMethodResolvers() {
+        ReflectiveMethodResolver methodResolver = new ReflectiveMethodResolver();
+        methodResolver.registerMethodFilter(Runtime.class, methods -> Collections.emptyList());
+        methodResolver.registerMethodFilter(ProcessBuilder.class, methods -> Collections.emptyList());
+        return List.of(methodResolver);
     }
 
     private Object evaluateObject(final Object object, final EvaluationContext evaluationContext) {
@@ -106,11 +164,7 @@ public class StepDataEvaluator {
     private Object evaluateObject(final Object object, final EvaluationContext evaluationContext, boolean silentResolve) {
         Object inputEvaluatedValue;
         if (object instanceof String stringValue) {
-            if (hasOnlyOneSpel(stringValue)) {
-                inputEvaluatedValue = Strings.replaceExpression(stringValue, s -> evaluate(parser, evaluationContext, s), EVALUATION_STRING_PREFIX, EVALUATION_STRING_SUFFIX, EVALUATION_STRING_ESCAPE, silentResolve);
-            } else {
-                inputEvaluatedValue = Strings.replaceExpressions(stringValue, s -> evaluate(parser, evaluationContext, s), EVALUATION_STRING_PREFIX, EVALUATION_STRING_SUFFIX, EVALUATION_STRING_ESCAPE, silentResolve);
-            }
+            inputEvaluatedValue = compileTemplate(stringValue).evaluate(s -> evaluate(parser, evaluationContext, s), silentResolve);
         } else if (object instanceof Map map) {
             Map evaluatedMap = new LinkedHashMap();
             map.forEach(
@@ -163,25 +217,59 @@ public class StepDataEvaluator {
         }
     }
 
-    /**
-     * If there is only one spel, it means it can be evaluated as a whole java Object.
-     * ex: ${#webdriver} will retrieve the object Webdriver stored in the context
-     * If there are multiple spel, it will be a String concatenation
-     *
-     * @param template
-     * @return true if only one spel in template
-     */
-    private boolean hasOnlyOneSpel(String template) {
-        return EVALUATION_OBJECT_PATTERN.matcher(template.trim()).matches();
+    private Template compileTemplate(String template) {
+        Template compiled = templateCache.getIfPresent(template);
+        if (compiled == null) {
+            compiled = Template.compile(template);
+            templateCache.put(template, compiled);
+        }
+        return compiled;
     }
 
-    private Expression parseExpression(ExpressionParser parser, String expressionAsString) {
-        Expression expression;
+    private void compileExpression(String expressionAsString) {
         try {
-            expression = parser.parseExpression(expressionAsString);
-        } catch (ParseException e) {
-            throw new EvaluationException(expressionAsString, e);
+            parseExpression(parser, expressionAsString);
+        } catch (EvaluationException e) {
+            // Parsing errors are reported at evaluation time, in the step report
+        }
+    }
+
+    private Expression parseExpression(ExpressionParser parser, String expressionAsString) {
+        Expression expression = expressionCache.getIfPresent(expressionAsString);
+        if (expression == null) {
+            try {
+                expression = parser.parseExpression(expressionAsString);
+            } catch (ParseException e) {
+                throw new EvaluationException(expressionAsString, e);
+            }
+            expressionCache.put(expressionAsString, expression);
         }
         return expression;
     }
+
+    /**
+     * Reads variables through given context instead of copying it.<br>
+     * Variables set during evaluation hide context variables, which hide functions.
+     */
+    private static class ContextVariablesEvaluationContext extends StandardEvaluationContext {
+        private final Map<String, Object> contextVariables;
+        private final Map<String, Method> functions;
+
+        private ContextVariablesEvaluationContext(Map<String, Object> contextVariables, Map<String, Method> functions) {
+            this.contextVariables = contextVariables != null ? contextVariables : Collections.emptyMap();
+            this.functions = functions;
+        }
+
+        @Override
+        public Object lookupVariable(String name) {
+            Object value = super.lookupVariable(name);
+            if (value == null) {
+                value = contextVariables.get(name);
+            }
+            if (value == null) {
+                value = functions.get(name);
+            }
+            return value;
+        }
+    }
 }
@@ -0,0 +1,172 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution.engine.evaluation;
+
+import static com.chutneytesting.engine.domain.execution.engine.evaluation.Strings.escapeForRegex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * String template split once into literal and expression segments.<br>
+ * Evaluation walks the segments without scanning the original string again.
+ */
+abstract class Template {
+
+    private static final String PREFIX = "${";
+    private static final String SUFFIX = "}";
+    private static final String ESCAPE = "\\";
+
+    private static final Pattern SINGLE_EXPRESSION_PATTERN = Pattern.compile("^(?:" + escapeForRegex(ESCAPE) + ")?" + escapeForRegex(PREFIX) + "(?:(?!" + escapeForRegex(PREFIX) + ").)*" + escapeForRegex(SUFFIX) + "$", Pattern.DOTALL);
+    private static final Pattern WHOLE_EXPRESSION_PATTERN = Pattern.compile("^(" + escapeForRegex(ESCAPE) + ")?" + escapeForRegex(PREFIX) + "(.*?)" + escapeForRegex(SUFFIX) + "$", Pattern.DOTALL);
+    private static final Pattern EXPRESSIONS_PATTERN = Pattern.compile("(" + escapeForRegex(ESCAPE) + ")?" + escapeForRegex(PREFIX) + "(.*?)" + escapeForRegex(SUFFIX), Pattern.DOTALL);
+
+    /**
+     * @param evaluator     evaluates an expression (without prefix and suffix)
+     * @param silentResolve when true, keep expressions which cannot be evaluated as is
+     */
+    abstract Object evaluate(Function<String, Object> evaluator, boolean silentResolve);
+
+    /**
+     * @return expressions to evaluate, empty if the template is a constant
+     */
+    abstract List<String> expressions();
+
+    static Template compile(String template) {
+        String trimmed = template.trim();
+        if (SINGLE_EXPRESSION_PATTERN.matcher(trimmed).matches()) {
+            // If there is only one spel, it means it can be evaluated as a whole java Object.
+            // ex: ${#webdriver} will retrieve the object Webdriver stored in the context
+            Matcher matcher = WHOLE_EXPRESSION_PATTERN.matcher(trimmed);
+            if (matcher.matches()) {
+                String expression = matcher.group(2);
+                if (matcher.group(1) == null) {
+                    return new ObjectTemplate(template, expression);
+                }
+                return new ConstantTemplate(PREFIX + expression + SUFFIX);
+            }
+            return new ConstantTemplate(template);
+        }
+        return compileSegments(template);
+    }
+
+    private static Template compileSegments(String template) {
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        boolean hasExpression = false;
+        Matcher matcher = EXPRESSIONS_PATTERN.matcher(template);
+        int position = 0;
+        while (matcher.find()) {
+            literal.append(template, position, matcher.start());
+            String expression = matcher.group(2);
+            if (matcher.group(1) == null) {
+                if (!literal.isEmpty()) {
+                    segments.add(new Segment(literal.toString(), false));
+                    literal.setLength(0);
+                }
+                segments.add(new Segment(expression, true));
+                hasExpression = true;
+            } else {
+                literal.append(PREFIX).append(expression).append(SUFFIX);
+            }
+            position = matcher.end();
+        }
+        if (!hasExpression) {
+            return new ConstantTemplate(position == 0 ? template : literal.append(template, position, template.length()).toString());
+        }
+        literal.append(template, position, template.length());
+        if (!literal.isEmpty()) {
+            segments.add(new Segment(literal.toString(), false));
+        }
+        return new SegmentsTemplate(segments);
+    }
+
+    private record Segment(String value, boolean expression) {
+    }
+
+    private static class ConstantTemplate extends Template {
+        private final String value;
+
+        private ConstantTemplate(String value) {
+            this.value = value;
+        }
+
+        @Override
+        Object evaluate(Function<String, Object> evaluator, boolean silentResolve) {
+            return value;
+        }
+
+        @Override
+        List<String> expressions() {
+            return List.of();
+        }
+    }
+
+    private static class ObjectTemplate extends Template {
+        private final String template;
+        private final String expression;
+
+        private ObjectTemplate(String template, String expression) {
+            this.template = template;
+            this.expression = expression;
+        }
+
+        @Override
+        Object evaluate(Function<String, Object> evaluator, boolean silentResolve) {
+            return silentResolve ? template : evaluator.apply(expression);
+        }
+
+        @Override
+        List<String> expressions() {
+            return List.of(expression);
+        }
+    }
+
+    private static class SegmentsTemplate extends Template {
+        private final List<Segment> segments;
+
+        private SegmentsTemplate(List<Segment> segments) {
+            this.segments = List.copyOf(segments);
+        }
+
+        @Override
+        Object evaluate(Function<String, Object> evaluator, boolean silentResolve) {
+            StringBuilder sb = new StringBuilder();
+            for (Segment segment : segments) {
+                if (segment.expression()) {
+                    sb.append(evaluateSegment(segment.value(), evaluator, silentResolve));
+                } else {
+                    sb.append(segment.value());
+                }
+            }
+            return sb.toString();
+        }
+
+        private static String evaluateSegment(String expression, Function<String, Object> evaluator, boolean silentResolve) {
+            try {
+                Object o = evaluator.apply(expression);
+                if (o != null) {
+                    return String.valueOf(o);
+                }
+            } catch (Exception e) {
+                if (!silentResolve) {
+                    throw e;
+                }
+            }
+            return PREFIX + expression + SUFFIX;
+        }
+
+        @Override
+        List<String> expressions() {
+            return segments.stream().filter(Segment::expression).map(Segment::value).toList();
+        }
+    }
+}
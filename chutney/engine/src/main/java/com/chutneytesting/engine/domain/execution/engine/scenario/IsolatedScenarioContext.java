@@ -0,0 +1,71 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution.engine.scenario;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Scenario context reading through a parent context and keeping its own writes apart.<br>
+ * Used to run steps concurrently without sharing writes, which can be merged back later in a chosen order.
+ */
+public final class IsolatedScenarioContext extends AbstractMap<String, Object> implements ScenarioContext {
+
+    private final Map<String, Object> parent;
+    private final Map<String, Object> writes = new LinkedHashMap<>();
+
+    public IsolatedScenarioContext(Map<String, Object> parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * @return values put in this context, in insertion order
+     */
+    public Map<String, Object> writes() {
+        return Collections.unmodifiableMap(writes);
+    }
+
+    @Override
+    public synchronized Object put(String key, Object value) {
+        return writes.put(key, value);
+    }
+
+    @Override
+    public synchronized Object get(Object key) {
+        if (writes.containsKey(key)) {
+            return writes.get(key);
+        }
+        return parent.get(key);
+    }
+
+    @Override
+    public synchronized boolean containsKey(Object key) {
+        return writes.containsKey(key) || parent.containsKey(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getOrDefault(String key, T defaultValue) {
+        return containsKey(key) ? (T) get(key) : defaultValue;
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        return containsKey(key) ? get(key) : defaultValue;
+    }
+
+    @Override
+    public synchronized Set<Entry<String, Object>> entrySet() {
+        Map<String, Object> merged = new LinkedHashMap<>(parent);
+        merged.putAll(writes);
+        return Collections.unmodifiableMap(merged).entrySet();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution.engine.scenario;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read-only view over stacked context layers (ex. scenario context, then local context, then step outputs).<br>
+ * Lookups read through the layers, last one first, so building a context is O(1) whatever the size of the layers.<br>
+ * As a view, it reflects later modifications of the underlying layers.
+ */
+public final class LayeredContext extends AbstractMap<String, Object> {
+
+    private final List<Map<String, Object>> layers;
+
+    private LayeredContext(List<Map<String, Object>> layers) {
+        this.layers = layers;
+    }
+
+    /**
+     * @param layers from bottom to top, a key found in a layer hides the same key in previous ones
+     */
+    @SafeVarargs
+    public static LayeredContext of(Map<String, Object>... layers) {
+        return new LayeredContext(List.of(layers));
+    }
+
+    @Override
+    public Object get(Object key) {
+        for (int i = layers.size() - 1; i >= 0; i--) {
+            Map<String, Object> layer = layers.get(i);
+            Object value = layer.get(key);
+            if (value != null || layer.containsKey(key)) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        for (Map<String, Object> layer : layers) {
+            if (layer.containsKey(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        return containsKey(key) ? get(key) : defaultValue;
+    }
+
+    /**
+     * Materializes the merged layers, prefer {@link #get(Object)} on execution path.
+     */
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        Map<String, Object> merged = new LinkedHashMap<>();
+        layers.forEach(merged::putAll);
+        return Collections.unmodifiableMap(merged).entrySet();
+    }
+}
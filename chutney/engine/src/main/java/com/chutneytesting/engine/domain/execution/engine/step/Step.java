@@ -9,6 +9,7 @@ package com.chutneytesting.engine.domain.execution.engine.step;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
 import static java.util.Collections.unmodifiableMap;
 import static java.util.Optional.ofNullable;
 
@@ -21,6 +22,7 @@ import com.chutneytesting.engine.domain.execution.StepDefinition;
 import com.chutneytesting.engine.domain.execution.engine.StepExecutor;
 import com.chutneytesting.engine.domain.execution.engine.evaluation.EvaluationException;
 import com.chutneytesting.engine.domain.execution.engine.evaluation.StepDataEvaluator;
+import com.chutneytesting.engine.domain.execution.engine.scenario.LayeredContext;
 import com.chutneytesting.engine.domain.execution.engine.scenario.ScenarioContext;
 import com.chutneytesting.engine.domain.execution.event.BeginStepExecutionEvent;
 import com.chutneytesting.engine.domain.execution.event.EndStepExecutionEvent;
@@ -34,7 +36,6 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -211,6 +212,13 @@ public class Step {
         return state.duration();
     }
 
+    /**
+     * @return this step state version, changing on each modification of this step (and not of its sub steps)
+     */
+    public long version() {
+        return state.version();
+    }
+
     public Instant startDate() {
         return state.startDate();
     }
@@ -265,11 +273,7 @@ public class Step {
     }
 
     private Map<String, Object> buildEvaluationContext(ScenarioContext scenarioContext, Map<String, Object> localContext) {
-        Map<String, Object> evaluationContext = new HashMap<>();
-        evaluationContext.putAll(scenarioContext);
-        evaluationContext.putAll(localContext);
-        evaluationContext.put("target", target);
-        return evaluationContext;
+        return LayeredContext.of(scenarioContext, localContext, singletonMap("target", target));
     }
 
     private void updateContextWith(ActionExecutionResult.Status status, Map<String, Object> actionOutputs, List<String> information, List<String> errors) {
@@ -319,6 +323,7 @@ public class Step {
 
     public void addStepExecution(Step step) {
         this.steps.add(step);
+        state.changed();
     }
 
     public Map<String, Object> getEvaluatedInputs() {
@@ -343,6 +348,7 @@ public class Step {
 
     public void removeStepExecution() {
         this.steps.clear();
+        state.changed();
     }
 
 }
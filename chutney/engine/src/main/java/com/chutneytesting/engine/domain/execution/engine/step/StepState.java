@@ -20,6 +20,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.commons.lang3.StringUtils;
 
 /**
@@ -34,6 +35,7 @@ public class StepState {
     private final List<String> errors = new ArrayList<>();
     private final List<String> informations = new ArrayList<>();
     private String name;
+    private final AtomicLong version = new AtomicLong();
 
     public StepState(String name) {
         this.name = name;
@@ -43,6 +45,7 @@ public class StepState {
     }
 
     void beginExecution() {
+        changed();
         if (!stopwatch.isRunning()) {
             stopwatch.start();
             if (isNull(startDate)) {
@@ -53,6 +56,7 @@ public class StepState {
     }
 
     void endExecution(boolean isParentStep) {
+        changed();
         if (stopwatch.isRunning()) {
             stopwatch.stop();
             if (isParentStep) {
@@ -62,53 +66,74 @@ public class StepState {
     }
 
     void stopExecution() {
+        changed();
         status = Status.STOPPED;
     }
 
     void pauseExecution() {
+        changed();
         status = Status.PAUSED;
     }
 
     void resumeExecution() {
+        changed();
         status = Status.RUNNING;
     }
 
     void errorOccurred(String... message) {
+        changed();
         status = Status.FAILURE;
         errors.addAll(newArrayList(message));
     }
 
     void successOccurred(String... message) {
+        changed();
         status = Status.SUCCESS;
         informations.addAll(newArrayList(message));
     }
 
     void reset() {
+        changed();
         status = Status.NOT_EXECUTED;
         informations.clear();
         errors.clear();
     }
 
     void startWatch() {
+        changed();
         if (!stopwatch.isRunning()) {
             stopwatch.start();
         }
     }
 
     void stopWatch() {
+        changed();
         if (stopwatch.isRunning()) {
             stopwatch.stop();
         }
     }
 
     void addInformation(String... message) {
+        changed();
         informations.addAll(newArrayList(message));
     }
 
     void addErrors(String... message) {
+        changed();
         errors.addAll(newArrayList(message));
     }
 
+    /**
+     * Incremented on each modification, allowing to detect changes since a previous read.
+     */
+    public long version() {
+        return version.get();
+    }
+
+    void changed() {
+        version.incrementAndGet();
+    }
+
     public Duration duration() {
         return Duration.of(stopwatch.elapsed(TimeUnit.MICROSECONDS), ChronoUnit.MICROS);
     }
@@ -122,6 +147,7 @@ public class StepState {
     }
 
     public void setName(String name) {
+        changed();
         this.name = name;
     }
 
@@ -14,19 +14,28 @@ import com.chutneytesting.engine.domain.execution.StepDefinition;
 import com.chutneytesting.engine.domain.execution.StepDefinitionBuilder;
 import com.chutneytesting.engine.domain.execution.engine.StepExecutor;
 import com.chutneytesting.engine.domain.execution.engine.evaluation.StepDataEvaluator;
+import com.chutneytesting.engine.domain.execution.engine.scenario.IsolatedScenarioContext;
+import com.chutneytesting.engine.domain.execution.engine.scenario.LayeredContext;
 import com.chutneytesting.engine.domain.execution.engine.scenario.ScenarioContext;
 import com.chutneytesting.engine.domain.execution.engine.step.Step;
 import com.chutneytesting.engine.domain.execution.report.Status;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 
 public class ForEachStrategy implements StepExecutionStrategy {
 
+    private static final int DEFAULT_MAX_CONCURRENCY = 10;
+
     @Override
     public String getType() {
         return "for";
@@ -47,8 +56,7 @@ public class ForEachStrategy implements StepExecutionStrategy {
         final String indexName = (String) Optional.ofNullable(strategyDefinition.strategyProperties.get("index")).orElse("i");
         step.beginExecution(scenarioExecution);
         AtomicInteger index = new AtomicInteger(0);
-        Map<String, Object> context = new HashMap<>(scenarioContext);
-        context.putAll(localContext);
+        Map<String, Object> context = LayeredContext.of(scenarioContext, localContext);
         step.resolveName(context);
         if (step.isParentStep()) {
             List<Step> subSteps = List.copyOf(step.subSteps());
@@ -59,10 +67,9 @@ public class ForEachStrategy implements StepExecutionStrategy {
                 .peek(p -> step.addStepExecution(p.getLeft()))
                 .toList();
 
-            iterations.forEach(it -> {
-                Map<String, Object> mergedContext = new HashMap<>(localContext);
-                mergedContext.putAll(it.getRight());
-                DefaultStepExecutionStrategy.instance.execute(scenarioExecution, it.getLeft(), scenarioContext, mergedContext, strategies);
+            executeIterations(iterations, scenarioContext, strategyDefinition.strategyProperties, (it, iterationScenarioContext) -> {
+                Map<String, Object> mergedContext = LayeredContext.of(localContext, it.getRight());
+                DefaultStepExecutionStrategy.instance.execute(scenarioExecution, it.getLeft(), iterationScenarioContext, mergedContext, strategies);
             });
 
         } else {
@@ -71,16 +78,62 @@ public class ForEachStrategy implements StepExecutionStrategy {
                 .peek(e -> step.addStepExecution(e.getKey()))
                 .toList();
 
-            iterations.forEach(it -> {
-                Map<String, Object> mergedContext = new HashMap<>(localContext);
-                mergedContext.putAll(it.getRight());
-                it.getLeft().execute(scenarioExecution, scenarioContext, mergedContext);
+            executeIterations(iterations, scenarioContext, strategyDefinition.strategyProperties, (it, iterationScenarioContext) -> {
+                Map<String, Object> mergedContext = LayeredContext.of(localContext, it.getRight());
+                it.getLeft().execute(scenarioExecution, iterationScenarioContext, mergedContext);
             });
         }
         step.endExecution(scenarioExecution);
         return step.status();
     }
 
+    /**
+     * Iterations run sequentially, unless the <i>parallel</i> property is set.<br>
+     * In that case, at most <i>maxConcurrency</i> iterations run at the same time, each one with its own scenario context.
+     * Their outputs are then written back into the scenario context following the dataset order.
+     */
+    private static void executeIterations(List<Pair<Step, Map<String, Object>>> iterations,
+                                          ScenarioContext scenarioContext,
+                                          StrategyProperties strategyProperties,
+                                          BiConsumer<Pair<Step, Map<String, Object>>, ScenarioContext> iterationExecution) {
+        if (!Boolean.parseBoolean(String.valueOf(strategyProperties.get("parallel")))) {
+            iterations.forEach(it -> iterationExecution.accept(it, scenarioContext));
+            return;
+        }
+
+        int maxConcurrency = Optional.ofNullable(strategyProperties.get("maxConcurrency"))
+            .map(String::valueOf)
+            .map(Integer::parseInt)
+            .orElse(DEFAULT_MAX_CONCURRENCY);
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Property maxConcurrency must be a positive number");
+        }
+
+        List<IsolatedScenarioContext> iterationsContexts = iterations.stream()
+            .map(it -> new IsolatedScenarioContext(scenarioContext))
+            .toList();
+        List<Future<?>> executions = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(maxConcurrency, Thread.ofVirtual().name("for-each-", 0).factory())) {
+            for (int i = 0; i < iterations.size(); i++) {
+                Pair<Step, Map<String, Object>> iteration = iterations.get(i);
+                ScenarioContext iterationContext = iterationsContexts.get(i);
+                executions.add(executor.submit(() -> iterationExecution.accept(iteration, iterationContext)));
+            }
+        }
+        iterationsContexts.forEach(c -> scenarioContext.putAll(c.writes()));
+
+        for (Future<?> execution : executions) {
+            try {
+                execution.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : new RuntimeException(e.getCause());
+            }
+        }
+    }
+
     private static List<Map<String, Object>> getDataset(Step step, ScenarioContext scenarioContext, StepStrategyDefinition strategyDefinition, StepDataEvaluator evaluator) {
         List<Map<String, Object>> dataset = (List<Map<String, Object>>) step.dataEvaluator().evaluate(strategyDefinition.strategyProperties.get("dataset"), scenarioContext);
         if (dataset.isEmpty()) {
@@ -9,8 +9,8 @@ package com.chutneytesting.engine.domain.execution.strategies;
 
 import com.chutneytesting.action.spi.time.Duration;
 import com.chutneytesting.engine.domain.execution.ScenarioExecution;
+import com.chutneytesting.engine.domain.execution.engine.scenario.LayeredContext;
 import com.chutneytesting.engine.domain.execution.engine.scenario.ScenarioContext;
-import com.chutneytesting.engine.domain.execution.engine.scenario.ScenarioContextImpl;
 import com.chutneytesting.engine.domain.execution.engine.step.Step;
 import com.chutneytesting.engine.domain.execution.report.Status;
 import java.util.ArrayList;
@@ -68,9 +68,7 @@ public class RetryWithTimeOutStrategy implements StepExecutionStrategy {
             throw new IllegalStateException("Undefined parameter 'retryDelay'"); // TODO - Provide a default value instead
         }
 
-        ScenarioContextImpl mergedContext = new ScenarioContextImpl();
-        mergedContext.putAll(scenarioContext);
-        mergedContext.putAll(localContext);
+        Map<String, Object> mergedContext = LayeredContext.of(scenarioContext, localContext);
 
         String evaluatedRetryDelay = step.dataEvaluator().evaluateString(retryDelay, mergedContext);
         String evaluatedTimeOut = step.dataEvaluator().evaluateString(timeOut, mergedContext);
@@ -88,7 +86,10 @@ public class RetryWithTimeOutStrategy implements StepExecutionStrategy {
             if (st == Status.FAILURE) {
                 try {
                     step.startWatch();
-                    TimeUnit.MILLISECONDS.sleep(retryDelayMs);
+                    if (scenarioExecution.awaitStop(retryDelayMs, TimeUnit.MILLISECONDS)) {
+                        step.stopExecution(scenarioExecution);
+                        return Status.STOPPED;
+                    }
                 } catch (InterruptedException e) {
                     throw new IllegalStateException("Sleeping between executions have been interrupted", e);
                 } finally {
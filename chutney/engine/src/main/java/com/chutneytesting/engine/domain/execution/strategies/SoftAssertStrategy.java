@@ -8,6 +8,7 @@
 package com.chutneytesting.engine.domain.execution.strategies;
 
 import com.chutneytesting.engine.domain.execution.ScenarioExecution;
+import com.chutneytesting.engine.domain.execution.engine.scenario.LayeredContext;
 import com.chutneytesting.engine.domain.execution.engine.scenario.ScenarioContext;
 import com.chutneytesting.engine.domain.execution.engine.step.Step;
 import com.chutneytesting.engine.domain.execution.report.Status;
@@ -38,8 +39,7 @@ public class SoftAssertStrategy implements StepExecutionStrategy {
 
         if (step.isParentStep()) {
             Status status = executeSubSteps(scenarioExecution, step, scenarioContext, localContext, strategies);
-            Map<String, Object> context = new HashMap<>(scenarioContext);
-            context.putAll(localContext);
+            Map<String, Object> context = LayeredContext.of(scenarioContext, localContext);
             step.resolveName(context);
             return softenStatus(status);
         }
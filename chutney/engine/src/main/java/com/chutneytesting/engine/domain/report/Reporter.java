@@ -26,28 +26,41 @@ import com.chutneytesting.engine.domain.execution.strategies.StepStrategyDefinit
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.core.Observer;
+import io.reactivex.rxjava3.disposables.Disposable;
 import io.reactivex.rxjava3.schedulers.Schedulers;
-import io.reactivex.rxjava3.subjects.ReplaySubject;
+import io.reactivex.rxjava3.subjects.PublishSubject;
 import io.reactivex.rxjava3.subjects.Subject;
+import io.reactivex.rxjava3.subjects.UnicastSubject;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Consumer;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Publishes execution reports built from execution events.
+ * <p>
+ * Each step event is published as a {@link StepReportDelta} holding the report of the changed step only,
+ * and the whole report tree is built for subscribers when they connect and when the execution ends.<br>
+ * Reports of ended steps are kept until they change again, so a delta only rebuilds steps still in progress.
+ */
 public class Reporter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(Reporter.class);
     private static final long DEFAULT_RETENTION_DELAY_SECONDS = 5;
 
-    private final Map<Long, Subject<StepExecutionReport>> reportsPublishers = new ConcurrentHashMap<>();
+    private final Map<Long, Subject<StepReportDelta>> deltasPublishers = new ConcurrentHashMap<>();
     private final Map<Long, Step> rootSteps = new ConcurrentHashMap<>();
+    private final Map<Long, StepsPaths> stepsPaths = new ConcurrentHashMap<>();
+    private final Map<Long, Map<Step, EndedStepReport>> endedStepsReports = new ConcurrentHashMap<>();
+    private final Map<Long, StepExecutionReport> lastReports = new ConcurrentHashMap<>();
     private long retentionDelaySeconds;
 
     public Reporter() {
@@ -59,10 +72,44 @@ public class Reporter {
         busRegistration();
     }
 
+    /**
+     * @return whole report trees of the execution, rebuilt from its deltas
+     */
     public Observable<StepExecutionReport> subscribeOnExecution(Long executionId) {
         LOGGER.trace("Subscribe for execution {}", executionId);
-        return Optional.ofNullable((Observable<StepExecutionReport>) reportsPublishers.get(executionId))
-            .orElseGet(Observable::empty);
+        Observable<StepReportDelta> deltas = subscribeOnExecutionDeltas(executionId);
+        return Observable.defer(() -> {
+            AtomicReference<StepExecutionReport> report = new AtomicReference<>();
+            return deltas
+                .filter(delta -> report.get() != null || delta.path().isEmpty())
+                .map(delta -> report.updateAndGet(delta::applyTo));
+        });
+    }
+
+    /**
+     * @return changed steps reports of the execution, starting with the whole report when the execution is already started,
+     * and ending with the whole last report when the execution ends
+     */
+    public Observable<StepReportDelta> subscribeOnExecutionDeltas(Long executionId) {
+        LOGGER.trace("Subscribe to deltas for execution {}", executionId);
+        Subject<StepReportDelta> publisher = deltasPublishers.get(executionId);
+        if (publisher == null) {
+            return Observable.empty();
+        }
+        return Observable.defer(() -> {
+            UnicastSubject<StepReportDelta> deltas = UnicastSubject.create();
+            Disposable subscription = publisher.subscribe(deltas::onNext, deltas::onError, deltas::onComplete);
+            StepExecutionReport lastReport = lastReports.get(executionId);
+            if (lastReport != null) {
+                subscription.dispose();
+                return Observable.just(StepReportDelta.ofRootReport(lastReport));
+            }
+            Observable<StepReportDelta> nextDeltas = deltas.doOnDispose(subscription::dispose);
+            if (!stepsPaths.containsKey(executionId)) {
+                return nextDeltas;
+            }
+            return nextDeltas.startWithItem(StepReportDelta.ofRootReport(generateRunningReport(executionId)));
+        });
     }
 
     public void setRetentionDelaySeconds(long retentionDelaySeconds) {
@@ -71,57 +118,124 @@ public class Reporter {
 
     public void createPublisher(Long executionId, Step rootStep) {
         LOGGER.trace("Create publisher for execution {}", executionId);
-        reportsPublishers.put(executionId, ReplaySubject.<StepExecutionReport>createWithSize(1).toSerialized());
+        deltasPublishers.put(executionId, PublishSubject.<StepReportDelta>create().toSerialized());
+        endedStepsReports.put(executionId, new ConcurrentHashMap<>());
         rootSteps.put(executionId, rootStep);
-        LOGGER.debug("Publishers map size : {}", reportsPublishers.size());
+        LOGGER.debug("Publishers map size : {}", deltasPublishers.size());
     }
 
     private void storeRootStepAndPublishReport(StartScenarioExecutionEvent event) {
         LOGGER.trace("Store root step for execution {}", event.executionId());
         rootSteps.put(event.executionId(), event.step);
-        publishReport(event);
+        stepsPaths.put(event.executionId(), new StepsPaths());
+        publishStepChange(event, event.step);
     }
 
-    private void publishReport(Event event) {
-        LOGGER.trace("Publish report for execution {}", event.executionId());
-        doIfPublisherExists(event.executionId(), (observer) -> {
+    private void beginStepAndPublishReport(BeginStepExecutionEvent event) {
+        Optional.ofNullable(stepsPaths.get(event.executionId())).ifPresent(paths -> paths.begin(event.step));
+        publishStepChange(event, event.step);
+    }
+
+    private void storeEndedStepAndPublishReport(EndStepExecutionEvent event) {
+        Map<Step, EndedStepReport> endedReports = endedStepsReports.get(event.executionId());
+        if (endedReports != null) {
             try {
-                observer.onNext(generateRunningReport(event.executionId()));
+                long version = event.step.version();
+                StepExecutionReport report = generateReport(event.step, Step::status, getEnvironment(rootSteps.get(event.executionId())), endedReports);
+                endedReports.put(event.step, new EndedStepReport(version, report));
             } catch (Exception e) {
-                LOGGER.warn("Failed to generate report for execution {}", event.executionId(), e);
+                LOGGER.warn("Failed to generate report of ended step {} for execution {}", event.step.name(), event.executionId(), e);
             }
-        });
+        }
+        Optional.ofNullable(stepsPaths.get(event.executionId())).ifPresent(paths -> paths.end(event.step));
+        publishStepChange(event, event.step);
     }
 
-    private void publishLastReport(Event event) {
-        LOGGER.trace("Publish report for execution {}", event.executionId());
-        doIfPublisherExists(event.executionId(), (observer) -> {
+    private void publishStepChange(Event event, Step step) {
+        LOGGER.trace("Publish report delta for execution {}", event.executionId());
+        Subject<StepReportDelta> publisher = deltasPublishers.get(event.executionId());
+        if (publisher == null || !publisher.hasObservers()) {
+            return;
+        }
+        try {
+            publisher.onNext(generateDelta(event.executionId(), step));
+        } catch (Exception e) {
+            LOGGER.warn("Failed to generate report delta for execution {}", event.executionId(), e);
+        }
+    }
+
+    private void publishReportAndCompletePublisher(Event event) {
+        long executionId = event.executionId();
+        endedStepsReports.remove(executionId);
+        stepsPaths.remove(executionId);
+        Subject<StepReportDelta> publisher = deltasPublishers.get(executionId);
+        if (publisher != null) {
+            LOGGER.trace("Publish report for execution {}", executionId);
             try {
-                observer.onNext(generateLastReport(event.executionId()));
+                StepExecutionReport lastReport = generateLastReport(executionId);
+                lastReports.put(executionId, lastReport);
+                publisher.onNext(StepReportDelta.ofRootReport(lastReport));
             } catch (Exception e) {
-                LOGGER.warn("Failed to generate report for execution {}", event.executionId(), e);
+                LOGGER.warn("Failed to generate report for execution {}", executionId, e);
             }
-        });
+            completePublisher(executionId, publisher);
+        }
     }
 
-    private void publishReportAndCompletePublisher(Event event) {
-        doIfPublisherExists(event.executionId(), (observer) -> {
-            publishLastReport(event);
-            completePublisher(event.executionId(), observer);
-        });
+    /**
+     * The changed step is published with its ancestors reports, which status may depend on it.<br>
+     * When the step is not found from its path, its closest running ancestor is published instead, as sub steps
+     * may have been added to it since its last publication, as iterations. The root step is published as a last resort.
+     */
+    private StepReportDelta generateDelta(long executionId, Step step) throws CannotGenerateReportException {
+        Step rootStep = rootSteps.get(executionId);
+        StepsPaths paths = stepsPaths.get(executionId);
+        if (rootStep == null || paths == null) {
+            throw new CannotGenerateReportException("Cannot generate report delta: Execution is not started.");
+        }
+
+        Step changedStep = step;
+        List<Integer> path = paths.pathOf(rootStep, changedStep);
+        if (path == null) {
+            changedStep = paths.runningParentOf(step).orElse(rootStep);
+            path = paths.pathOf(rootStep, changedStep);
+            if (path == null) {
+                changedStep = rootStep;
+                path = List.of();
+            }
+            paths.index(changedStep, path);
+        }
+        if (path.isEmpty()) {
+            return StepReportDelta.ofRootReport(generateRunningReport(executionId));
+        }
+
+        String env = getEnvironment(rootStep);
+        List<StepExecutionReport> ancestors = new ArrayList<>(path.size());
+        ancestors.add(reportBuilder(rootStep, runningStatus(rootStep), env).createStepExecutionReport());
+        Step ancestor = rootStep;
+        for (int index : path.subList(0, path.size() - 1)) {
+            ancestor = ancestor.subSteps().get(index);
+            ancestors.add(reportBuilder(ancestor, ancestor.status(), env).createStepExecutionReport());
+        }
+        StepExecutionReport report = subStepReport(changedStep, env, endedStepsReports.getOrDefault(executionId, Map.of()));
+        return new StepReportDelta(path, ancestors, report);
     }
 
     private StepExecutionReport generateRunningReport(long executionId) throws CannotGenerateReportException {
         Step step = rootSteps.get(executionId);
-        final Status calculatedRootStepStatus = step.status();
+        if (step == null) {
+            throw new CannotGenerateReportException("Cannot generate report: Step is null.");
+        }
+        final Status finalStatus = runningStatus(step);
+        return generateReport(step, s -> finalStatus, getEnvironment(step), endedStepsReports.getOrDefault(executionId, Map.of()));
+    }
 
-        final Status finalStatus;
+    private static Status runningStatus(Step rootStep) {
+        final Status calculatedRootStepStatus = rootStep.status();
         if (!calculatedRootStepStatus.equals(RUNNING) && !calculatedRootStepStatus.equals(PAUSED)) {
-            finalStatus = RUNNING;
-        } else {
-            finalStatus = calculatedRootStepStatus;
+            return RUNNING;
         }
-        return generateReport(step, s -> finalStatus, getEnvironment(step));
+        return calculatedRootStepStatus;
     }
 
     private StepExecutionReport generateLastReport(long executionId) throws CannotGenerateReportException {
@@ -137,6 +251,13 @@ public class Reporter {
     }
 
     StepExecutionReport generateReport(Step step, Function<Step, Status> statusSupplier, String env) throws CannotGenerateReportException {
+        return generateReport(step, statusSupplier, env, Map.of());
+    }
+
+    /**
+     * @param endedReports reports of ended steps, reused for sub steps which did not change since their end
+     */
+    private StepExecutionReport generateReport(Step step, Function<Step, Status> statusSupplier, String env, Map<Step, EndedStepReport> endedReports) throws CannotGenerateReportException {
         if (step == null) {
             throw new CannotGenerateReportException("Cannot generate report: Step is null.");
         }
@@ -144,25 +265,10 @@ public class Reporter {
         List<Step> subStepsCopy = new ArrayList<>(step.subSteps());
 
         try {
-            return new StepExecutionReportBuilder()
-                .setName(step.name())
-                .setEnvironment(env)
-                .setDuration(step.duration().toMillis())
-                .setStartDate(step.startDate())
-                .setStatus(statusSupplier.apply(step))
-                .setInformation(step.informations())
-                .setErrors(step.errors())
+            return reportBuilder(step, statusSupplier.apply(step), env)
                 .setSteps(subStepsCopy.stream()
-                    .map(subStep -> generateReport(subStep, Step::status, env))
+                    .map(subStep -> subStepReport(subStep, env, endedReports))
                     .collect(Collectors.toList()))
-                .setEvaluatedInputs(step.getEvaluatedInputs())
-                .setStepResults(step.getStepOutputs())
-                .setEvaluatedInputsSnapshot(step.getStepContextInputSnapshot())
-                .setStepResultsSnapshot(step.getStepContextOutputSnapshot())
-                .setScenarioContext(step.getScenarioContext())
-                .setType(step.type())
-                .setTarget(step.target())
-                .setStrategy(guardNullStrategy(step.strategy()))
                 .createStepExecutionReport();
         } catch (CannotGenerateReportException e) {
             throw e;
@@ -171,43 +277,119 @@ public class Reporter {
         }
     }
 
+    private StepExecutionReportBuilder reportBuilder(Step step, Status status, String env) {
+        return new StepExecutionReportBuilder()
+            .setName(step.name())
+            .setEnvironment(env)
+            .setDuration(step.duration().toMillis())
+            .setStartDate(step.startDate())
+            .setStatus(status)
+            .setInformation(step.informations())
+            .setErrors(step.errors())
+            .setEvaluatedInputs(step.getEvaluatedInputs())
+            .setStepResults(step.getStepOutputs())
+            .setEvaluatedInputsSnapshot(step.getStepContextInputSnapshot())
+            .setStepResultsSnapshot(step.getStepContextOutputSnapshot())
+            .setScenarioContext(step.getScenarioContext())
+            .setType(step.type())
+            .setTarget(step.target())
+            .setStrategy(guardNullStrategy(step.strategy()));
+    }
+
+    private StepExecutionReport subStepReport(Step subStep, String env, Map<Step, EndedStepReport> endedReports) {
+        EndedStepReport ended = endedReports.get(subStep);
+        if (ended != null && ended.version() == subStep.version()) {
+            return ended.report();
+        }
+        return generateReport(subStep, Step::status, env, endedReports);
+    }
+
     /* TODO mbb - hack - remove me when core module domain is decouple from lite-engine domain & API */
     private String guardNullStrategy(Optional<StepStrategyDefinition> strategy) {
         return strategy.map(stepStrategyDefinition -> stepStrategyDefinition.type).orElse(null);
     }
 
-    private void completePublisher(long executionId, Observer<StepExecutionReport> observer) {
+    private void completePublisher(long executionId, Observer<StepReportDelta> observer) {
         LOGGER.trace("Complete publisher for execution {}", executionId);
         observer.onComplete();
         if (retentionDelaySeconds > 0) {
             Completable.timer(retentionDelaySeconds, TimeUnit.SECONDS, Schedulers.io())
                 .subscribe(
-                    () -> {
-                        rootSteps.remove(executionId);
-                        reportsPublishers.remove(executionId);
-                        LOGGER.trace("Remove publisher for execution {}", executionId);
-                    },
+                    () -> removePublisher(executionId),
                     throwable -> LOGGER.error("Cannot remove publisher for execution {}", executionId, throwable)
                 );
         } else {
-            rootSteps.remove(executionId);
-            reportsPublishers.remove(executionId);
-            LOGGER.trace("Remove publisher for execution {}", executionId);
+            removePublisher(executionId);
         }
     }
 
-
-    private void doIfPublisherExists(long executionId, Consumer<Observer<StepExecutionReport>> consumer) {
-        Optional.ofNullable((Observer<StepExecutionReport>) reportsPublishers.get(executionId))
-            .ifPresent(consumer);
+    private void removePublisher(long executionId) {
+        rootSteps.remove(executionId);
+        deltasPublishers.remove(executionId);
+        lastReports.remove(executionId);
+        LOGGER.trace("Remove publisher for execution {}", executionId);
     }
 
     private void busRegistration() {
         RxBus bus = RxBus.getInstance();
         bus.register(StartScenarioExecutionEvent.class, this::storeRootStepAndPublishReport);
-        bus.register(BeginStepExecutionEvent.class, this::publishReport);
-        bus.register(EndStepExecutionEvent.class, this::publishReport);
-        bus.register(PauseStepExecutionEvent.class, this::publishReport);
+        bus.register(BeginStepExecutionEvent.class, this::beginStepAndPublishReport);
+        bus.register(EndStepExecutionEvent.class, this::storeEndedStepAndPublishReport);
+        bus.register(PauseStepExecutionEvent.class, e -> publishStepChange(e, e.step));
         bus.register(EndScenarioExecutionEvent.class, this::publishReportAndCompletePublisher);
     }
+
+    private record EndedStepReport(long version, StepExecutionReport report) {
+    }
+
+    /**
+     * Paths of the steps of an execution from its root step, so a changed step is found without walking the steps tree.
+     */
+    private static class StepsPaths {
+        private final Map<Step, List<Integer>> paths = new ConcurrentHashMap<>();
+        private final Set<Step> runningSteps = ConcurrentHashMap.newKeySet();
+
+        void begin(Step step) {
+            runningSteps.add(step);
+        }
+
+        void end(Step step) {
+            runningSteps.remove(step);
+        }
+
+        void index(Step step, List<Integer> path) {
+            paths.put(step, path);
+            List<Step> subSteps = new ArrayList<>(step.subSteps());
+            for (int i = 0; i < subSteps.size(); i++) {
+                List<Integer> subStepPath = new ArrayList<>(path);
+                subStepPath.add(i);
+                index(subSteps.get(i), List.copyOf(subStepPath));
+            }
+        }
+
+        /**
+         * @return the indexed path of the step, or null when it is not indexed or does not lead to the step anymore
+         */
+        List<Integer> pathOf(Step rootStep, Step step) {
+            List<Integer> path = paths.get(step);
+            if (path == null) {
+                return null;
+            }
+            try {
+                Step current = rootStep;
+                for (int index : path) {
+                    current = current.subSteps().get(index);
+                }
+                return current == step ? path : null;
+            } catch (IndexOutOfBoundsException e) {
+                return null;
+            }
+        }
+
+        Optional<Step> runningParentOf(Step step) {
+            return runningSteps.stream()
+                .filter(running -> running.subSteps().contains(step))
+                .findFirst();
+        }
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.report;
+
+import com.chutneytesting.engine.domain.execution.report.StepExecutionReport;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Report of a single step which changed during an execution.
+ *
+ * @param path      indexes of the step from the root step, empty for the root step itself
+ * @param ancestors reports of the step ancestors from the root step, without their sub steps
+ * @param report    the changed step report, with its sub steps
+ */
+public record StepReportDelta(List<Integer> path, List<StepExecutionReport> ancestors, StepExecutionReport report) {
+
+    static StepReportDelta ofRootReport(StepExecutionReport report) {
+        return new StepReportDelta(List.of(), List.of(), report);
+    }
+
+    /**
+     * @param previous the report tree to update, not used when the delta is the report of the root step
+     * @return the report tree with the changed step report, sharing the other sub steps reports with the previous one,
+     * or the previous one when the step is not found in it
+     */
+    public StepExecutionReport applyTo(StepExecutionReport previous) {
+        return applyTo(previous, 0);
+    }
+
+    private StepExecutionReport applyTo(StepExecutionReport previous, int depth) {
+        if (depth == path.size()) {
+            return report;
+        }
+        int index = path.get(depth);
+        if (index >= previous.steps.size()) {
+            return previous;
+        }
+        List<StepExecutionReport> steps = new ArrayList<>(previous.steps);
+        steps.set(index, applyTo(steps.get(index), depth + 1));
+        return withSteps(ancestors.get(depth), steps);
+    }
+
+    private static StepExecutionReport withSteps(StepExecutionReport report, List<StepExecutionReport> steps) {
+        return new StepExecutionReport(
+            report.executionId,
+            report.name,
+            report.environment,
+            report.duration,
+            report.startDate,
+            report.status,
+            report.information,
+            report.errors,
+            steps,
+            report.type,
+            report.targetName,
+            report.targetUrl,
+            report.strategy,
+            report.evaluatedInputs,
+            report.stepResults,
+            report.scenarioContext,
+            report.evaluatedInputsSnapshot,
+            report.stepResultsSnapshot
+        );
+    }
+}
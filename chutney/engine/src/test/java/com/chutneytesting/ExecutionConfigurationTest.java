@@ -27,8 +27,11 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 import org.assertj.core.util.Maps;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -150,6 +153,36 @@ public class ExecutionConfigurationTest {
         assertThat(executorService.isShutdown()).isTrue();
     }
 
+    @Test
+    public void should_run_more_concurrent_executions_on_virtual_threads() throws Exception {
+        int executions = 100;
+        ExecutionConfiguration platformThreads = new ExecutionConfiguration(5L, Executors.newFixedThreadPool(10), emptyMap(), null, null);
+        ExecutionConfiguration virtualThreads = new ExecutionConfiguration(5L, Executors.newVirtualThreadPerTaskExecutor(), emptyMap(), null, null);
+
+        // Only as many blocking executions as platform threads can run at once, whereas virtual threads run them all
+        assertThat(concurrentExecutions(platformThreads, executions)).isEqualTo(10);
+        assertThat(concurrentExecutions(virtualThreads, executions)).isEqualTo(executions);
+    }
+
+    private int concurrentExecutions(ExecutionConfiguration executionConfiguration, int executions) throws Exception {
+        ActionTemplate actionTemplate = new ActionTemplateParserV2().parse(BlockingAction.class).result();
+        Map<String, ActionTemplate> actionTemplatesByType = (Map<String, ActionTemplate>) ReflectionTestUtils.getField(executionConfiguration.actionTemplateRegistry(), "actionTemplatesByType");
+        actionTemplatesByType.put("blocking", actionTemplate);
+        BlockingAction.started = new CountDownLatch(executions);
+        BlockingAction.release = new CountDownLatch(1);
+        StepDefinitionRequestDto blockingStep = new StepDefinitionRequestDto("blocking", null, null, "blocking", emptyMap(), null, emptyMap(), emptyMap());
+        ExecutionRequestDto requestDto = new ExecutionRequestDto(blockingStep, FAKE_ENV, dataset);
+
+        try (TestEngine testEngine = executionConfiguration.embeddedTestEngine()) {
+            List<Long> executionIds = IntStream.range(0, executions).mapToObj(i -> testEngine.executeAsync(requestDto)).toList();
+            BlockingAction.started.await(2, TimeUnit.SECONDS);
+            int concurrentExecutions = (int) (executions - BlockingAction.started.getCount());
+            BlockingAction.release.countDown();
+            executionIds.forEach(id -> assertThat(testEngine.receiveNotification(id).blockingLast().status).isEqualTo(StatusDto.SUCCESS));
+            return concurrentExecutions;
+        }
+    }
+
     private StepDefinitionRequestDto createSucessStep() {
         return new StepDefinitionRequestDto(
             "scenario name",
@@ -193,6 +226,26 @@ public class ExecutionConfigurationTest {
         );
     }
 
+    public static class BlockingAction implements Action {
+
+        private static volatile CountDownLatch started;
+        private static volatile CountDownLatch release;
+
+        public BlockingAction() {
+        }
+
+        @Override
+        public ActionExecutionResult execute() {
+            started.countDown();
+            try {
+                return release.await(10, TimeUnit.SECONDS) ? ActionExecutionResult.ok() : ActionExecutionResult.ko();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return ActionExecutionResult.ko();
+            }
+        }
+    }
+
     public static class ErrorAction implements Action {
 
         public ErrorAction() {
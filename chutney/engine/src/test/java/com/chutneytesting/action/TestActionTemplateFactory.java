@@ -21,7 +21,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 public abstract class TestActionTemplateFactory {
     private TestActionTemplateFactory() {
@@ -172,6 +176,32 @@ public abstract class TestActionTemplateFactory {
         }
     }
 
+    public static class BarrierAction implements Action {
+
+        private static final Map<String, CyclicBarrier> BARRIERS = new ConcurrentHashMap<>();
+
+        private final String name;
+        private final int parties;
+        private final Duration delay;
+
+        public BarrierAction(@Input("name") String name, @Input("parties") Integer parties, @Input("delay") String delay) {
+            this.name = name;
+            this.parties = parties;
+            this.delay = Duration.parse(delay);
+        }
+
+        @Override
+        public ActionExecutionResult execute() {
+            try {
+                BARRIERS.computeIfAbsent(name, n -> new CyclicBarrier(parties)).await(5, TimeUnit.SECONDS);
+                TimeUnit.MILLISECONDS.sleep(delay.toMilliseconds());
+            } catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+                return ActionExecutionResult.ko();
+            }
+            return ActionExecutionResult.ok();
+        }
+    }
+
     public static class ContextPutAction implements Action {
 
         private final Map<String, Object> entries;
@@ -0,0 +1,41 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.domain;
+
+import static com.chutneytesting.action.TestActionTemplateFactory.buildActionTemplate;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chutneytesting.action.TestActionTemplateFactory.SuccessAction;
+import com.chutneytesting.action.spi.Action;
+import com.chutneytesting.action.spi.ActionExecutionResult;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ActionPinningDiagnosticTest {
+
+    @Test
+    void should_find_actions_declaring_synchronized_methods() {
+        ActionTemplateLoader actionTemplateLoader = () -> List.of(
+            buildActionTemplate("success", SuccessAction.class),
+            buildActionTemplate("synchronized", SynchronizedAction.class)
+        );
+        ActionTemplateRegistry registry = new DefaultActionTemplateRegistry(new ActionTemplateLoaders(List.of(actionTemplateLoader)));
+
+        Map<String, List<String>> synchronizedMethods = ActionPinningDiagnostic.synchronizedMethods(registry);
+
+        assertThat(synchronizedMethods).containsOnly(Map.entry("synchronized", List.of("SynchronizedAction#execute")));
+    }
+
+    public static class SynchronizedAction implements Action {
+        @Override
+        public synchronized ActionExecutionResult execute() {
+            return ActionExecutionResult.ok();
+        }
+    }
+}
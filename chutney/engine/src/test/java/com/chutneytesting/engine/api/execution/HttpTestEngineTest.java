@@ -95,5 +95,6 @@ public class HttpTestEngineTest {
         assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> httpTestEngine.resumeExecution(null));
         assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> httpTestEngine.stopExecution(null));
         assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> httpTestEngine.receiveNotification(null));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> httpTestEngine.receiveNotificationDeltas(null));
     }
 }
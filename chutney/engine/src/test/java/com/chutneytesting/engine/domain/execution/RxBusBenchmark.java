@@ -0,0 +1,87 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution;
+
+import com.chutneytesting.engine.domain.execution.command.PauseExecutionCommand;
+import com.chutneytesting.engine.domain.execution.command.ResumeExecutionCommand;
+import com.chutneytesting.engine.domain.execution.command.StopExecutionCommand;
+import com.chutneytesting.engine.domain.execution.event.Event;
+import io.reactivex.rxjava3.disposables.Disposable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Event throughput of the bus with as many subscribers as running executions register.<br>
+ * Each execution registers its own command subscribers, while type subscribers stand for the reporter.<br>
+ * Run with the main method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class RxBusBenchmark {
+
+    @Param({"200"})
+    public int executions;
+
+    private RxBus bus;
+    private final List<Disposable> subscriptions = new ArrayList<>();
+    private final LongAdder received = new LongAdder();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bus = new RxBus();
+        subscriptions.add(bus.register(PauseExecutionCommand.class, e -> received.increment()));
+        subscriptions.add(bus.register(ResumeExecutionCommand.class, e -> received.increment()));
+        subscriptions.add(bus.register(StopExecutionCommand.class, e -> received.increment()));
+        subscriptions.add(bus.register(Event.class, e -> received.increment()));
+        for (long executionId = 0; executionId < executions; executionId++) {
+            subscriptions.add(bus.registerOnExecutionId(PauseExecutionCommand.class, executionId, e -> received.increment()));
+            subscriptions.add(bus.registerOnExecutionId(ResumeExecutionCommand.class, executionId, e -> received.increment()));
+            subscriptions.add(bus.registerOnExecutionId(StopExecutionCommand.class, executionId, e -> received.increment()));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        subscriptions.forEach(Disposable::dispose);
+        subscriptions.clear();
+    }
+
+    @Benchmark
+    public void post_execution_event() {
+        bus.post(new PauseExecutionCommand(ThreadLocalRandom.current().nextLong(executions)));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RxBusBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chutneytesting.engine.domain.execution.command.PauseExecutionCommand;
+import com.chutneytesting.engine.domain.execution.command.ResumeExecutionCommand;
+import com.chutneytesting.engine.domain.execution.command.StopExecutionCommand;
+import com.chutneytesting.engine.domain.execution.event.Event;
+import io.reactivex.rxjava3.disposables.Disposable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class RxBusTest {
+
+    private final RxBus sut = new RxBus();
+
+    @Test
+    void should_route_events_to_their_execution_subscribers() {
+        List<Event> firstExecutionEvents = new ArrayList<>();
+        List<Event> secondExecutionEvents = new ArrayList<>();
+        sut.registerOnExecutionId(PauseExecutionCommand.class, 1L, firstExecutionEvents::add);
+        sut.registerOnExecutionId(PauseExecutionCommand.class, 2L, secondExecutionEvents::add);
+
+        PauseExecutionCommand firstPause = new PauseExecutionCommand(1L);
+        sut.post(firstPause);
+        sut.post(new ResumeExecutionCommand(1L));
+        sut.post(new PauseExecutionCommand(3L));
+
+        assertThat(firstExecutionEvents).containsExactly(firstPause);
+        assertThat(secondExecutionEvents).isEmpty();
+    }
+
+    @Test
+    void should_notify_type_subscribers_of_all_executions_and_sub_types() {
+        List<PauseExecutionCommand> pauses = new ArrayList<>();
+        List<Event> events = new ArrayList<>();
+        sut.register(PauseExecutionCommand.class, pauses::add);
+        sut.register(Event.class, events::add);
+
+        PauseExecutionCommand pause = new PauseExecutionCommand(1L);
+        StopExecutionCommand stop = new StopExecutionCommand(2L);
+        sut.post(pause);
+        sut.post(stop);
+        sut.post("not an event");
+
+        assertThat(pauses).containsExactly(pause);
+        assertThat(events).containsExactly(pause, stop);
+    }
+
+    @Test
+    void should_release_execution_channel_when_its_subscribers_are_disposed() {
+        List<Event> events = new ArrayList<>();
+        Disposable pause = sut.registerOnExecutionId(PauseExecutionCommand.class, 1L, events::add);
+        AtomicReference<Disposable> stop = new AtomicReference<>();
+        stop.set(sut.registerOnExecutionId(StopExecutionCommand.class, 1L, e -> {
+            pause.dispose();
+            stop.get().dispose();
+        }));
+        assertThat(sut.executionChannelsCount()).isEqualTo(1);
+
+        sut.post(new StopExecutionCommand(1L));
+        sut.post(new PauseExecutionCommand(1L));
+
+        assertThat(pause.isDisposed()).isTrue();
+        assertThat(stop.get().isDisposed()).isTrue();
+        assertThat(events).isEmpty();
+        assertThat(sut.executionChannelsCount()).isZero();
+    }
+
+    @Test
+    void should_notify_each_subscriber_serially_when_posting_from_many_threads() throws InterruptedException {
+        int threads = 8;
+        int eventsByThread = 1000;
+        AtomicInteger concurrentNotifications = new AtomicInteger();
+        AtomicInteger maxConcurrentNotifications = new AtomicInteger();
+        List<Event> events = new ArrayList<>();
+        sut.register(PauseExecutionCommand.class, e -> {
+            maxConcurrentNotifications.accumulateAndGet(concurrentNotifications.incrementAndGet(), Math::max);
+            events.add(e);
+            concurrentNotifications.decrementAndGet();
+        });
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int t = 0; t < threads; t++) {
+                long executionId = t;
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < eventsByThread; i++) {
+                        sut.post(new PauseExecutionCommand(executionId));
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(maxConcurrentNotifications.get()).isEqualTo(1);
+        assertThat(events).hasSize(threads * eventsByThread);
+    }
+
+    @Test
+    void should_dispose_failing_subscriber_and_keep_notifying_others() {
+        List<Event> events = new ArrayList<>();
+        Disposable failing = sut.register(PauseExecutionCommand.class, e -> {
+            throw new IllegalStateException("subscriber failure");
+        });
+        sut.register(PauseExecutionCommand.class, events::add);
+
+        sut.post(new PauseExecutionCommand(1L));
+        sut.post(new PauseExecutionCommand(2L));
+
+        assertThat(events).hasSize(2);
+        assertThat(failing.isDisposed()).isTrue();
+    }
+}
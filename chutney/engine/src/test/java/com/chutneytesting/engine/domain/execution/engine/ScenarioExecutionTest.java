@@ -8,6 +8,7 @@
 package com.chutneytesting.engine.domain.execution.engine;
 
 import static com.chutneytesting.engine.domain.execution.RxBus.getInstance;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
@@ -16,6 +17,8 @@ import com.chutneytesting.engine.domain.execution.ScenarioExecution;
 import com.chutneytesting.engine.domain.execution.command.PauseExecutionCommand;
 import com.chutneytesting.engine.domain.execution.command.ResumeExecutionCommand;
 import com.chutneytesting.engine.domain.execution.command.StopExecutionCommand;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import org.junit.jupiter.api.Test;
 
 public class ScenarioExecutionTest {
@@ -52,4 +55,55 @@ public class ScenarioExecutionTest {
             }
         );
     }
+
+    @Test
+    public void resume_should_release_paused_execution_at_once() throws Exception {
+        ScenarioExecution scenarioExecution = ScenarioExecution.createScenarioExecution(null);
+        getInstance().post(new PauseExecutionCommand(scenarioExecution.executionId));
+        await().atMost(1, SECONDS).until(scenarioExecution::hasToPause);
+
+        CompletableFuture<Void> waiting = CompletableFuture.runAsync(scenarioExecution::waitForRestart);
+        getInstance().post(new ResumeExecutionCommand(scenarioExecution.executionId));
+
+        waiting.get(200, MILLISECONDS);
+    }
+
+    @Test
+    public void stop_should_release_paused_execution() throws Exception {
+        ScenarioExecution scenarioExecution = ScenarioExecution.createScenarioExecution(null);
+        getInstance().post(new PauseExecutionCommand(scenarioExecution.executionId));
+        await().atMost(1, SECONDS).until(scenarioExecution::hasToPause);
+
+        CompletableFuture<Void> waiting = CompletableFuture.runAsync(scenarioExecution::waitForRestart);
+        getInstance().post(new StopExecutionCommand(scenarioExecution.executionId));
+
+        waiting.get(200, MILLISECONDS);
+        assertThat(scenarioExecution.hasToStop()).isTrue();
+    }
+
+    @Test
+    public void stop_should_interrupt_blocking_actions_and_waits() throws Exception {
+        ScenarioExecution scenarioExecution = ScenarioExecution.createScenarioExecution(null);
+
+        CompletableFuture<Boolean> awaitStop = CompletableFuture.supplyAsync(() -> {
+            try {
+                return scenarioExecution.awaitStop(10, SECONDS);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        CompletableFuture<String> blockingAction = CompletableFuture.supplyAsync(() -> scenarioExecution.interruptibleOnStop(() -> {
+            try {
+                new CountDownLatch(1).await();
+                return "not interrupted";
+            } catch (InterruptedException e) {
+                return "interrupted";
+            }
+        }));
+        await().pollDelay(100, MILLISECONDS).until(() -> true);
+        getInstance().post(new StopExecutionCommand(scenarioExecution.executionId));
+
+        assertThat(awaitStop.get(1, SECONDS)).isTrue();
+        assertThat(blockingAction.get(1, SECONDS)).isEqualTo("interrupted");
+    }
 }
@@ -21,6 +21,7 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.expression.spel.SpelCompilerMode;
 
 @SuppressWarnings("unchecked")
 public class StepDataEvaluatorTest {
@@ -267,6 +268,28 @@ public class StepDataEvaluatorTest {
         assertThat(((Map) evaluatedInputs.get("objectWithSpaceBeforePrefix")).get("k5")).isEqualTo("value5");
     }
 
+    @Test
+    public void should_reuse_parsed_expressions() {
+        Map<String, Object> context = Map.of("var", "toto");
+
+        sut.evaluate("${#var}", context);
+        sut.evaluate("${#var} - ${#var}", context);
+
+        assertThat(sut.expressionCache().size()).isEqualTo(1);
+        assertThat(sut.expressionCache().stats().missCount()).isEqualTo(1);
+        assertThat(sut.expressionCache().stats().hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_evaluate_with_compiled_expressions() {
+        StepDataEvaluator compilingEvaluator = new StepDataEvaluator(new SpelFunctions(), 10, SpelCompilerMode.MIXED);
+        Map<String, Object> context = Map.of("var", "toto");
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(compilingEvaluator.evaluate("${#var + ' - ' + 'tata'}", context)).isEqualTo("toto - tata");
+        }
+    }
+
     private static class TestObject {
         private final String attribute;
 
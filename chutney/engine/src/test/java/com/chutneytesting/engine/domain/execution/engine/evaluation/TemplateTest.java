@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution.engine.evaluation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TemplateTest {
+
+    private final Function<String, Object> evaluator = String::toUpperCase;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "raw value", "unclosed ${ expression", "\\${escaped} and \\${escaped}"})
+    void should_compile_literals_as_constants(String literal) {
+        Template template = Template.compile(literal);
+
+        assertThat(template.expressions()).isEmpty();
+        assertThat(template.evaluate(s -> {
+            throw new IllegalStateException();
+        }, false)).isEqualTo(literal.replace("\\${", "${"));
+    }
+
+    @Test
+    void should_evaluate_single_expression_as_object() {
+        Template template = Template.compile(" ${#var} ");
+
+        assertThat(template.expressions()).containsExactly("#var");
+        assertThat(template.evaluate(s -> 42, false)).isEqualTo(42);
+        assertThat(template.evaluate(s -> 42, true)).isEqualTo(" ${#var} ");
+    }
+
+    @Test
+    void should_evaluate_expressions_as_string_concatenation() {
+        Template template = Template.compile("a ${b} \\${c} ${d}e");
+
+        assertThat(template.expressions()).containsExactly("b", "d");
+        assertThat(template.evaluate(evaluator, false)).isEqualTo("a B ${c} De");
+    }
+
+    @Test
+    void should_keep_unresolved_expressions_when_silent() {
+        Template template = Template.compile("${a} - ${b}");
+        Function<String, Object> failing = s -> {
+            if (s.equals("b")) {
+                throw new EvaluationException(s);
+            }
+            return s.toUpperCase();
+        };
+
+        assertThat(template.evaluate(failing, true)).isEqualTo("A - ${b}");
+        assertThatThrownBy(() -> template.evaluate(failing, false)).isInstanceOf(EvaluationException.class);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution.engine.scenario;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class LayeredContextTest {
+
+    @Test
+    void should_read_through_layers_last_one_first() {
+        ScenarioContext scenarioContext = new ScenarioContextImpl();
+        scenarioContext.put("a", "scenario");
+        scenarioContext.put("b", "scenario");
+        Map<String, Object> localContext = new HashMap<>();
+        localContext.put("b", "local");
+        localContext.put("c", null);
+
+        Map<String, Object> context = LayeredContext.of(scenarioContext, localContext);
+
+        assertThat(context.get("a")).isEqualTo("scenario");
+        assertThat(context.get("b")).isEqualTo("local");
+        assertThat(context.containsKey("c")).isTrue();
+        assertThat(context.get("c")).isNull();
+        assertThat(context.getOrDefault("d", "default")).isEqualTo("default");
+        assertThat(context).containsOnlyKeys("a", "b", "c");
+    }
+
+    @Test
+    void should_reflect_layers_modifications() {
+        ScenarioContext scenarioContext = new ScenarioContextImpl();
+        Map<String, Object> context = LayeredContext.of(scenarioContext);
+
+        scenarioContext.put("output", "value");
+
+        assertThat(context.get("output")).isEqualTo("value");
+    }
+
+    @Test
+    void should_be_read_only() {
+        Map<String, Object> context = LayeredContext.of(new ScenarioContextImpl());
+
+        assertThatThrownBy(() -> context.put("key", "value")).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
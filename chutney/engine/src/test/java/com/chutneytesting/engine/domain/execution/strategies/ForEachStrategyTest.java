@@ -162,6 +162,37 @@ class ForEachStrategyTest {
         assertThat(result.status).isEqualTo(SUCCESS);
     }
 
+    @Test
+    public void should_repeat_step_in_parallel_and_keep_iterations_order() {
+        // G
+        final TestEngine testEngine = new ExecutionConfiguration().embeddedTestEngine();
+        ExecutionRequestDto requestDto = Jsons.loadJsonFromClasspath("scenarios_examples/forEachStrategy/parallel_step_iterations.json", ExecutionRequestDto.class);
+
+        // W
+        StepExecutionReportDto result = testEngine.execute(requestDto);
+
+        // T
+        assertThat(result.status).isEqualTo(SUCCESS);
+        assertThat(result.steps.getFirst().steps)
+            .extracting(s -> s.name)
+            .containsExactly(
+                "0 - Hello website on A with user userA",
+                "1 - Hello website on B with user userB",
+                "2 - Hello website on C with user userC",
+                "3 - Hello website on D with user userD",
+                "4 - Hello website on E with user userE",
+                "5 - Hello website on F with user userF"
+            );
+        assertThat(result.steps.getFirst().steps)
+            .extracting(s -> s.status)
+            .containsOnly(SUCCESS);
+        assertThat(result.steps.get(1).information)
+            .containsExactlyInAnyOrder(
+                "Validation [all_iterations_outputs : ${#check_0 == \"/A/userA/0\" && #check_5 == \"/F/userF/5\"}] : OK",
+                "Validation [last_iteration_output : ${#lastEnv == \"F\"}] : OK"
+            );
+    }
+
     @Test
     public void should_iterate_once_over_dataset_constant_if_datatable_is_empty() {
         // G
@@ -215,6 +215,96 @@ public class ReporterTest {
         assertThat(step.status()).isEqualTo(SUCCESS);
     }
 
+    @Test
+    public void should_reuse_report_of_ended_step_until_it_changes() {
+        Step subStep1 = step.subSteps().getFirst();
+        Step subStep11 = subStep1.subSteps().getFirst();
+        Step subStep12 = subStep1.subSteps().get(1);
+
+        sut.createPublisher(scenarioExecution.executionId, step);
+        TestObserver<StepExecutionReport> observer = sut.subscribeOnExecution(scenarioExecution.executionId).test();
+        RxBus.getInstance().post(new StartScenarioExecutionEvent(scenarioExecution, step));
+        step.beginExecution(scenarioExecution);
+        subStep1.beginExecution(scenarioExecution);
+        subStep11.beginExecution(scenarioExecution);
+        subStep11.success();
+        subStep11.endExecution(scenarioExecution);
+        subStep12.beginExecution(scenarioExecution);
+
+        List<StepExecutionReport> reports = observer.values();
+        StepExecutionReport endedStepReport = reports.get(reports.size() - 2).steps.getFirst().steps.getFirst();
+        assertThat(reports.getLast().steps.getFirst().steps.getFirst()).isSameAs(endedStepReport);
+        assertThat(endedStepReport.status).isEqualTo(SUCCESS);
+
+        subStep11.addInformation("changed after its end");
+        subStep12.success();
+        subStep12.endExecution(scenarioExecution);
+        subStep1.endExecution(scenarioExecution);
+
+        StepExecutionReport changedStepReport = observer.values().getLast().steps.getFirst().steps.getFirst();
+        assertThat(changedStepReport).isNotSameAs(endedStepReport);
+        assertThat(changedStepReport.information).containsExactly("changed after its end");
+
+        observer.dispose();
+    }
+
+    @Test
+    public void should_publish_changed_step_reports_as_deltas() {
+        Step subStep1 = step.subSteps().getFirst();
+        Step subStep11 = subStep1.subSteps().getFirst();
+
+        sut.createPublisher(scenarioExecution.executionId, step);
+        TestObserver<StepReportDelta> deltasObserver = sut.subscribeOnExecutionDeltas(scenarioExecution.executionId).test();
+        RxBus.getInstance().post(new StartScenarioExecutionEvent(scenarioExecution, step));
+        step.beginExecution(scenarioExecution);
+        subStep1.beginExecution(scenarioExecution);
+        subStep11.beginExecution(scenarioExecution);
+        subStep11.success();
+        subStep11.endExecution(scenarioExecution);
+
+        assertThat(deltasObserver.values()).map(StepReportDelta::path)
+            .containsExactly(List.of(), List.of(), List.of(0), List.of(0, 0), List.of(0, 0));
+        StepReportDelta lastDelta = deltasObserver.values().getLast();
+        assertThat(lastDelta.report().status).isEqualTo(SUCCESS);
+        assertThat(lastDelta.ancestors()).map(report -> report.status).containsExactly(RUNNING, RUNNING);
+        assertThat(lastDelta.ancestors()).allSatisfy(report -> assertThat(report.steps).isEmpty());
+
+        TestObserver<StepReportDelta> lateObserver = sut.subscribeOnExecutionDeltas(scenarioExecution.executionId).test();
+        lateObserver.assertValueCount(1);
+        assertThat(lateObserver.values().getFirst().path()).isEmpty();
+        assertThat(lateObserver.values().getFirst().report().steps.getFirst().steps.getFirst().status).isEqualTo(SUCCESS);
+
+        RxBus.getInstance().post(new EndScenarioExecutionEvent(scenarioExecution, step));
+        deltasObserver.assertComplete();
+        assertThat(deltasObserver.values().getLast().path()).isEmpty();
+        lateObserver.assertComplete().assertValueCount(2);
+    }
+
+    @Test
+    public void should_publish_running_parent_of_added_steps() {
+        Step subStep2 = step.subSteps().get(1);
+        Step iteration = buildFakeScenario();
+
+        sut.createPublisher(scenarioExecution.executionId, step);
+        TestObserver<StepReportDelta> deltasObserver = sut.subscribeOnExecutionDeltas(scenarioExecution.executionId).test();
+        TestObserver<StepExecutionReport> reportsObserver = sut.subscribeOnExecution(scenarioExecution.executionId).test();
+        RxBus.getInstance().post(new StartScenarioExecutionEvent(scenarioExecution, step));
+        step.beginExecution(scenarioExecution);
+        subStep2.beginExecution(scenarioExecution);
+        subStep2.addStepExecution(iteration);
+        iteration.beginExecution(scenarioExecution);
+        iteration.subSteps().getFirst().beginExecution(scenarioExecution);
+
+        assertThat(deltasObserver.values()).map(StepReportDelta::path)
+            .containsExactly(List.of(), List.of(), List.of(1), List.of(1), List.of(1, 0, 0));
+        StepExecutionReport report = reportsObserver.values().getLast();
+        assertThat(report.steps.get(1).steps).hasSize(1);
+        assertThat(report.steps.get(1).steps.getFirst().steps.getFirst().status).isEqualTo(RUNNING);
+
+        deltasObserver.dispose();
+        reportsObserver.dispose();
+    }
+
     private Step buildFakeScenario() {
         List<StepDefinition> subSubSteps = new ArrayList<>();
         StepDefinition subSubStepDef1 = new StepDefinition("fakeStep1", fakeTarget, "actionType", null, null, null, null, null);
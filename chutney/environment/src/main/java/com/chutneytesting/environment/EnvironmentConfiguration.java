@@ -13,14 +13,15 @@ import com.chutneytesting.environment.api.variable.EmbeddedVariableApi;
 import com.chutneytesting.environment.domain.Environment;
 import com.chutneytesting.environment.domain.EnvironmentRepository;
 import com.chutneytesting.environment.domain.EnvironmentService;
+import com.chutneytesting.environment.infra.CachingEnvironmentRepository;
 import com.chutneytesting.environment.infra.JsonFilesEnvironmentRepository;
 import com.chutneytesting.server.core.domain.environment.UpdateEnvironmentHandler;
 import java.util.List;
 
-public class EnvironmentConfiguration {
+public class EnvironmentConfiguration implements AutoCloseable {
 
     public static final String DEFAULT_ENV_NAME = "DEFAULT";
-    private final EnvironmentRepository environmentRepository;
+    private final CachingEnvironmentRepository environmentRepository;
     private final EmbeddedEnvironmentApi environmentApi;
     private final EmbeddedTargetApi targetApi;
     private final EmbeddedVariableApi variableApi;
@@ -45,8 +46,8 @@ public class EnvironmentConfiguration {
         }
     }
 
-    private EnvironmentRepository createEnvironmentRepository(String storeFolderPath) {
-        return new JsonFilesEnvironmentRepository(storeFolderPath);
+    private CachingEnvironmentRepository createEnvironmentRepository(String storeFolderPath) {
+        return new CachingEnvironmentRepository(new JsonFilesEnvironmentRepository(storeFolderPath));
     }
 
     private EnvironmentService createEnvironmentService(EnvironmentRepository environmentRepository, List<UpdateEnvironmentHandler> updateEnvironmentHandlers) {
@@ -64,4 +65,9 @@ public class EnvironmentConfiguration {
     public EmbeddedVariableApi getEmbeddedVariableApi() {
         return variableApi;
     }
+
+    @Override
+    public void close() {
+        environmentRepository.close();
+    }
 }
@@ -10,6 +10,7 @@ package com.chutneytesting.environment.domain;
 
 import static java.util.Collections.emptySet;
 import static java.util.Optional.ofNullable;
+import static java.util.function.Function.identity;
 
 import com.chutneytesting.environment.domain.exception.AlreadyExistingTargetException;
 import com.chutneytesting.environment.domain.exception.EnvVariableNotFoundException;
@@ -17,9 +18,11 @@ import com.chutneytesting.environment.domain.exception.TargetNotFoundException;
 import com.chutneytesting.environment.domain.exception.VariableAlreadyExistingException;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public class Environment {
 
@@ -27,12 +30,14 @@ public class Environment {
     public final String description;
     public final Set<Target> targets;
     public final Set<EnvironmentVariable> variables;
+    private final Map<String, Target> targetsByName;
 
     private Environment(String name, String description, Set<Target> targets, Set<EnvironmentVariable> variables) {
         this.name = name;
         this.description = description;
         this.targets = targets;
         this.variables = variables;
+        this.targetsByName = targets.stream().collect(Collectors.toUnmodifiableMap(t -> t.name, identity(), (first, second) -> first));
     }
 
     public static EnvironmentBuilder builder() {
@@ -56,7 +61,7 @@ public class Environment {
     }
 
     Target getTarget(String targetName) {
-        return targets.stream().filter(t -> t.name.equals(targetName)).findFirst().orElseThrow(() -> new TargetNotFoundException("Target [" + targetName + "] not found in environment [" + name + "]"));
+        return ofNullable(targetsByName.get(targetName)).orElseThrow(() -> new TargetNotFoundException("Target [" + targetName + "] not found in environment [" + name + "]"));
     }
 
     Environment deleteTarget(String targetName) {
@@ -0,0 +1,187 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.environment.infra;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import com.chutneytesting.environment.domain.Environment;
+import com.chutneytesting.environment.domain.EnvironmentRepository;
+import com.chutneytesting.environment.domain.exception.EnvironmentNotFoundException;
+import com.chutneytesting.environment.domain.exception.InvalidEnvironmentNameException;
+import com.chutneytesting.tools.file.FileUtils;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-memory view of {@link JsonFilesEnvironmentRepository}, so that reading environments and targets never touches the disk.<br>
+ * The view is an immutable snapshot replaced on each change (copy-on-write), which keeps readers lock-free.
+ * It is refreshed by writes done through this repository and by a background watcher on the configuration folder,
+ * so that files edited outside Chutney are taken into account without restart.
+ */
+public class CachingEnvironmentRepository implements EnvironmentRepository, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CachingEnvironmentRepository.class);
+    private static final String JSON_FILE_EXT = ".json";
+
+    private final JsonFilesEnvironmentRepository delegate;
+    private final WatchService watchService;
+    private volatile Map<String, Environment> environments;
+
+    public CachingEnvironmentRepository(JsonFilesEnvironmentRepository delegate) {
+        this.delegate = delegate;
+        this.watchService = watch(delegate.getStoreFolderPath());
+        reloadAll();
+    }
+
+    @Override
+    public synchronized void save(Environment environment) throws InvalidEnvironmentNameException {
+        delegate.save(environment);
+        update(environment.name, environment);
+    }
+
+    @Override
+    public Environment findByName(String name) throws EnvironmentNotFoundException {
+        Environment environment = environments.get(name);
+        if (environment != null) {
+            return environment;
+        }
+        // File may have been created before the watcher notices it, delegate throws when it does not exist
+        return reload(name);
+    }
+
+    @Override
+    public List<String> listNames() {
+        return List.copyOf(environments.keySet());
+    }
+
+    @Override
+    public List<Environment> getEnvironments() {
+        return List.copyOf(environments.values());
+    }
+
+    @Override
+    public synchronized void delete(String name) {
+        delegate.delete(name);
+        update(name, null);
+    }
+
+    @Override
+    public void close() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                LOGGER.warn("Cannot close environment folder watcher", e);
+            }
+        }
+    }
+
+    private synchronized void reloadAll() {
+        Map<String, Environment> loaded = new TreeMap<>();
+        for (String name : delegate.listNames()) {
+            try {
+                loaded.put(name, delegate.findByName(name));
+            } catch (RuntimeException e) {
+                LOGGER.warn("Cannot load environment [{}], it is ignored", name, e);
+            }
+        }
+        environments = Collections.unmodifiableMap(loaded);
+    }
+
+    private synchronized Environment reload(String name) {
+        try {
+            Environment environment = delegate.findByName(name);
+            update(name, environment);
+            return environment;
+        } catch (EnvironmentNotFoundException e) {
+            update(name, null);
+            throw e;
+        }
+    }
+
+    private void update(String name, Environment environment) {
+        Map<String, Environment> updated = new TreeMap<>(environments);
+        if (environment == null) {
+            updated.remove(name);
+        } else {
+            updated.put(name, environment);
+        }
+        environments = Collections.unmodifiableMap(updated);
+    }
+
+    private WatchService watch(Path folder) {
+        try {
+            WatchService service = folder.getFileSystem().newWatchService();
+            folder.register(service, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            Thread watcher = new Thread(() -> processEvents(service, folder), "environment-watcher");
+            watcher.setDaemon(true);
+            watcher.start();
+            return service;
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.warn("Cannot watch environment folder {}, changes made outside Chutney will need a restart", folder, e);
+            return null;
+        }
+    }
+
+    private void processEvents(WatchService service, Path folder) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                List<String> changed = new ArrayList<>();
+                boolean overflow = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == OVERFLOW) {
+                        overflow = true;
+                    } else if (event.context() instanceof Path path && path.toString().endsWith(JSON_FILE_EXT)) {
+                        changed.add(FileUtils.getNameWithoutExtension(path));
+                    }
+                }
+                if (overflow) {
+                    reloadAll();
+                } else {
+                    changed.stream().distinct().forEach(this::refresh);
+                }
+                if (!key.reset()) {
+                    LOGGER.warn("Environment folder {} is no longer watched", folder);
+                    return;
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // Repository closed
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized void refresh(String name) {
+        if (!Files.exists(delegate.getEnvironmentPath(name))) {
+            update(name, null);
+            return;
+        }
+        try {
+            reload(name);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Cannot reload environment [{}], previous version is kept", name, e);
+        }
+    }
+}
@@ -145,6 +145,10 @@ public class JsonFilesEnvironmentRepository implements EnvironmentRepository {
         }
     }
 
+    Path getStoreFolderPath() {
+        return storeFolderPath;
+    }
+
     public Path getEnvironmentPath(String name) {
         return storeFolderPath.resolve(name + JSON_FILE_EXT);
     }
@@ -0,0 +1,105 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.environment.infra;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import com.chutneytesting.environment.domain.Environment;
+import com.chutneytesting.environment.domain.Target;
+import com.chutneytesting.environment.domain.exception.EnvironmentNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CachingEnvironmentRepositoryTest {
+
+    @TempDir
+    private Path configurationFolder;
+
+    private JsonFilesEnvironmentRepository delegate;
+    private CachingEnvironmentRepository sut;
+
+    @BeforeEach
+    void setUp() {
+        delegate = spy(new JsonFilesEnvironmentRepository(configurationFolder.toString()));
+        delegate.save(environment("DEV", "http://dev:8080"));
+        sut = new CachingEnvironmentRepository(delegate);
+        clearInvocations(delegate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.close();
+    }
+
+    @Test
+    void should_read_environments_from_memory() {
+        assertThat(sut.findByName("DEV").targets).extracting(t -> t.url).containsExactly("http://dev:8080");
+        assertThat(sut.listNames()).containsExactly("DEV");
+        assertThat(sut.getEnvironments()).extracting(e -> e.name).containsExactly("DEV");
+
+        verify(delegate, never()).findByName(any());
+        verify(delegate, never()).listNames();
+    }
+
+    @Test
+    void should_see_own_writes_immediately() {
+        sut.save(environment("PROD", "http://prod:8080"));
+        assertThat(sut.findByName("PROD").targets).extracting(t -> t.url).containsExactly("http://prod:8080");
+
+        sut.delete("DEV");
+        assertThat(sut.listNames()).containsExactly("PROD");
+        assertThatThrownBy(() -> sut.findByName("DEV")).isInstanceOf(EnvironmentNotFoundException.class);
+    }
+
+    @Test
+    void should_refresh_environment_when_its_file_is_changed_outside() throws IOException {
+        Path devFile = delegate.getEnvironmentPath("DEV");
+        Files.writeString(devFile, Files.readString(devFile).replace("http://dev:8080", "http://dev:9090"));
+
+        await().atMost(30, SECONDS).untilAsserted(() ->
+            assertThat(sut.findByName("DEV").targets).extracting(t -> t.url).containsExactly("http://dev:9090")
+        );
+
+        Files.delete(devFile);
+
+        await().atMost(30, SECONDS).untilAsserted(() ->
+            assertThat(sut.listNames()).isEmpty()
+        );
+    }
+
+    @Test
+    void should_keep_previous_version_when_changed_file_cannot_be_read() throws IOException {
+        Files.writeString(delegate.getEnvironmentPath("DEV"), "{ not json");
+        Files.writeString(configurationFolder.resolve("QA.json"), "{\"name\":\"QA\"}");
+
+        await().atMost(30, SECONDS).untilAsserted(() ->
+            assertThat(sut.listNames()).containsExactly("DEV", "QA")
+        );
+        assertThat(sut.findByName("DEV").targets).extracting(t -> t.url).containsExactly("http://dev:8080");
+    }
+
+    private Environment environment(String name, String url) {
+        return Environment.builder()
+            .withName(name)
+            .addTarget(Target.builder().withName("server").withEnvironment(name).withUrl(url).build())
+            .build();
+    }
+}
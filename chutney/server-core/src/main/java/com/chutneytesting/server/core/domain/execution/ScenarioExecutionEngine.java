@@ -36,6 +36,16 @@ public class ScenarioExecutionEngine {
         return executionEngineAsync.followExecution(executionRequest.testCase.id(), executionEngineAsync.execute(executionRequest)).blockingLast();
     }
 
+    /**
+     * Summarizes an execution as stored in history, reading it back only when its last storage failed.
+     *
+     * @param report The execution report, as returned by {@link #execute(ExecutionRequest)}.
+     * @return the execution summary.
+     */
+    public ExecutionHistory.ExecutionSummary storedSummary(ScenarioExecutionReport report) {
+        return executionEngineAsync.storedSummary(report.executionId);
+    }
+
     public ScenarioExecutionReport simpleSyncExecution(ExecutionRequest executionRequest) {
 
         StepExecutionReportCore finalStepReport = executionEngine.execute(executionRequest);
@@ -35,6 +35,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
@@ -45,6 +46,7 @@ public class ScenarioExecutionEngineAsync {
     private static final Logger LOGGER = LoggerFactory.getLogger(ScenarioExecutionEngineAsync.class);
     private static final long DEFAULT_RETENTION_DELAY_SECONDS = 5;
     private static final long DEFAULT_DEBOUNCE_MILLISECONDS = 100;
+    private static final long DEFAULT_CHECKPOINT_MILLISECONDS = 30_000;
 
     private final ObjectMapper reportObjectMapper;
 
@@ -54,8 +56,11 @@ public class ScenarioExecutionEngineAsync {
     private final ChutneyMetrics metrics;
 
     private final Map<Long, Pair<Observable<ScenarioExecutionReport>, Long>> scenarioExecutions = new ConcurrentHashMap<>();
+    private final Map<Long, ExecutionHistory.Execution> lastStoredExecutions = new ConcurrentHashMap<>();
     private long retentionDelaySeconds;
     private long debounceMilliSeconds;
+    private boolean progressPersistence;
+    private long checkpointMilliSeconds;
 
     public ScenarioExecutionEngineAsync(ExecutionHistoryRepository executionHistoryRepository,
                                         ServerTestEngine executionEngine,
@@ -72,6 +77,23 @@ public class ScenarioExecutionEngineAsync {
                                         ObjectMapper reportObjectMapper,
                                         long retentionDelaySeconds,
                                         long debounceMilliSeconds) {
+        this(executionHistoryRepository, executionEngine, executionStateRepository, metrics, reportObjectMapper, retentionDelaySeconds, debounceMilliSeconds, false, DEFAULT_CHECKPOINT_MILLISECONDS);
+    }
+
+    /**
+     * @param progressPersistence    when true, running reports only update execution status and duration,
+     *                               the full report being stored at the end of the execution and at each checkpoint
+     * @param checkpointMilliSeconds minimum delay between two full report storages of a running execution, 0 to disable checkpoints
+     */
+    public ScenarioExecutionEngineAsync(ExecutionHistoryRepository executionHistoryRepository,
+                                        ServerTestEngine executionEngine,
+                                        ExecutionStateRepository executionStateRepository,
+                                        ChutneyMetrics metrics,
+                                        ObjectMapper reportObjectMapper,
+                                        long retentionDelaySeconds,
+                                        long debounceMilliSeconds,
+                                        boolean progressPersistence,
+                                        long checkpointMilliSeconds) {
         this.executionHistoryRepository = executionHistoryRepository;
         this.executionEngine = executionEngine;
         this.executionStateRepository = executionStateRepository;
@@ -79,6 +101,8 @@ public class ScenarioExecutionEngineAsync {
         this.reportObjectMapper = reportObjectMapper;
         this.retentionDelaySeconds = retentionDelaySeconds;
         this.debounceMilliSeconds = debounceMilliSeconds;
+        this.progressPersistence = progressPersistence;
+        this.checkpointMilliSeconds = checkpointMilliSeconds;
     }
 
     /**
@@ -157,6 +181,7 @@ public class ScenarioExecutionEngineAsync {
             replayer = replayer.throttleLatest(debounceMilliSeconds, TimeUnit.MILLISECONDS, Schedulers.io(), true);
         }
 
+        AtomicLong lastCheckpoint = new AtomicLong(System.currentTimeMillis());
         return replayer
             .doOnSubscribe(disposable -> notifyExecutionStart(executionId, executionRequest.testCase))
             // Create report
@@ -172,7 +197,7 @@ public class ScenarioExecutionEngineAsync {
                     report
                 );
             })
-            .doOnNext(report -> updateHistory(executionId, executionRequest, report))
+            .doOnNext(report -> setLastStoredExecution(executionId, persistReport(executionId, executionRequest, report, lastCheckpoint)))
             // Handle errors to avoid flow interruption
             .onErrorResumeNext(throwable -> {
                 LOGGER.error("Error in execution report processing", throwable);
@@ -180,7 +205,7 @@ public class ScenarioExecutionEngineAsync {
             })
             .doFinally(() -> {
                 notifyExecutionEnd(executionId, executionRequest.testCase);
-                sendMetrics(executionId, executionRequest.testCase);
+                sendMetrics(executionId, executionRequest.testCase, lastStoredExecutions.get(executionId));
                 cleanExecutionId(executionId);
             })
             // Make hot with replay last state
@@ -237,6 +262,14 @@ public class ScenarioExecutionEngineAsync {
         this.debounceMilliSeconds = debounceMilliSeconds;
     }
 
+    public void setProgressPersistence(boolean progressPersistence) {
+        this.progressPersistence = progressPersistence;
+    }
+
+    public void setCheckpointMilliSeconds(long checkpointMilliSeconds) {
+        this.checkpointMilliSeconds = checkpointMilliSeconds;
+    }
+
     public ExecutionHistory.Execution saveNotExecutedScenarioExecution(ExecutionRequest executionRequest) {
         ExecutionHistory.DetachedExecution detachedExecution = ImmutableExecutionHistory.DetachedExecution.builder()
             .time(LocalDateTime.now())
@@ -282,22 +315,45 @@ public class ScenarioExecutionEngineAsync {
     }
 
     /**
-     * Build a {@link ExecutionHistory.DetachedExecution} to store via {@link ExecutionHistoryRepository}
+     * Summary of a finished execution as stored in history.<br>
+     * It is taken from the last execution stored by {@link #updateHistory} while it is retained,
+     * and read from {@link ExecutionHistoryRepository} when that storage failed or is no longer retained.
      *
-     * @param scenarioReport report to summarize
+     * @param executionId id of the execution to summarize
      */
-    private ExecutionHistory.DetachedExecution summarize(ScenarioExecutionReport scenarioReport, ExecutionRequest executionRequest) {
-        return ImmutableExecutionHistory.DetachedExecution.builder()
+    public ExecutionHistory.ExecutionSummary storedSummary(long executionId) {
+        return ofNullable(lastStoredExecutions.get(executionId))
+            .filter(e -> e.status().isFinal())
+            .map(ExecutionHistory.Execution::summary)
+            .orElseGet(() -> executionHistoryRepository.getExecutionSummary(executionId));
+    }
+
+    private ExecutionHistory.ExecutionSummary summary(ExecutionRequest executionRequest, ScenarioExecutionReport scenarioReport) {
+        return ImmutableExecutionHistory.ExecutionSummary.builder()
+            .executionId(scenarioReport.executionId)
+            .scenarioId(executionRequest.testCase.id())
             .time(scenarioReport.report.startDate.atZone(ZoneId.systemDefault()).toLocalDateTime())
             .duration(scenarioReport.report.duration)
             .status(scenarioReport.report.status)
             .info(joinAndTruncateMessages(searchInfo(scenarioReport.report)))
             .error(searchErrors(scenarioReport.report).stream().findFirst().orElse(""))
-            .report(serialize(scenarioReport)) // TODO - type me and move serialization to infra
             .testCaseTitle(scenarioReport.scenarioName)
             .environment(executionRequest.environment)
             .user(executionRequest.userId)
             .dataset(ofNullable(executionRequest.dataset))
+            .tags(new HashSet<>(executionRequest.tags))
+            .build();
+    }
+
+    /**
+     * Build a {@link ExecutionHistory.DetachedExecution} to store via {@link ExecutionHistoryRepository}
+     *
+     * @param scenarioReport report to summarize
+     */
+    private ExecutionHistory.DetachedExecution summarize(ScenarioExecutionReport scenarioReport, ExecutionRequest executionRequest) {
+        return ImmutableExecutionHistory.DetachedExecution.builder()
+            .from((ExecutionHistory.ExecutionProperties) summary(executionRequest, scenarioReport))
+            .report(serialize(scenarioReport)) // TODO - type me and move serialization to infra
             .build();
     }
 
@@ -327,29 +383,79 @@ public class ScenarioExecutionEngineAsync {
                 .subscribe(() -> {
                     LOGGER.trace("Remove replayer for execution {}", executionId);
                     scenarioExecutions.remove(executionId);
+                    lastStoredExecutions.remove(executionId);
                 }, throwable -> LOGGER.error("Cannot remove replayer for execution {}", executionId, throwable));
         } else {
             scenarioExecutions.remove(executionId);
+            lastStoredExecutions.remove(executionId);
         }
     }
 
 
-    private void sendMetrics(long executionId, TestCase testCase) {
+    /**
+     * @param storedExecution last execution stored by {@link #updateHistory}, read from history when missing or not final
+     */
+    private void sendMetrics(long executionId, TestCase testCase, ExecutionHistory.Execution storedExecution) {
         LOGGER.trace("Send metrics for execution {}", executionId);
         try {
-            ExecutionHistory.Execution execution = executionHistoryRepository.getExecution(testCase.id(), executionId);
+            ExecutionHistory.Execution execution = ofNullable(storedExecution)
+                .filter(e -> e.status().isFinal())
+                .orElseGet(() -> executionHistoryRepository.getExecution(testCase.id(), executionId));
             metrics.onScenarioExecutionEnded(testCase, execution);
         } catch (Exception e) {
             LOGGER.error("Send metrics for execution {} failed", executionId, e);
         }
     }
 
-    private void updateHistory(long executionId, ExecutionRequest executionRequest, ScenarioExecutionReport report) {
+    /**
+     * @return the execution stored in history, null when only its progress was updated or its storage failed
+     */
+    private ExecutionHistory.Execution persistReport(long executionId, ExecutionRequest executionRequest, ScenarioExecutionReport report, AtomicLong lastCheckpoint) {
+        if (progressPersistence && isRunningOrPaused(report.report.status)) {
+            long now = System.currentTimeMillis();
+            long last = lastCheckpoint.get();
+            if (checkpointMilliSeconds <= 0 || now - last < checkpointMilliSeconds || !lastCheckpoint.compareAndSet(last, now)) {
+                updateProgress(executionId, executionRequest, report);
+                return null;
+            }
+            LOGGER.trace("Checkpoint report for execution {}", executionId);
+        }
+        return updateHistory(executionId, executionRequest, report);
+    }
+
+    /**
+     * @param storedExecution execution stored in history, null when only its progress was updated or its storage failed
+     */
+    private void setLastStoredExecution(long executionId, ExecutionHistory.Execution storedExecution) {
+        if (storedExecution == null) {
+            lastStoredExecutions.remove(executionId);
+        } else {
+            lastStoredExecutions.put(executionId, storedExecution);
+        }
+    }
+
+    private static boolean isRunningOrPaused(ServerReportStatus status) {
+        return ServerReportStatus.RUNNING.equals(status) || ServerReportStatus.PAUSED.equals(status);
+    }
+
+    private void updateProgress(long executionId, ExecutionRequest executionRequest, ScenarioExecutionReport report) {
+        LOGGER.trace("Update progress for execution {}", executionId);
+        try {
+            executionHistoryRepository.updateProgress(executionRequest.testCase.id(), executionId, report.report.status, report.report.duration);
+        } catch (Exception e) {
+            LOGGER.error("Update progress for execution {} failed", executionId, e);
+        }
+    }
+
+    private ExecutionHistory.Execution updateHistory(long executionId, ExecutionRequest executionRequest, ScenarioExecutionReport report) {
         LOGGER.trace("Update history for execution {}", executionId);
         try {
-            executionHistoryRepository.update(executionRequest.testCase.id(), summarize(report, executionRequest).attach(executionId, executionRequest.testCase.id()));
+            ExecutionHistory.Execution execution = summarize(report, executionRequest).attach(executionId, executionRequest.testCase.id());
+            executionHistoryRepository.update(executionRequest.testCase.id(), execution);
+            return execution;
         } catch (Exception e) {
             LOGGER.error("Update history for execution {} failed", executionId, e);
+            return null;
         }
     }
 
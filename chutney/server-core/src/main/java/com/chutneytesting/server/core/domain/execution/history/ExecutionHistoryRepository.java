@@ -42,6 +42,13 @@ public interface ExecutionHistoryRepository {
 
     ExecutionSummary getExecutionSummary(Long executionId);
 
+    /**
+     * @param environment on which executions ran
+     * @param limit       maximum number of durations by scenario
+     * @return durations in milliseconds of the last finished executions of given scenarios, most recent first. Key of the map are scenarioIds
+     */
+    Map<String, List<Long>> getLastDurations(List<String> scenarioIds, String environment, int limit);
+
     /**
      * @return the matching {@link ExecutionHistory.Execution}
      */
@@ -54,6 +61,11 @@ public interface ExecutionHistoryRepository {
      */
     void update(String scenarioId, ExecutionHistory.Execution updatedExecution);
 
+    /**
+     * Update only status and duration of a previously stored {@link ExecutionHistory.Execution}, keeping its report.
+     */
+    void updateProgress(String scenarioId, Long executionId, ServerReportStatus status, long duration);
+
     int setAllRunningExecutionsToKO();
 
     List<ExecutionSummary> getExecutionsWithStatus(ServerReportStatus status);
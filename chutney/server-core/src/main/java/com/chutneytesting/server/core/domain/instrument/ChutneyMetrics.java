@@ -20,4 +20,14 @@ public interface ChutneyMetrics {
     void onCampaignExecutionEnded(Campaign campaign, CampaignExecution campaignExecution);
 
     void onHttpError(HttpStatusCode status);
+
+    void onConnectionPoolStats(String pool, int leased, int available, int pending);
+
+    void onIndexOperation(String index, String operation, long durationInNanos);
+
+    void onCacheLookup(String cache, boolean hit);
+
+    void onCampaignSchedulerStats(String environment, int queued, int running);
+
+    void onCampaignScenarioWait(String environment, long waitInNanos);
 }
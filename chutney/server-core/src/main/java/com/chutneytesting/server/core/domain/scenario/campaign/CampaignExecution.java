@@ -44,6 +44,7 @@ public class CampaignExecution {
     private ServerReportStatus status;
     private final List<ScenarioExecutionCampaign> scenarioExecutions;
     public final Long campaignId;
+    private Long predictedDuration;
 
     CampaignExecution(
         Long executionId,
@@ -55,7 +56,8 @@ public class CampaignExecution {
         DataSet dataset,
         LocalDateTime startDate,
         ServerReportStatus status,
-        List<ScenarioExecutionCampaign> scenarioExecutions
+        List<ScenarioExecutionCampaign> scenarioExecutions,
+        Long predictedDuration
     ) {
         this.executionId = executionId;
         this.campaignId = campaignId;
@@ -65,6 +67,7 @@ public class CampaignExecution {
         this.dataset = dataset;
         this.userId = userId;
         this.scenarioExecutions = scenarioExecutions;
+        this.predictedDuration = predictedDuration;
 
         if (scenarioExecutions.isEmpty()) {
             this.startDate = ofNullable(startDate).orElseGet(LocalDateTime::now);
@@ -181,6 +184,17 @@ public class CampaignExecution {
             .orElse(0L);
     }
 
+    /**
+     * @return duration in milliseconds predicted from scenarios' history before execution, if any
+     */
+    public Optional<Long> predictedDuration() {
+        return ofNullable(predictedDuration);
+    }
+
+    public void predictDuration(long predictedDuration) {
+        this.predictedDuration = predictedDuration;
+    }
+
     private LocalDateTime findStartDate(List<ScenarioExecutionCampaign> scenarioExecutionReports) {
         return scenarioExecutionReports.stream()
             .filter(Objects::nonNull)
@@ -238,6 +252,7 @@ public class CampaignExecution {
             .userId(userId)
             .startDate(startDate)
             .status(status)
+            .predictedDuration(predictedDuration)
             .scenarioExecutionReport(filterRetry(scenarioExecutions))
             .build();
     }
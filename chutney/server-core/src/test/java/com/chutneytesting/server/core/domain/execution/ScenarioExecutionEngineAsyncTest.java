@@ -11,9 +11,13 @@ package com.chutneytesting.server.core.domain.execution;
 import static java.time.LocalDateTime.now;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -167,7 +171,149 @@ public class ScenarioExecutionEngineAsyncTest {
         verify(executionHistoryRepository, times(4)).update(eq(scenarioId), any());
 
         verify(executionStateRepository).notifyExecutionEnd(scenarioId);
-        verify(metrics).onScenarioExecutionEnded(any(), any());
+        ArgumentCaptor<ExecutionHistory.Execution> executionCaptor = ArgumentCaptor.forClass(ExecutionHistory.Execution.class);
+        verify(metrics).onScenarioExecutionEnded(any(), executionCaptor.capture());
+        assertThat(executionCaptor.getValue().status()).isEqualTo(ServerReportStatus.SUCCESS);
+        verify(executionHistoryRepository, never()).getExecution(anyString(), anyLong());
+
+        testObserver.dispose();
+    }
+
+    @Test
+    public void should_summarize_execution_as_last_stored_without_reading_history() {
+        // Given
+        final TestCase testCase = emptyTestCase();
+        final Long executionId = 5L;
+
+        stubHistoryExecution(testCase.id(), executionId);
+        final Triple<Pair<Observable<StepExecutionReportCore>, Long>, List<StepExecutionReportCore>, TestScheduler> engineStub = stubEngineExecution(0);
+
+        final ScenarioExecutionEngineAsync sut = new ScenarioExecutionEngineAsync(
+            executionHistoryRepository,
+            executionEngine,
+            executionStateRepository,
+            metrics,
+            om,
+            5,
+            0
+        );
+        sut.buildScenarioExecutionReportObservable(new ExecutionRequest(testCase, "env", "user"), executionId, engineStub.getLeft()).test()
+            .awaitDone(5, TimeUnit.SECONDS);
+
+        // When
+        ExecutionHistory.ExecutionSummary summary = sut.storedSummary(executionId);
+
+        // Then
+        assertThat(summary.executionId()).isEqualTo(executionId);
+        assertThat(summary.status()).isEqualTo(ServerReportStatus.SUCCESS);
+        assertThat(summary.environment()).isEqualTo("env");
+        verify(executionHistoryRepository, never()).getExecutionSummary(anyLong());
+    }
+
+    @Test
+    public void should_read_execution_summary_from_history_when_its_storage_failed() {
+        // Given
+        final TestCase testCase = emptyTestCase();
+        final String scenarioId = testCase.id();
+        final Long executionId = 7L;
+
+        ExecutionHistory.Execution storedExecution = stubHistoryExecution(scenarioId, executionId);
+        doThrow(new RuntimeException("database down")).when(executionHistoryRepository).update(eq(scenarioId), any());
+        when(executionHistoryRepository.getExecutionSummary(executionId)).thenReturn(storedExecution.summary());
+        final Triple<Pair<Observable<StepExecutionReportCore>, Long>, List<StepExecutionReportCore>, TestScheduler> engineStub = stubEngineExecution(0);
+
+        final ScenarioExecutionEngineAsync sut = new ScenarioExecutionEngineAsync(
+            executionHistoryRepository,
+            executionEngine,
+            executionStateRepository,
+            metrics,
+            om,
+            5,
+            0
+        );
+        sut.buildScenarioExecutionReportObservable(new ExecutionRequest(testCase, "env", "user"), executionId, engineStub.getLeft()).test()
+            .awaitDone(5, TimeUnit.SECONDS);
+
+        // When
+        ExecutionHistory.ExecutionSummary summary = sut.storedSummary(executionId);
+
+        // Then
+        assertThat(summary).isEqualTo(storedExecution.summary());
+        verify(executionHistoryRepository).getExecutionSummary(executionId);
+    }
+
+    @Test
+    public void should_only_update_progress_of_running_execution_when_progress_persistence() {
+        // Given
+        final TestCase testCase = emptyTestCase();
+        final String scenarioId = testCase.id();
+        final Long executionId = 6L;
+
+        stubHistoryExecution(scenarioId, executionId);
+        final Triple<Pair<Observable<StepExecutionReportCore>, Long>, List<StepExecutionReportCore>, TestScheduler> engineStub = stubEngineExecution(100);
+        RxJavaPlugins.setIoSchedulerHandler(scheduler -> engineStub.getRight());
+
+        final ScenarioExecutionEngineAsync sut = new ScenarioExecutionEngineAsync(
+            executionHistoryRepository,
+            executionEngine,
+            executionStateRepository,
+            metrics,
+            om,
+            1,
+            0,
+            true,
+            0
+        );
+
+        // When
+        TestObserver<ScenarioExecutionReport> testObserver = sut.buildScenarioExecutionReportObservable(new ExecutionRequest(testCase, "", ""), executionId, engineStub.getLeft()).test();
+        engineStub.getRight().advanceTimeBy(400, TimeUnit.MILLISECONDS);
+
+        // Then
+        assertTestObserverStateAndValues(testObserver, true, executionId, engineStub.getMiddle(), 4, null);
+        verify(executionHistoryRepository, times(2)).updateProgress(scenarioId, executionId, ServerReportStatus.RUNNING, 0L);
+        ArgumentCaptor<ExecutionHistory.Execution> fullUpdates = ArgumentCaptor.forClass(ExecutionHistory.Execution.class);
+        verify(executionHistoryRepository, times(2)).update(eq(scenarioId), fullUpdates.capture());
+        assertThat(fullUpdates.getAllValues()).map(ExecutionHistory.Execution::status)
+            .containsExactly(ServerReportStatus.NOT_EXECUTED, ServerReportStatus.SUCCESS);
+
+        testObserver.dispose();
+    }
+
+    @Test
+    public void should_store_full_report_of_running_execution_at_checkpoints_when_progress_persistence() throws InterruptedException {
+        // Given
+        final TestCase testCase = emptyTestCase();
+        final String scenarioId = testCase.id();
+        final Long executionId = 7L;
+
+        stubHistoryExecution(scenarioId, executionId);
+        final Triple<Pair<Observable<StepExecutionReportCore>, Long>, List<StepExecutionReportCore>, TestScheduler> engineStub = stubEngineExecution(100);
+        RxJavaPlugins.setIoSchedulerHandler(scheduler -> engineStub.getRight());
+
+        final ScenarioExecutionEngineAsync sut = new ScenarioExecutionEngineAsync(
+            executionHistoryRepository,
+            executionEngine,
+            executionStateRepository,
+            metrics,
+            om,
+            1,
+            0,
+            true,
+            1
+        );
+
+        // When
+        TestObserver<ScenarioExecutionReport> testObserver = sut.buildScenarioExecutionReportObservable(new ExecutionRequest(testCase, "", ""), executionId, engineStub.getLeft()).test();
+        for (int i = 0; i < 4; i++) {
+            TimeUnit.MILLISECONDS.sleep(5); // Let checkpoint delay elapse between emissions
+            engineStub.getRight().advanceTimeBy(100, TimeUnit.MILLISECONDS);
+        }
+
+        // Then
+        assertTestObserverStateAndValues(testObserver, true, executionId, engineStub.getMiddle(), 4, null);
+        verify(executionHistoryRepository, never()).updateProgress(any(), any(), any(), anyLong());
+        verify(executionHistoryRepository, times(4)).update(eq(scenarioId), any());
 
         testObserver.dispose();
     }
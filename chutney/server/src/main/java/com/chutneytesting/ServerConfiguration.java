@@ -8,17 +8,33 @@
 package com.chutneytesting;
 
 import static com.chutneytesting.ServerConfigurationValues.CAMPAIGNS_EXECUTOR_POOL_SIZE_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.CAMPAIGNS_EXECUTOR_VIRTUAL_THREADS_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.CAMPAIGNS_SCHEDULER_MAX_PARALLELISM_BY_CAMPAIGN_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.CAMPAIGNS_SCHEDULER_MAX_PARALLELISM_BY_ENVIRONMENT_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.CAMPAIGNS_SCHEDULER_MAX_PARALLELISM_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.CAMPAIGNS_SCHEDULER_ORDER_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.ENGINE_DELEGATION_PASSWORD_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.ENGINE_DELEGATION_USER_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.ENGINE_EXECUTOR_POOL_SIZE_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.ENGINE_EXECUTOR_VIRTUAL_THREADS_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.ENGINE_EXPRESSION_CACHE_SIZE_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.ENGINE_EXPRESSION_COMPILER_MODE_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.ENGINE_REPORTER_PUBLISHER_TTL_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.EXECUTION_ASYNC_PROGRESS_CHECKPOINT_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.EXECUTION_ASYNC_PROGRESS_PERSISTENCE_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.EXECUTION_ASYNC_PUBLISHER_DEBOUNCE_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.EXECUTION_ASYNC_PUBLISHER_TTL_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.INDEX_COMMIT_INTERVAL_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.INDEX_COMMIT_MAX_WRITES_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.INDEX_DURABILITY_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.INDEX_FOLDER_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.INDEX_REFRESH_INTERVAL_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.SERVER_PORT_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.TASK_SQL_NB_LOGGED_ROW;
 import static com.chutneytesting.ServerConfigurationValues.TASK_SQL_NB_LOGGED_ROW_SPRING_VALUE;
 
 import com.chutneytesting.action.api.EmbeddedActionEngine;
+import com.chutneytesting.action.domain.ActionPinningDiagnostic;
 import com.chutneytesting.campaign.domain.CampaignEnvironmentUpdateHandler;
 import com.chutneytesting.campaign.domain.CampaignExecutionRepository;
 import com.chutneytesting.campaign.domain.CampaignRepository;
@@ -28,9 +44,12 @@ import com.chutneytesting.design.domain.editionlock.TestCaseEditions;
 import com.chutneytesting.design.domain.editionlock.TestCaseEditionsService;
 import com.chutneytesting.engine.api.execution.TestEngine;
 import com.chutneytesting.execution.domain.campaign.CampaignExecutionEngine;
+import com.chutneytesting.execution.domain.campaign.CampaignScenarioPlanner;
+import com.chutneytesting.execution.domain.campaign.CampaignScenarioScheduler;
 import com.chutneytesting.execution.infra.execution.ExecutionRequestMapper;
 import com.chutneytesting.execution.infra.execution.ServerTestEngineJavaImpl;
 import com.chutneytesting.index.infra.LuceneIndexRepository;
+import com.chutneytesting.index.infra.config.IndexCommitPolicy;
 import com.chutneytesting.index.infra.config.IndexConfig;
 import com.chutneytesting.index.infra.config.OnDiskIndexConfig;
 import com.chutneytesting.jira.api.JiraXrayEmbeddedApi;
@@ -52,6 +71,8 @@ import java.net.UnknownHostException;
 import java.time.Clock;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.sql.DataSource;
 import liquibase.integration.spring.SpringLiquibase;
 import org.slf4j.Logger;
@@ -64,8 +85,10 @@ import org.springframework.boot.autoconfigure.liquibase.LiquibaseAutoConfigurati
 import org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.core.task.support.ExecutorServiceAdapter;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @SpringBootApplication(exclude = {LiquibaseAutoConfiguration.class, ActiveMQAutoConfiguration.class, MongoAutoConfiguration.class})
@@ -86,21 +109,33 @@ public class ServerConfiguration {
      * For com.chutneytesting.ServerConfiguration#executionConfiguration()
      */
     @Bean
-    public ThreadPoolTaskExecutor engineExecutor(@Value(ENGINE_EXECUTOR_POOL_SIZE_SPRING_VALUE) Integer threadForEngine) {
+    public ExecutorService engineExecutor(@Value(ENGINE_EXECUTOR_POOL_SIZE_SPRING_VALUE) Integer threadForEngine,
+                                          @Value(ENGINE_EXECUTOR_VIRTUAL_THREADS_SPRING_VALUE) boolean virtualThreads) {
+        if (virtualThreads) {
+            LOGGER.debug("Virtual threads executor for engine created");
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("engine-executor-", 0).factory());
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(threadForEngine);
         executor.setMaxPoolSize(threadForEngine);
         executor.setThreadNamePrefix("engine-executor");
         executor.initialize();
         LOGGER.debug("Pool for engine created with size {}", threadForEngine);
-        return executor;
+        return executor.getThreadPoolExecutor();
     }
 
     /**
      * For com.chutneytesting.ServerConfiguration#campaignExecutionEngine()
      */
     @Bean
-    public TaskExecutor campaignExecutor(@Value(CAMPAIGNS_EXECUTOR_POOL_SIZE_SPRING_VALUE) Integer threadForCampaigns) {
+    public TaskExecutor campaignExecutor(@Value(CAMPAIGNS_EXECUTOR_POOL_SIZE_SPRING_VALUE) Integer threadForCampaigns,
+                                         @Value(CAMPAIGNS_EXECUTOR_VIRTUAL_THREADS_SPRING_VALUE) boolean virtualThreads) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("campaign-executor");
+            executor.setVirtualThreads(true);
+            LOGGER.debug("Virtual threads executor for campaigns created");
+            return executor;
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(threadForCampaigns);
         executor.setMaxPoolSize(threadForCampaigns);
@@ -113,14 +148,21 @@ public class ServerConfiguration {
     @Bean
     public ExecutionConfiguration executionConfiguration(
         @Value(ENGINE_REPORTER_PUBLISHER_TTL_SPRING_VALUE) Long reporterTTL,
-        @Qualifier("engineExecutor") ThreadPoolTaskExecutor engineExecutor,
+        @Qualifier("engineExecutor") ExecutorService engineExecutor,
         @Value(TASK_SQL_NB_LOGGED_ROW_SPRING_VALUE) String nbLoggedRow,
         @Value(ENGINE_DELEGATION_USER_SPRING_VALUE) String delegateUser,
-        @Value(ENGINE_DELEGATION_PASSWORD_SPRING_VALUE) String delegatePassword
+        @Value(ENGINE_DELEGATION_PASSWORD_SPRING_VALUE) String delegatePassword,
+        @Value(ENGINE_EXPRESSION_CACHE_SIZE_SPRING_VALUE) long expressionCacheSize,
+        @Value(ENGINE_EXPRESSION_COMPILER_MODE_SPRING_VALUE) SpelCompilerMode expressionCompilerMode,
+        @Value(ENGINE_EXECUTOR_VIRTUAL_THREADS_SPRING_VALUE) boolean virtualThreads
     ) {
         Map<String, String> actionsConfiguration = new HashMap<>();
         actionsConfiguration.put(TASK_SQL_NB_LOGGED_ROW, nbLoggedRow);
-        return new ExecutionConfiguration(reporterTTL, engineExecutor.getThreadPoolExecutor(), actionsConfiguration, delegateUser, delegatePassword);
+        ExecutionConfiguration executionConfiguration = new ExecutionConfiguration(reporterTTL, engineExecutor, actionsConfiguration, delegateUser, delegatePassword, expressionCacheSize, expressionCompilerMode);
+        if (virtualThreads) {
+            ActionPinningDiagnostic.logPinningRisks(executionConfiguration.actionTemplateRegistry());
+        }
+        return executionConfiguration;
     }
 
     @Bean
@@ -147,7 +189,9 @@ public class ServerConfiguration {
                                                               ChutneyMetrics metrics,
                                                               @Qualifier("reportObjectMapper") ObjectMapper objectMapper,
                                                               @Value(EXECUTION_ASYNC_PUBLISHER_TTL_SPRING_VALUE) long replayerRetention,
-                                                              @Value(EXECUTION_ASYNC_PUBLISHER_DEBOUNCE_SPRING_VALUE) long debounceMilliSeconds) {
+                                                              @Value(EXECUTION_ASYNC_PUBLISHER_DEBOUNCE_SPRING_VALUE) long debounceMilliSeconds,
+                                                              @Value(EXECUTION_ASYNC_PROGRESS_PERSISTENCE_SPRING_VALUE) boolean progressPersistence,
+                                                              @Value(EXECUTION_ASYNC_PROGRESS_CHECKPOINT_SPRING_VALUE) long checkpointMilliSeconds) {
         return new ScenarioExecutionEngineAsync(
             executionHistoryRepository,
             executionEngine,
@@ -155,7 +199,33 @@ public class ServerConfiguration {
             metrics,
             objectMapper,
             replayerRetention,
-            debounceMilliSeconds);
+            debounceMilliSeconds,
+            progressPersistence,
+            checkpointMilliSeconds);
+    }
+
+    /**
+     * Without explicit global limit, scenarios run at most by campaigns' executor pool size, and without limit on virtual threads.
+     */
+    @Bean
+    CampaignScenarioScheduler campaignScenarioScheduler(@Qualifier("campaignExecutor") TaskExecutor campaignExecutor,
+                                                        ChutneyMetrics metrics,
+                                                        @Value(CAMPAIGNS_EXECUTOR_POOL_SIZE_SPRING_VALUE) Integer threadForCampaigns,
+                                                        @Value(CAMPAIGNS_EXECUTOR_VIRTUAL_THREADS_SPRING_VALUE) boolean virtualThreads,
+                                                        @Value(CAMPAIGNS_SCHEDULER_MAX_PARALLELISM_SPRING_VALUE) int maxParallelism,
+                                                        @Value(CAMPAIGNS_SCHEDULER_MAX_PARALLELISM_BY_CAMPAIGN_SPRING_VALUE) int maxParallelismByCampaign,
+                                                        @Value(CAMPAIGNS_SCHEDULER_MAX_PARALLELISM_BY_ENVIRONMENT_SPRING_VALUE) int maxParallelismByEnvironment) {
+        if (maxParallelism == CampaignScenarioScheduler.UNLIMITED && !virtualThreads) {
+            maxParallelism = threadForCampaigns;
+        }
+        LOGGER.debug("Campaign scenarios scheduler created with max parallelism {}, {} by campaign and {} by environment (0 for unlimited)", maxParallelism, maxParallelismByCampaign, maxParallelismByEnvironment);
+        return new CampaignScenarioScheduler(new ExecutorServiceAdapter(campaignExecutor), maxParallelism, maxParallelismByCampaign, maxParallelismByEnvironment, metrics);
+    }
+
+    @Bean
+    CampaignScenarioPlanner campaignScenarioPlanner(@Value(CAMPAIGNS_SCHEDULER_ORDER_SPRING_VALUE) CampaignScenarioPlanner.Order order,
+                                                    ExecutionHistoryRepository executionHistoryRepository) {
+        return new CampaignScenarioPlanner(order, executionHistoryRepository);
     }
 
     @Bean
@@ -167,9 +237,9 @@ public class ServerConfiguration {
                                                     TestCaseRepositoryAggregator testCaseRepository,
                                                     JiraXrayEmbeddedApi jiraXrayEmbeddedApi,
                                                     ChutneyMetrics metrics,
-                                                    @Qualifier("campaignExecutor") TaskExecutor campaignExecutor,
-                                                    DataSetRepository datasetRepository,
-                                                    ObjectMapper objectMapper) { // TODO - Choose explicitly which mapper to use
+                                                    CampaignScenarioScheduler campaignScenarioScheduler,
+                                                    CampaignScenarioPlanner campaignScenarioPlanner,
+                                                    DataSetRepository datasetRepository) {
         return new CampaignExecutionEngine(
             campaignRepository,
             campaignExecutionRepository,
@@ -179,9 +249,9 @@ public class ServerConfiguration {
             testCaseRepository,
             jiraXrayEmbeddedApi,
             metrics,
-            new ExecutorServiceAdapter(campaignExecutor),
-            datasetRepository,
-            objectMapper
+            campaignScenarioScheduler,
+            campaignScenarioPlanner,
+            datasetRepository
         );
     }
 
@@ -236,42 +306,50 @@ public class ServerConfiguration {
     }
 
     @Bean
-    public LuceneIndexRepository reportLuceneIndexRepository(IndexConfig reportIndexConfig) {
-        return new LuceneIndexRepository(reportIndexConfig);
+    public IndexCommitPolicy indexCommitPolicy(@Value(INDEX_DURABILITY_SPRING_VALUE) IndexCommitPolicy.Durability durability,
+                                               @Value(INDEX_COMMIT_MAX_WRITES_SPRING_VALUE) int maxUncommittedWrites,
+                                               @Value(INDEX_COMMIT_INTERVAL_SPRING_VALUE) long commitIntervalMs,
+                                               @Value(INDEX_REFRESH_INTERVAL_SPRING_VALUE) long refreshIntervalMs) {
+        return new IndexCommitPolicy(durability, maxUncommittedWrites, commitIntervalMs, refreshIntervalMs);
+    }
+
+    @Bean
+    public LuceneIndexRepository reportLuceneIndexRepository(IndexConfig reportIndexConfig, IndexCommitPolicy indexCommitPolicy, ChutneyMetrics metrics) {
+        return new LuceneIndexRepository("report", reportIndexConfig, indexCommitPolicy, metrics);
     }
 
     @Bean
-    public LuceneIndexRepository scenarioLuceneIndexRepository(IndexConfig scenarioIndexConfig) {
-        return new LuceneIndexRepository(scenarioIndexConfig);
+    public LuceneIndexRepository scenarioLuceneIndexRepository(IndexConfig scenarioIndexConfig, IndexCommitPolicy indexCommitPolicy, ChutneyMetrics metrics) {
+        return new LuceneIndexRepository("scenario", scenarioIndexConfig, indexCommitPolicy, metrics);
     }
 
     @Bean
-    public LuceneIndexRepository datasetLuceneIndexRepository(IndexConfig datasetIndexConfig) {
-        return new LuceneIndexRepository(datasetIndexConfig);
+    public LuceneIndexRepository datasetLuceneIndexRepository(IndexConfig datasetIndexConfig, IndexCommitPolicy indexCommitPolicy, ChutneyMetrics metrics) {
+        return new LuceneIndexRepository("dataset", datasetIndexConfig, indexCommitPolicy, metrics);
     }
 
     @Bean
-    public LuceneIndexRepository campaignLuceneIndexRepository(IndexConfig campaignIndexConfig) {
-        return new LuceneIndexRepository(campaignIndexConfig);
+    public LuceneIndexRepository campaignLuceneIndexRepository(IndexConfig campaignIndexConfig, IndexCommitPolicy indexCommitPolicy, ChutneyMetrics metrics) {
+        return new LuceneIndexRepository("campaign", campaignIndexConfig, indexCommitPolicy, metrics);
     }
 
     @Bean
-    public IndexConfig reportIndexConfig(@Value("${chutney.index-folder:~/.chutney/index}") String directory) {
+    public IndexConfig reportIndexConfig(@Value(INDEX_FOLDER_SPRING_VALUE) String directory) {
         return new OnDiskIndexConfig(directory, "report");
     }
 
     @Bean
-    public IndexConfig scenarioIndexConfig(@Value("${chutney.index-folder:~/.chutney/index}") String directory) {
+    public IndexConfig scenarioIndexConfig(@Value(INDEX_FOLDER_SPRING_VALUE) String directory) {
         return new OnDiskIndexConfig(directory, "scenario");
     }
 
     @Bean
-    public IndexConfig datasetIndexConfig(@Value("${chutney.index-folder:~/.chutney/index}") String directory) {
+    public IndexConfig datasetIndexConfig(@Value(INDEX_FOLDER_SPRING_VALUE) String directory) {
         return new OnDiskIndexConfig(directory, "dataset");
     }
 
     @Bean
-    public IndexConfig campaignIndexConfig(@Value("${chutney.index-folder:~/.chutney/index}") String directory) {
+    public IndexConfig campaignIndexConfig(@Value(INDEX_FOLDER_SPRING_VALUE) String directory) {
         return new OnDiskIndexConfig(directory, "campaign");
     }
 
@@ -18,7 +18,14 @@ public final class ServerConfigurationValues {
     public static final String ENGINE_DELEGATION_PASSWORD_SPRING_VALUE = "${chutney.engine.delegation.password:#{null}}";
     public static final String EXECUTION_ASYNC_PUBLISHER_TTL_SPRING_VALUE = "${chutney.server.execution.async.publisher.ttl:5}";
     public static final String EXECUTION_ASYNC_PUBLISHER_DEBOUNCE_SPRING_VALUE = "${chutney.server.execution.async.publisher.debounce:250}";
+    public static final String EXECUTION_ASYNC_PROGRESS_PERSISTENCE_SPRING_VALUE = "${chutney.server.execution.async.progress-persistence.enabled:false}";
+    public static final String EXECUTION_ASYNC_PROGRESS_CHECKPOINT_SPRING_VALUE = "${chutney.server.execution.async.progress-persistence.checkpoint:30000}";
     public static final String CAMPAIGNS_EXECUTOR_POOL_SIZE_SPRING_VALUE = "${chutney.server.campaigns.executor.pool-size:20}";
+    public static final String CAMPAIGNS_EXECUTOR_VIRTUAL_THREADS_SPRING_VALUE = "${chutney.server.campaigns.executor.virtual-threads:false}";
+    public static final String CAMPAIGNS_SCHEDULER_MAX_PARALLELISM_SPRING_VALUE = "${chutney.server.campaigns.scheduler.max-parallelism:0}";
+    public static final String CAMPAIGNS_SCHEDULER_MAX_PARALLELISM_BY_CAMPAIGN_SPRING_VALUE = "${chutney.server.campaigns.scheduler.max-parallelism-by-campaign:0}";
+    public static final String CAMPAIGNS_SCHEDULER_MAX_PARALLELISM_BY_ENVIRONMENT_SPRING_VALUE = "${chutney.server.campaigns.scheduler.max-parallelism-by-environment:0}";
+    public static final String CAMPAIGNS_SCHEDULER_ORDER_SPRING_VALUE = "${chutney.server.campaigns.scheduler.order:DECLARATION}";
     public static final String SCHEDULED_CAMPAIGNS_EXECUTOR_POOL_SIZE_SPRING_VALUE = "${chutney.server.schedule-campaigns.executor.pool-size:20}";
     public static final String SCHEDULED_CAMPAIGNS_FIXED_RATE_SPRING_VALUE = "${chutney.server.schedule-campaigns.fixed-rate:60000}";
     public static final String SCHEDULED_PURGE_CRON_SPRING_VALUE = "${chutney.server.schedule-purge.cron:0 0 1 * * *}";
@@ -26,7 +33,17 @@ public final class ServerConfigurationValues {
     public static final String SCHEDULED_PURGE_RETRY_COUNT_SPRING_VALUE = "${chutney.server.schedule-purge.retry:2}";
     public static final String SCHEDULED_PURGE_MAX_SCENARIO_EXECUTIONS_SPRING_VALUE = "${chutney.server.schedule-purge.max-scenario-executions:10}";
     public static final String SCHEDULED_PURGE_MAX_CAMPAIGN_EXECUTIONS_SPRING_VALUE = "${chutney.server.schedule-purge.max-campaign-executions:10}";
+    public static final String EXECUTION_SCENARIO_CACHE_MAX_SIZE_SPRING_VALUE = "${chutney.server.execution.scenario-cache.max-size:1000}";
+    public static final String ENGINE_EXPRESSION_CACHE_SIZE_SPRING_VALUE = "${chutney.engine.expression.cache-size:10000}";
+    public static final String ENGINE_EXPRESSION_COMPILER_MODE_SPRING_VALUE = "${chutney.engine.expression.compiler-mode:OFF}";
     public static final String ENGINE_EXECUTOR_POOL_SIZE_SPRING_VALUE = "${chutney.engine.executor.pool-size:20}";
+    public static final String ENGINE_EXECUTOR_VIRTUAL_THREADS_SPRING_VALUE = "${chutney.engine.executor.virtual-threads:false}";
+    public static final String INDEX_FOLDER_SPRING_VALUE = "${chutney.index-folder:~/.chutney/index}";
+    public static final String INDEX_DURABILITY_SPRING_VALUE = "${chutney.index.durability:SYNC}";
+    public static final String INDEX_COMMIT_MAX_WRITES_SPRING_VALUE = "${chutney.index.commit.max-writes:1000}";
+    public static final String INDEX_COMMIT_INTERVAL_SPRING_VALUE = "${chutney.index.commit.interval:1000}";
+    public static final String INDEX_REFRESH_INTERVAL_SPRING_VALUE = "${chutney.index.refresh.interval:200}";
+    public static final String CONNECTION_POOLS_METRICS_FIXED_RATE_SPRING_VALUE = "${chutney.server.metrics.connection-pools.fixed-rate:10000}";
     public static final String AGENT_NETWORK_CONNECTION_CHECK_TIMEOUT_SPRING_VALUE = "${chutney.server.agent.network.connection-checker-timeout:1000}";
     public static final String LOCAL_AGENT_DEFAULT_NAME_SPRING_VALUE = "${chutney.server.agent.name:#{null}}";
     public static final String LOCAL_AGENT_DEFAULT_HOSTNAME_SPRING_VALUE = "${chutney.server.agent.hostname:#{null}}";
@@ -28,6 +28,7 @@ public class CampaignExecutionReportDto {
     @JsonProperty("user")
     private final String userId;
     private final Long duration;
+    private final Long predictedDuration;
 
     public CampaignExecutionReportDto(Long executionId,
                                       List<ScenarioExecutionReportOutlineDto> scenarioExecutionReports,
@@ -38,7 +39,8 @@ public class CampaignExecutionReportDto {
                                       String executionEnvironment,
                                       DataSetDto dataset,
                                       String userId,
-                                      Long duration) {
+                                      Long duration,
+                                      Long predictedDuration) {
         this.executionId = executionId;
         this.scenarioExecutionReports = scenarioExecutionReports;
         this.campaignName = campaignName;
@@ -49,6 +51,7 @@ public class CampaignExecutionReportDto {
         this.dataset = dataset;
         this.userId = userId;
         this.duration = duration;
+        this.predictedDuration = predictedDuration;
     }
 
     public Long getExecutionId() {
@@ -71,6 +74,10 @@ public class CampaignExecutionReportDto {
         return duration;
     }
 
+    public Long getPredictedDuration() {
+        return predictedDuration;
+    }
+
     @Override
     public String toString() {
         return "CampaignExecutionReport{" +
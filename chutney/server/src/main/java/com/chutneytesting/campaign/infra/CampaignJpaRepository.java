@@ -8,11 +8,14 @@
 package com.chutneytesting.campaign.infra;
 
 import com.chutneytesting.campaign.infra.jpa.CampaignEntity;
+import jakarta.persistence.Tuple;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CampaignJpaRepository extends JpaRepository<CampaignEntity, Long>, JpaSpecificationExecutor<CampaignEntity> {
 
@@ -25,4 +28,10 @@ public interface CampaignJpaRepository extends JpaRepository<CampaignEntity, Lon
 
     List<CampaignEntity> findByEnvironment(String environment);
     List<CampaignEntity> findByDatasetId(String dataset);
+
+    /**
+     * @return tuples of campaign id and title
+     */
+    @Query("SELECT c.id, c.title FROM CAMPAIGN c WHERE c.id IN :ids")
+    List<Tuple> findTitlesByIds(@Param("ids") Collection<Long> ids);
 }
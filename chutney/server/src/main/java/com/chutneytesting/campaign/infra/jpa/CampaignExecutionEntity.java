@@ -29,6 +29,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import org.hibernate.annotations.BatchSize;
 
 @Entity(name = "CAMPAIGN_EXECUTIONS")
 public class CampaignExecutionEntity {
@@ -41,6 +42,7 @@ public class CampaignExecutionEntity {
     private Long campaignId;
 
     @OneToMany(mappedBy = "campaignExecution")
+    @BatchSize(size = 100)
     private List<ScenarioExecutionEntity> scenarioExecutions;
 
     @Column(name = "PARTIAL")
@@ -61,6 +63,9 @@ public class CampaignExecutionEntity {
     @Column(name = "DATASET_DATATABLE")
     private String datasetDatatable;
 
+    @Column(name = "PREDICTED_DURATION")
+    private Long predictedDuration;
+
     @Column(name = "VERSION")
     @Version
     private Integer version;
@@ -105,6 +110,7 @@ public class CampaignExecutionEntity {
         partial = report.partialExecution;
         environment = report.executionEnvironment;
         userId = report.userId;
+        predictedDuration = report.predictedDuration().orElse(null);
         if (report.dataset != null) {
             datasetId = report.dataset.id;
             datasetConstants = datasetConstantsToString(report.dataset.constants);
@@ -129,7 +135,8 @@ public class CampaignExecutionEntity {
             .partialExecution(ofNullable(partial).orElse(false))
             .environment(environment)
             .dataset(getDataset(datasetId, datasetConstants, datasetDatatable))
-            .userId(userId);
+            .userId(userId)
+            .predictedDuration(predictedDuration);
 
         if (scenarioExecutionReports.isEmpty()) {
             campaignExecutionReportBuilder.status(ServerReportStatus.SUCCESS).startDate(LocalDateTime.MIN);
@@ -10,7 +10,6 @@ package com.chutneytesting.execution.domain.campaign;
 
 import static com.chutneytesting.server.core.domain.dataset.DataSet.NO_DATASET;
 import static java.util.Collections.emptyList;
-import static java.util.Collections.singleton;
 import static java.util.Optional.ofNullable;
 
 import com.chutneytesting.campaign.domain.CampaignExecutionRepository;
@@ -18,6 +17,7 @@ import com.chutneytesting.campaign.domain.CampaignNotFoundException;
 import com.chutneytesting.campaign.domain.CampaignRepository;
 import com.chutneytesting.dataset.domain.DataSetRepository;
 import com.chutneytesting.jira.api.JiraXrayEmbeddedApi;
+import com.chutneytesting.jira.api.ReportForJira;
 import com.chutneytesting.jira.domain.exception.NoJiraConfigurationException;
 import com.chutneytesting.server.core.domain.dataset.DataSet;
 import com.chutneytesting.server.core.domain.execution.ExecutionRequest;
@@ -38,16 +38,10 @@ import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecution
 import com.chutneytesting.server.core.domain.scenario.campaign.ScenarioExecutionCampaign;
 import com.chutneytesting.server.core.domain.scenario.campaign.TestCaseDataset;
 import com.chutneytesting.tools.Try;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.collect.Lists;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -55,13 +49,14 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Load campaigns with {@link CampaignRepository}
- * Run each scenario with @{@link ScenarioExecutionEngine}
+ * Run each scenario with @{@link ScenarioExecutionEngine}, as scheduled by {@link CampaignScenarioScheduler}
  */
 public class CampaignExecutionEngine {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(Campaign.class);
 
-    private final ExecutorService executor;
+    private final CampaignScenarioScheduler scheduler;
+    private final CampaignScenarioPlanner planner;
     private final CampaignRepository campaignRepository;
     private final CampaignExecutionRepository campaignExecutionRepository;
     private final ScenarioExecutionEngine scenarioExecutionEngine;
@@ -73,7 +68,6 @@ public class CampaignExecutionEngine {
     private final DataSetRepository datasetRepository;
 
     private final Map<Long, Boolean> currentCampaignExecutionsStopRequests = new ConcurrentHashMap<>();
-    private final ObjectMapper objectMapper;
 
     public CampaignExecutionEngine(CampaignRepository campaignRepository,
                                    CampaignExecutionRepository campaignExecutionRepository,
@@ -83,9 +77,9 @@ public class CampaignExecutionEngine {
                                    TestCaseRepository testCaseRepository,
                                    JiraXrayEmbeddedApi jiraXrayEmbeddedApi,
                                    ChutneyMetrics metrics,
-                                   ExecutorService executorService,
-                                   DataSetRepository datasetRepository,
-                                   ObjectMapper objectMapper) {
+                                   CampaignScenarioScheduler scheduler,
+                                   CampaignScenarioPlanner planner,
+                                   DataSetRepository datasetRepository) {
         this.campaignRepository = campaignRepository;
         this.campaignExecutionRepository = campaignExecutionRepository;
         this.scenarioExecutionEngine = scenarioExecutionEngine;
@@ -94,9 +88,9 @@ public class CampaignExecutionEngine {
         this.testCaseRepository = testCaseRepository;
         this.jiraXrayEmbeddedApi = jiraXrayEmbeddedApi;
         this.metrics = metrics;
-        this.executor = executorService;
+        this.scheduler = scheduler;
+        this.planner = planner;
         this.datasetRepository = datasetRepository;
-        this.objectMapper = objectMapper;
     }
 
     public CampaignExecution getLastCampaignExecution(Long campaignId) {
@@ -248,17 +242,13 @@ public class CampaignExecutionEngine {
 
         campaignExecution.addScenarioExecution(testCaseDatasets, campaign.executionEnvironment());
         try {
-            if (campaign.parallelRun) {
-                Collection<Callable<Object>> toExecute = Lists.newArrayList();
-                for (TestCaseDataset t : testCaseDatasets) {
-                    toExecute.add(Executors.callable(() -> executeScenarioInCampaign(campaign, campaignExecution).accept(t)));
-                }
-                executor.invokeAll(toExecute);
-            } else {
-                for (TestCaseDataset t : testCaseDatasets) {
-                    executor.invokeAll(singleton(Executors.callable(() -> executeScenarioInCampaign(campaign, campaignExecution).accept(t))));
-                }
-            }
+            CampaignScenarioPlanner.Plan plan = planner.plan(testCaseDatasets, campaign.executionEnvironment(), campaign.parallelRun, scheduler.maxParallelism(campaign.parallelRun));
+            plan.predictedDuration().ifPresent(campaignExecution::predictDuration);
+            Consumer<TestCaseDataset> scenarioExecution = executeScenarioInCampaign(campaign, campaignExecution);
+            List<Runnable> toExecute = plan.scenarios().stream()
+                .<Runnable>map(t -> () -> scenarioExecution.accept(t))
+                .toList();
+            scheduler.runAll(campaign.executionEnvironment(), campaign.parallelRun, toExecute);
         } catch (InterruptedException e) {
             LOGGER.error("Error ", e);
         } catch (Exception e) {
@@ -270,7 +260,7 @@ public class CampaignExecutionEngine {
     private Consumer<TestCaseDataset> executeScenarioInCampaign(Campaign campaign, CampaignExecution campaignExecution) {
         return testCaseDataset -> {
             try {
-                ScenarioExecutionCampaign scenarioExecution;
+                ScenarioRun scenarioExecution;
                 // Is stop requested ?
                 if (!currentCampaignExecutionsStopRequests.get(campaignExecution.executionId)) {
                     // Init scenario execution in campaign report
@@ -278,7 +268,7 @@ public class CampaignExecutionEngine {
                     // Execute scenario
                     scenarioExecution = executeScenario(campaign, testCaseDataset, campaignExecution);
                     // Retry one time if failed
-                    if (campaign.retryAuto && ServerReportStatus.FAILURE.equals(scenarioExecution.status())) {
+                    if (campaign.retryAuto && scenarioExecution != null && ServerReportStatus.FAILURE.equals(scenarioExecution.execution().status())) {
                         scenarioExecution = executeScenario(campaign, testCaseDataset, campaignExecution);
                     }
                 } else {
@@ -286,11 +276,10 @@ public class CampaignExecutionEngine {
                 }
                 // Add scenario report to campaign's one
                 ofNullable(scenarioExecution)
-                    .ifPresent(serc -> {
-                        campaignExecution.endScenarioExecution(serc);
+                    .ifPresent(run -> {
+                        campaignExecution.endScenarioExecution(run.execution());
                         // update xray test
-                        ExecutionHistory.Execution execution = executionHistoryRepository.getExecution(serc.scenarioId(), serc.execution().executionId());
-                        updateJira(campaign, campaignExecution, serc, execution);
+                        updateJira(campaign, campaignExecution, run);
                     });
             } catch (Exception e) {
                 LOGGER.error("Error in scenario execution for campaign execution {}", campaignExecution.executionId, e);
@@ -298,47 +287,48 @@ public class CampaignExecutionEngine {
         };
     }
 
-    private void updateJira(Campaign campaign, CampaignExecution campaignExecution, ScenarioExecutionCampaign serc, ExecutionHistory.Execution execution) {
+    private void updateJira(Campaign campaign, CampaignExecution campaignExecution, ScenarioRun run) {
         try {
+            ScenarioExecutionCampaign serc = run.execution();
             String datasetId = serc.execution()
                 .dataset()
                 .map(dataset -> ofNullable(dataset.id).orElse(""))
                 .orElse("");
-            jiraXrayEmbeddedApi.updateTestExecution(campaign.id, campaignExecution.executionId, serc.scenarioId(), datasetId, JiraReportMapper.from(execution.report(), objectMapper));
+            ReportForJira report = run.report()
+                .map(JiraReportMapper::from)
+                .orElseGet(() -> JiraReportMapper.from(serc.execution()));
+            jiraXrayEmbeddedApi.updateTestExecution(campaign.id, campaignExecution.executionId, serc.scenarioId(), datasetId, report);
         } catch (NoJiraConfigurationException e) { // Silent
         } catch (Exception e) {
             LOGGER.warn("Update JIRA failed", e);
         }
     }
 
-    private ScenarioExecutionCampaign generateNotExecutedScenarioExecutionAndReport(Campaign campaign, TestCaseDataset testCaseDataset, CampaignExecution campaignExecution) {
+    private ScenarioRun generateNotExecutedScenarioExecutionAndReport(Campaign campaign, TestCaseDataset testCaseDataset, CampaignExecution campaignExecution) {
         ExecutionRequest executionRequest = buildExecutionRequest(campaign, testCaseDataset, campaignExecution);
         ExecutionHistory.Execution execution = scenarioExecutionEngine.saveNotExecutedScenarioExecution(executionRequest);
-        return new ScenarioExecutionCampaign(testCaseDataset.testcase().id(), testCaseDataset.testcase().metadata().title(), execution.summary());
+        return new ScenarioRun(new ScenarioExecutionCampaign(testCaseDataset.testcase().id(), testCaseDataset.testcase().metadata().title(), execution.summary()), Optional.empty());
     }
 
 
-    private ScenarioExecutionCampaign executeScenario(Campaign campaign, TestCaseDataset testCaseDataset, CampaignExecution campaignExecution) {
-        Long executionId;
-        String scenarioName;
+    private ScenarioRun executeScenario(Campaign campaign, TestCaseDataset testCaseDataset, CampaignExecution campaignExecution) {
+        String scenarioId = testCaseDataset.testcase().id();
         try {
-            LOGGER.trace("Execute scenario {} for campaign {}", testCaseDataset.testcase().id(), campaign.id);
+            LOGGER.trace("Execute scenario {} for campaign {}", scenarioId, campaign.id);
             ExecutionRequest executionRequest = buildExecutionRequest(campaign, testCaseDataset, campaignExecution);
             ScenarioExecutionReport scenarioExecutionReport = scenarioExecutionEngine.execute(executionRequest);
-            executionId = scenarioExecutionReport.executionId;
-            scenarioName = scenarioExecutionReport.scenarioName;
+            ExecutionHistory.ExecutionSummary summary = scenarioExecutionEngine.storedSummary(scenarioExecutionReport);
+            return new ScenarioRun(new ScenarioExecutionCampaign(scenarioId, scenarioExecutionReport.scenarioName, summary), Optional.of(scenarioExecutionReport));
         } catch (FailedExecutionAttempt e) {
-            LOGGER.warn("Failed execution attempt for scenario {} for campaign {}", testCaseDataset.testcase().id(), campaign.id);
-            executionId = e.executionId;
-            scenarioName = e.title;
+            LOGGER.warn("Failed execution attempt for scenario {} for campaign {}", scenarioId, campaign.id);
+            // No report to summarize, the execution has been stored as failed
+            ExecutionHistory.ExecutionSummary summary = executionHistoryRepository.getExecutionSummary(e.executionId);
+            return new ScenarioRun(new ScenarioExecutionCampaign(scenarioId, e.title, summary), Optional.empty());
         } catch (ScenarioNotFoundException | ScenarioNotParsableException se) {
-            LOGGER.error("Scenario error for scenario {} for campaign {}", testCaseDataset.testcase().id(), campaign.id, se);
+            LOGGER.error("Scenario error for scenario {} for campaign {}", scenarioId, campaign.id, se);
             // TODO - Do not hide scenario problem
             return null;
         }
-        // TODO - why an extra DB request when we already have the report above ?
-        ExecutionHistory.Execution execution = executionHistoryRepository.getExecution(testCaseDataset.testcase().id(), executionId);
-        return new ScenarioExecutionCampaign(testCaseDataset.testcase().id(), scenarioName, execution.summary());
     }
 
     private DataSet resolveScenarioDataset(Campaign.CampaignScenario campaignScenario, CampaignExecution campaignExecution) {
@@ -388,4 +378,10 @@ public class CampaignExecutionEngine {
         ofNullable(environment).ifPresent(campaign::executionEnvironment);
         return campaign;
     }
+
+    /**
+     * @param report in memory report of the scenario execution, empty when it did not run
+     */
+    private record ScenarioRun(ScenarioExecutionCampaign execution, Optional<ScenarioExecutionReport> report) {
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.domain.campaign;
+
+import static com.chutneytesting.execution.domain.campaign.CampaignScenarioScheduler.UNLIMITED;
+import static java.util.Comparator.comparingLong;
+
+import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryRepository;
+import com.chutneytesting.server.core.domain.scenario.campaign.TestCaseDataset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Choose the order in which a campaign's scenarios are given to {@link CampaignScenarioScheduler}.<br>
+ * With {@link Order#LONGEST_FIRST}, parallel campaigns start with the scenarios which took the longest on the environment,
+ * so that long scenarios do not end up running alone at the end of the campaign.
+ * A scenario duration is estimated with the 90th percentile of its last finished executions on the environment.
+ */
+public class CampaignScenarioPlanner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CampaignScenarioPlanner.class);
+
+    public enum Order {
+        DECLARATION, LONGEST_FIRST
+    }
+
+    static final int HISTORY_SIZE = 20;
+    private static final double PERCENTILE = 0.9;
+
+    private final Order order;
+    private final ExecutionHistoryRepository executionHistoryRepository;
+
+    public CampaignScenarioPlanner(Order order, ExecutionHistoryRepository executionHistoryRepository) {
+        this.order = order;
+        this.executionHistoryRepository = executionHistoryRepository;
+    }
+
+    /**
+     * @param scenarios   campaign's scenarios in declaration order
+     * @param parallelism maximum number of scenarios running at once, {@link CampaignScenarioScheduler#UNLIMITED} for no limit
+     */
+    public Plan plan(List<TestCaseDataset> scenarios, String environment, boolean parallelRun, int parallelism) {
+        if (order == Order.DECLARATION || !parallelRun || scenarios.isEmpty()) {
+            return new Plan(scenarios, Optional.empty());
+        }
+
+        Map<String, Long> estimates;
+        try {
+            estimates = estimates(scenarios, environment);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Cannot estimate scenarios durations on environment {}, declaration order is kept", environment, e);
+            return new Plan(scenarios, Optional.empty());
+        }
+        if (estimates.isEmpty()) {
+            return new Plan(scenarios, Optional.empty());
+        }
+
+        // Scenarios without history are considered as long as an average one
+        long unknownEstimate = Math.round(estimates.values().stream().mapToLong(Long::longValue).average().orElse(0));
+        List<TestCaseDataset> ordered = new ArrayList<>(scenarios);
+        ordered.sort(comparingLong((TestCaseDataset s) -> estimates.getOrDefault(s.testcase().id(), unknownEstimate)).reversed());
+
+        List<Long> durations = ordered.stream().map(s -> estimates.getOrDefault(s.testcase().id(), unknownEstimate)).toList();
+        int slots = parallelism == UNLIMITED ? durations.size() : Math.min(parallelism, durations.size());
+        return new Plan(ordered, Optional.of(makespan(durations, slots)));
+    }
+
+    private Map<String, Long> estimates(List<TestCaseDataset> scenarios, String environment) {
+        List<String> scenarioIds = scenarios.stream().map(s -> s.testcase().id()).distinct().toList();
+        return executionHistoryRepository.getLastDurations(scenarioIds, environment, HISTORY_SIZE)
+            .entrySet().stream()
+            .filter(e -> !e.getValue().isEmpty())
+            .collect(Collectors.toMap(Map.Entry::getKey, e -> percentile(e.getValue())));
+    }
+
+    /**
+     * Simulate the scheduler, which starts each scenario in given order as soon as a slot is free.
+     *
+     * @return time in milliseconds when the last scenario ends
+     */
+    static long makespan(List<Long> durations, int slots) {
+        PriorityQueue<Long> slotsEnd = new PriorityQueue<>(Collections.nCopies(Math.max(slots, 1), 0L));
+        durations.forEach(duration -> slotsEnd.add(slotsEnd.poll() + duration));
+        return slotsEnd.stream().mapToLong(Long::longValue).max().orElse(0);
+    }
+
+    private static long percentile(List<Long> durations) {
+        List<Long> sorted = durations.stream().sorted().toList();
+        int rank = (int) Math.ceil(PERCENTILE * sorted.size());
+        return sorted.get(Math.max(rank, 1) - 1);
+    }
+
+    /**
+     * @param scenarios         in execution order
+     * @param predictedDuration in milliseconds, when scenarios' history allows it
+     */
+    public record Plan(List<TestCaseDataset> scenarios, Optional<Long> predictedDuration) {
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.domain.campaign;
+
+import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.IntStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Run campaigns' scenarios on the campaigns' executor, under concurrency limits shared by all campaign executions.<br>
+ * Each campaign execution has its own queue, and free slots are given to queues in turn,
+ * so that a large parallel campaign cannot starve the other ones.<br>
+ * A scenario starts when the scheduler, its campaign execution and its environment all have a free slot.
+ */
+public class CampaignScenarioScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CampaignScenarioScheduler.class);
+
+    public static final int UNLIMITED = 0;
+
+    private final ExecutorService executor;
+    private final int maxParallelism;
+    private final int maxParallelismByCampaign;
+    private final int maxParallelismByEnvironment;
+    private final ChutneyMetrics metrics;
+
+    private final Deque<CampaignQueue> queues = new ArrayDeque<>();
+    private final Map<String, Integer> runningByEnvironment = new HashMap<>();
+    private int running = 0;
+
+    /**
+     * @param maxParallelism              maximum number of scenarios running at once, {@link #UNLIMITED} to rely on executor only
+     * @param maxParallelismByCampaign    maximum number of scenarios running at once for one parallel campaign execution, {@link #UNLIMITED} for no limit
+     * @param maxParallelismByEnvironment maximum number of scenarios running at once on one environment, {@link #UNLIMITED} for no limit
+     */
+    public CampaignScenarioScheduler(ExecutorService executor, int maxParallelism, int maxParallelismByCampaign, int maxParallelismByEnvironment, ChutneyMetrics metrics) {
+        this.executor = executor;
+        this.maxParallelism = maxParallelism;
+        this.maxParallelismByCampaign = maxParallelismByCampaign;
+        this.maxParallelismByEnvironment = maxParallelismByEnvironment;
+        this.metrics = metrics;
+    }
+
+    public static CampaignScenarioScheduler unlimited(ExecutorService executor, ChutneyMetrics metrics) {
+        return new CampaignScenarioScheduler(executor, UNLIMITED, UNLIMITED, UNLIMITED, metrics);
+    }
+
+    /**
+     * @return maximum number of scenarios of a campaign execution running at once, {@link #UNLIMITED} if none
+     */
+    public int maxParallelism(boolean parallelRun) {
+        if (!parallelRun) {
+            return 1;
+        }
+        return IntStream.of(maxParallelism, maxParallelismByCampaign, maxParallelismByEnvironment)
+            .filter(limit -> limit != UNLIMITED)
+            .min()
+            .orElse(UNLIMITED);
+    }
+
+    /**
+     * Run scenarios of a campaign execution and wait for their end.
+     *
+     * @param parallelRun false to run scenarios one after the other, in given order
+     * @throws InterruptedException when interrupted while waiting, scenarios not started yet are then dropped
+     */
+    public void runAll(String environment, boolean parallelRun, List<Runnable> scenarios) throws InterruptedException {
+        if (scenarios.isEmpty()) {
+            return;
+        }
+        CampaignQueue queue = new CampaignQueue(environment, parallelRun ? maxParallelismByCampaign : 1, scenarios);
+        synchronized (this) {
+            queues.addLast(queue);
+        }
+        dispatch(environment);
+        try {
+            queue.done.await();
+        } finally {
+            synchronized (this) {
+                queue.pending.clear();
+                queues.remove(queue);
+            }
+            publishMetrics(environment);
+        }
+    }
+
+    private void dispatch(String environment) {
+        List<ScheduledScenario> toStart;
+        synchronized (this) {
+            toStart = nextScenarios();
+        }
+        toStart.forEach(this::submit);
+        publishMetrics(environment);
+    }
+
+    private List<ScheduledScenario> nextScenarios() {
+        List<ScheduledScenario> toStart = new ArrayList<>();
+        boolean started = true;
+        while (started && hasCapacity(running, maxParallelism)) {
+            started = false;
+            for (int i = 0; i < queues.size() && !started; i++) {
+                CampaignQueue queue = queues.pollFirst();
+                queues.addLast(queue);
+                if (queue.canStart() && hasCapacity(runningByEnvironment.getOrDefault(queue.environment, 0), maxParallelismByEnvironment)) {
+                    toStart.add(new ScheduledScenario(queue, queue.readySince, queue.start()));
+                    runningByEnvironment.merge(queue.environment, 1, Integer::sum);
+                    running++;
+                    started = true;
+                }
+            }
+        }
+        return toStart;
+    }
+
+    private void submit(ScheduledScenario scenario) {
+        try {
+            executor.execute(() -> run(scenario));
+        } catch (RejectedExecutionException e) {
+            LOGGER.error("Scenario execution rejected by campaigns' executor on environment {}", scenario.queue.environment, e);
+            release(scenario);
+        }
+    }
+
+    private void run(ScheduledScenario scenario) {
+        try {
+            metrics.onCampaignScenarioWait(scenario.queue.environment, System.nanoTime() - scenario.readySince);
+            scenario.task.run();
+        } finally {
+            release(scenario);
+        }
+    }
+
+    private void release(ScheduledScenario scenario) {
+        synchronized (this) {
+            running--;
+            runningByEnvironment.computeIfPresent(scenario.queue.environment, (env, count) -> count > 1 ? count - 1 : null);
+            scenario.queue.release();
+        }
+        scenario.queue.done.countDown();
+        dispatch(scenario.queue.environment);
+    }
+
+    private void publishMetrics(String environment) {
+        int queued;
+        int runningOnEnvironment;
+        synchronized (this) {
+            queued = queues.stream().filter(q -> Objects.equals(q.environment, environment)).mapToInt(q -> q.pending.size()).sum();
+            runningOnEnvironment = runningByEnvironment.getOrDefault(environment, 0);
+        }
+        metrics.onCampaignSchedulerStats(environment, queued, runningOnEnvironment);
+    }
+
+    private static boolean hasCapacity(int running, int limit) {
+        return limit == UNLIMITED || running < limit;
+    }
+
+    /**
+     * @param readySince time from which the scenario only waited for a free slot, i.e. not for its campaign's previous scenarios
+     */
+    private record ScheduledScenario(CampaignQueue queue, long readySince, Runnable task) {
+    }
+
+    private static class CampaignQueue {
+        private final String environment;
+        private final int maxParallelism;
+        private final Deque<Runnable> pending;
+        private final CountDownLatch done;
+        private long readySince = System.nanoTime();
+        private int running = 0;
+
+        private CampaignQueue(String environment, int maxParallelism, List<Runnable> scenarios) {
+            this.environment = environment;
+            this.maxParallelism = maxParallelism;
+            this.pending = new ArrayDeque<>(scenarios);
+            this.done = new CountDownLatch(scenarios.size());
+        }
+
+        private boolean canStart() {
+            return !pending.isEmpty() && hasCapacity(running, maxParallelism);
+        }
+
+        private Runnable start() {
+            running++;
+            return pending.pollFirst();
+        }
+
+        private void release() {
+            if (!hasCapacity(running, maxParallelism)) {
+                readySince = System.nanoTime();
+            }
+            running--;
+        }
+    }
+}
@@ -35,6 +35,7 @@ import com.chutneytesting.server.core.domain.execution.ScenarioConversionExcepti
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
@@ -44,11 +45,13 @@ public class DefaultExecutionRequestMapper implements ExecutionRequestMapper {
     private final TargetApi targetApi;
     private final EnvironmentApi environmentApi;
     private final CurrentNetworkDescription currentNetworkDescription;
+    private final ExecutableScenarioCache executableScenarioCache;
 
-    public DefaultExecutionRequestMapper(EmbeddedTargetApi targetApi, EmbeddedEnvironmentApi environmentApi, CurrentNetworkDescription currentNetworkDescription) {
+    public DefaultExecutionRequestMapper(EmbeddedTargetApi targetApi, EmbeddedEnvironmentApi environmentApi, CurrentNetworkDescription currentNetworkDescription, ExecutableScenarioCache executableScenarioCache) {
         this.targetApi = targetApi;
         this.environmentApi = environmentApi;
         this.currentNetworkDescription = currentNetworkDescription;
+        this.executableScenarioCache = executableScenarioCache;
     }
 
     @Override
@@ -75,32 +78,38 @@ public class DefaultExecutionRequestMapper implements ExecutionRequestMapper {
 
     private StepDefinitionRequestDto convertGwt(ExecutionRequest executionRequest) {
         GwtTestCase gwtTestCase = (GwtTestCase) executionRequest.testCase;
-        return new StepDefinitionRequestDto(
-            gwtTestCase.metadata.title,
-            null,
-            null,
-            null,
-            emptyMap(),
-            convert(gwtTestCase.scenario.steps(), executionRequest.environment),
-            emptyMap(),
-            emptyMap()
+        String env = executionRequest.environment;
+        return executableScenarioCache.stepDefinition(
+            gwtTestCase,
+            env,
+            targetName -> toExecutionTargetDto(getTargetForExecution(env, targetName), env),
+            targets -> new StepDefinitionRequestDto(
+                gwtTestCase.metadata.title,
+                null,
+                null,
+                null,
+                emptyMap(),
+                convert(gwtTestCase.scenario.steps(), targets),
+                emptyMap(),
+                emptyMap()
+            )
         );
     }
 
-    private List<StepDefinitionRequestDto> convert(List<GwtStep> steps, String env) {
+    private List<StepDefinitionRequestDto> convert(List<GwtStep> steps, Function<String, TargetExecutionDto> targets) {
         return steps.stream()
-            .map(s -> convert(s, env))
+            .map(s -> convert(s, targets))
             .collect(toList());
     }
 
-    private StepDefinitionRequestDto convert(GwtStep step, String env) {
+    private StepDefinitionRequestDto convert(GwtStep step, Function<String, TargetExecutionDto> targets) {
         return new StepDefinitionRequestDto(
             step.description,
-            step.implementation.map(i -> toExecutionTargetDto(getTargetForExecution(env, i.target), env)).orElse(toExecutionTargetDto(NO_TARGET_DTO, env)),
+            targets.apply(step.implementation.map(i -> i.target).orElse("")),
             step.strategy.map(this::mapStrategy).orElse(null),
             step.implementation.map(i -> i.type).orElse(""),
             step.implementation.map(i -> i.inputs).orElse(emptyMap()),
-            convert(step.subSteps, env),
+            convert(step.subSteps, targets),
             step.implementation.map(i -> i.outputs).orElse(emptyMap()),
             step.implementation.map(i -> i.validations).orElse(emptyMap())
         );
@@ -0,0 +1,120 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.infra.execution;
+
+import static com.chutneytesting.ServerConfigurationValues.EXECUTION_SCENARIO_CACHE_MAX_SIZE_SPRING_VALUE;
+
+import com.chutneytesting.engine.api.execution.ExecutionRequestDto.StepDefinitionRequestDto;
+import com.chutneytesting.engine.api.execution.TargetExecutionDto;
+import com.chutneytesting.scenario.domain.gwt.GwtTestCase;
+import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Executable forms of stored scenarios, so that scenarios run again and again, by campaigns for example, are not parsed and converted on each execution.<br>
+ * Parsed scenarios are kept by id and version, with their step definitions by environment.
+ * Cached step definitions are used only if the targets they were built with did not change since.
+ */
+@Component
+public class ExecutableScenarioCache {
+
+    static final String TEST_CASE_CACHE = "executable_scenario";
+    static final String STEP_DEFINITION_CACHE = "executable_scenario_steps";
+
+    private final Cache<ScenarioVersion, ExecutableScenario> scenarios;
+    private final ChutneyMetrics metrics;
+
+    public ExecutableScenarioCache(@Value(EXECUTION_SCENARIO_CACHE_MAX_SIZE_SPRING_VALUE) long maxSize, ChutneyMetrics metrics) {
+        this.scenarios = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .build();
+        this.metrics = metrics;
+    }
+
+    /**
+     * @param parser parses the stored scenario, called if given version is not cached
+     */
+    public GwtTestCase testCase(String scenarioId, Integer version, Supplier<GwtTestCase> parser) {
+        if (version == null) {
+            return parser.get();
+        }
+        AtomicBoolean parsed = new AtomicBoolean();
+        ExecutableScenario scenario = scenarios.get(new ScenarioVersion(scenarioId, version), key -> {
+            parsed.set(true);
+            return new ExecutableScenario(parser.get(), new ConcurrentHashMap<>());
+        });
+        metrics.onCacheLookup(TEST_CASE_CACHE, !parsed.get());
+        return scenario.testCase();
+    }
+
+    /**
+     * Step definitions are cached only for test cases given by {@link #testCase(String, Integer, Supplier)}.
+     *
+     * @param targetResolver resolves a target of the environment by its name, blank for no target
+     * @param builder        builds step definitions from a target resolver
+     */
+    public StepDefinitionRequestDto stepDefinition(GwtTestCase testCase,
+                                                   String environment,
+                                                   Function<String, TargetExecutionDto> targetResolver,
+                                                   Function<Function<String, TargetExecutionDto>, StepDefinitionRequestDto> builder) {
+        Map<String, TargetExecutionDto> targets = new HashMap<>();
+        Function<String, TargetExecutionDto> memoizedResolver = name -> targets.computeIfAbsent(name, targetResolver);
+
+        ExecutableScenario scenario = cachedScenario(testCase);
+        if (scenario == null || environment == null) {
+            return builder.apply(memoizedResolver);
+        }
+
+        StepDefinitions cached = scenario.stepDefinitionsByEnvironment().get(environment);
+        boolean hit = cached != null && cached.builtWithSameTargets(memoizedResolver);
+        metrics.onCacheLookup(STEP_DEFINITION_CACHE, hit);
+        if (hit) {
+            return cached.definition();
+        }
+
+        StepDefinitionRequestDto definition = builder.apply(memoizedResolver);
+        scenario.stepDefinitionsByEnvironment().put(environment, new StepDefinitions(definition, Map.copyOf(targets)));
+        return definition;
+    }
+
+    public void invalidate(String scenarioId) {
+        scenarios.asMap().keySet().removeIf(key -> key.scenarioId().equals(scenarioId));
+    }
+
+    private ExecutableScenario cachedScenario(GwtTestCase testCase) {
+        if (testCase.metadata.version() == null) {
+            return null;
+        }
+        ExecutableScenario scenario = scenarios.getIfPresent(new ScenarioVersion(testCase.metadata.id(), testCase.metadata.version()));
+        // Same id and version does not mean same content, executions can be requested with unsaved content
+        return scenario != null && scenario.testCase() == testCase ? scenario : null;
+    }
+
+    private record ScenarioVersion(String scenarioId, Integer version) {
+    }
+
+    private record ExecutableScenario(GwtTestCase testCase, Map<String, StepDefinitions> stepDefinitionsByEnvironment) {
+    }
+
+    private record StepDefinitions(StepDefinitionRequestDto definition, Map<String, TargetExecutionDto> targets) {
+
+        private boolean builtWithSameTargets(Function<String, TargetExecutionDto> targetResolver) {
+            return targets.entrySet().stream()
+                .allMatch(target -> target.getValue().equals(targetResolver.apply(target.getKey())));
+        }
+    }
+}
@@ -9,11 +9,13 @@ package com.chutneytesting.execution.infra.execution;
 
 import com.chutneytesting.engine.api.execution.ExecutionRequestDto;
 import com.chutneytesting.engine.api.execution.StepExecutionReportDto;
+import com.chutneytesting.engine.api.execution.StepReportDeltaDto;
 import com.chutneytesting.engine.api.execution.TestEngine;
 import com.chutneytesting.server.core.domain.execution.ExecutionRequest;
 import com.chutneytesting.server.core.domain.execution.ServerTestEngine;
 import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportCore;
 import io.reactivex.rxjava3.core.Observable;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.commons.lang3.tuple.Pair;
 
 public class ServerTestEngineJavaImpl implements ServerTestEngine {
@@ -39,11 +41,24 @@ public class ServerTestEngineJavaImpl implements ServerTestEngine {
         ExecutionRequestDto executionRequestDto = executionRequestMapper.toDto(executionRequest);
         Long executionId = executionEngine.executeAsync(executionRequestDto);
         return Pair.of(
-            executionEngine.receiveNotification(executionId).map(StepExecutionReportMapperCore::fromDto),
+            followReport(executionId),
             executionId
         );
     }
 
+    /**
+     * Only changed steps are received from the engine, and applied to the report of the previous ones.
+     */
+    private Observable<StepExecutionReportCore> followReport(Long executionId) {
+        Observable<StepReportDeltaDto> deltas = executionEngine.receiveNotificationDeltas(executionId);
+        return Observable.defer(() -> {
+            AtomicReference<StepExecutionReportCore> report = new AtomicReference<>();
+            return deltas
+                .filter(delta -> report.get() != null || delta.path.isEmpty())
+                .map(delta -> report.updateAndGet(previous -> StepExecutionReportMapperCore.applyDelta(previous, delta)));
+        });
+    }
+
     @Override
     public void stop(Long executionHash) {
         executionEngine.stopExecution(executionHash);
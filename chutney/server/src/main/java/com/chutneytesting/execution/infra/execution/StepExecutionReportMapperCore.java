@@ -11,9 +11,12 @@ import static java.util.Collections.EMPTY_MAP;
 
 import com.chutneytesting.engine.api.execution.StatusDto;
 import com.chutneytesting.engine.api.execution.StepExecutionReportDto;
+import com.chutneytesting.engine.api.execution.StepReportDeltaDto;
 import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
 import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportCore;
 import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportCoreBuilder;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 
 class StepExecutionReportMapperCore {
@@ -39,6 +42,42 @@ class StepExecutionReportMapperCore {
             .createStepExecutionReport();
     }
 
+    /**
+     * @return the report with the changed step report, sharing the other sub steps reports with the previous one,
+     * or the previous one when the step is not found in it
+     */
+    static StepExecutionReportCore applyDelta(StepExecutionReportCore previous, StepReportDeltaDto delta) {
+        return applyDelta(previous, delta, 0);
+    }
+
+    private static StepExecutionReportCore applyDelta(StepExecutionReportCore previous, StepReportDeltaDto delta, int depth) {
+        if (depth == delta.path.size()) {
+            return fromDto(delta.report);
+        }
+        int index = delta.path.get(depth);
+        if (index >= previous.steps.size()) {
+            return previous;
+        }
+        List<StepExecutionReportCore> steps = new ArrayList<>(previous.steps);
+        steps.set(index, applyDelta(steps.get(index), delta, depth + 1));
+        StepExecutionReportCore ancestor = fromDto(delta.ancestors.get(depth));
+        return new StepExecutionReportCore(
+            ancestor.name,
+            ancestor.duration,
+            ancestor.startDate,
+            ancestor.status,
+            ancestor.information,
+            ancestor.errors,
+            steps,
+            ancestor.type,
+            ancestor.targetName,
+            ancestor.targetUrl,
+            ancestor.strategy,
+            ancestor.evaluatedInputs,
+            ancestor.stepOutputs
+        );
+    }
+
     private static class ReportStatusMapper {
         public static ServerReportStatus fromDto(StatusDto status) {
             return ServerReportStatus.valueOf(status.name());
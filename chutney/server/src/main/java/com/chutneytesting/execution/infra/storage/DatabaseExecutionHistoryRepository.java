@@ -7,6 +7,8 @@
 
 package com.chutneytesting.execution.infra.storage;
 
+import static com.chutneytesting.server.core.domain.execution.report.ServerReportStatus.FAILURE;
+import static com.chutneytesting.server.core.domain.execution.report.ServerReportStatus.SUCCESS;
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static java.util.Collections.emptyList;
 import static java.util.Optional.ofNullable;
@@ -17,7 +19,6 @@ import com.chutneytesting.campaign.infra.jpa.CampaignExecutionEntity;
 import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionEntity;
 import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionReportEntity;
 import com.chutneytesting.execution.infra.storage.index.ExecutionReportIndexRepository;
-import com.chutneytesting.server.core.domain.dataset.DataSet;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory.DetachedExecution;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory.Execution;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory.ExecutionSummary;
@@ -31,8 +32,10 @@ import com.chutneytesting.server.core.domain.scenario.TestCaseRepository;
 import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecution;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -88,36 +91,56 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
         if (invalidScenarioId(scenarioId)) {
             return emptyList();
         }
-        List<ScenarioExecutionEntity> scenarioExecutions = scenarioExecutionsJpaRepository.findByScenarioIdOrderByIdDesc(scenarioId);
-        return scenarioExecutions.stream()
-            .map(this::scenarioExecutionToExecutionSummary)
-            .toList();
+        return scenarioExecutionsToExecutionSummaries(scenarioExecutionsJpaRepository.findByScenarioIdOrderByIdDesc(scenarioId));
     }
 
     @Override
     public List<ExecutionSummary> getExecutions() {
-        return scenarioExecutionsJpaRepository.findAll().stream()
-            .map(this::scenarioExecutionToExecutionSummary)
-            .toList();
+        return scenarioExecutionsToExecutionSummaries(scenarioExecutionsJpaRepository.findAll());
+    }
+
+    @Override
+    public Map<String, List<Long>> getLastDurations(List<String> scenarioIds, String environment, int limit) {
+        List<String> validScenariosIds = scenarioIds.stream().filter(id -> !invalidScenarioId(id)).distinct().toList();
+        if (validScenariosIds.isEmpty()) {
+            return Map.of();
+        }
+        return scenarioExecutionsJpaRepository.findLastDurations(validScenariosIds, environment, List.of(SUCCESS, FAILURE), limit)
+            .stream()
+            .collect(Collectors.groupingBy(t -> t.get(0, String.class), Collectors.mapping(t -> t.get(1, Long.class), Collectors.toList())));
     }
 
     @Override
     public ExecutionSummary getExecutionSummary(Long executionId) {
         return scenarioExecutionsJpaRepository.findById(executionId)
-            .map(this::scenarioExecutionToExecutionSummary)
+            .map(List::of)
+            .map(this::scenarioExecutionsToExecutionSummaries)
+            .map(List::getFirst)
             .orElseThrow(
                 () -> new ReportNotFoundException(executionId)
             );
     }
 
-    private ExecutionSummary scenarioExecutionToExecutionSummary(ScenarioExecutionEntity scenarioExecution) {
-        CampaignExecution campaignExecution = ofNullable(scenarioExecution.campaignExecution())
-            .map(ce -> ce.toDomain(campaignJpaRepository.findById(ce.campaignId()).get().title()))
-            .orElse(null);
-        ScenarioExecutionReportEntity scenarioExecutionReportEntity = scenarioExecutionReportJpaRepository.findByScenarioExecutionId(scenarioExecution.id());
-        DataSet dataset = ofNullable(scenarioExecutionReportEntity).flatMap(scenarioExecutionReport -> scenarioExecutionReport.toDomain().dataset())
-            .orElse(null);
-        return scenarioExecution.toDomain(campaignExecution, dataset);
+    /**
+     * Campaigns titles are fetched at once for all executions, datasets are read from executions columns.
+     */
+    private List<ExecutionSummary> scenarioExecutionsToExecutionSummaries(List<ScenarioExecutionEntity> scenarioExecutions) {
+        Set<Long> campaignIds = scenarioExecutions.stream()
+            .map(ScenarioExecutionEntity::campaignExecution)
+            .filter(Objects::nonNull)
+            .map(CampaignExecutionEntity::campaignId)
+            .collect(Collectors.toSet());
+        Map<Long, String> campaignTitles = campaignIds.isEmpty() ? Map.of() :
+            campaignJpaRepository.findTitlesByIds(campaignIds).stream()
+                .collect(Collectors.toMap(t -> t.get(0, Long.class), t -> t.get(1, String.class)));
+        Map<Long, CampaignExecution> campaignExecutions = new HashMap<>();
+        return scenarioExecutions.stream()
+            .map(scenarioExecution -> scenarioExecution.toDomain(
+                ofNullable(scenarioExecution.campaignExecution())
+                    .map(ce -> campaignExecutions.computeIfAbsent(ce.id(), id -> ce.toDomain(campaignTitles.get(ce.campaignId()))))
+                    .orElse(null)
+            ))
+            .toList();
     }
 
     @Override
@@ -153,11 +176,7 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
     @Override
     public List<ExecutionSummary> getExecutionReportMatchKeyword(String keyword) {
         List<Long> matchedReportsIds = executionReportIndexRepository.idsByKeywordInReport(keyword);
-        return scenarioExecutionsJpaRepository
-            .getExecutionReportByIds(matchedReportsIds)
-            .stream()
-            .map(this::scenarioExecutionToExecutionSummary)
-            .toList();
+        return scenarioExecutionsToExecutionSummaries(scenarioExecutionsJpaRepository.getExecutionReportByIds(matchedReportsIds));
     }
 
     @Override
@@ -169,6 +188,14 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
         update(updatedExecution);
     }
 
+    @Override
+    @Transactional
+    public void updateProgress(String scenarioId, Long executionId, ServerReportStatus status, long duration) throws ReportNotFoundException {
+        if (scenarioExecutionsJpaRepository.updateProgress(executionId, status, duration) == 0) {
+            throw new ReportNotFoundException(scenarioId, executionId);
+        }
+    }
+
     private void update(Execution updatedExecution) throws ReportNotFoundException {
         ScenarioExecutionEntity execution = scenarioExecutionsJpaRepository.findById(updatedExecution.executionId()).orElseThrow(
             () -> new ReportNotFoundException(updatedExecution.executionId())
@@ -11,8 +11,10 @@ import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionEntity;
 import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
 import jakarta.persistence.Tuple;
 import java.util.List;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -20,6 +22,11 @@ public interface DatabaseExecutionJpaRepository extends JpaRepository<ScenarioEx
 
     List<ScenarioExecutionEntity> findByStatus(ServerReportStatus status);
 
+    @Override
+    @EntityGraph(attributePaths = "campaignExecution")
+    List<ScenarioExecutionEntity> findAll();
+
+    @EntityGraph(attributePaths = "campaignExecution")
     List<ScenarioExecutionEntity> findByScenarioIdOrderByIdDesc(String scenarioId);
 
     /**
@@ -46,11 +53,44 @@ public interface DatabaseExecutionJpaRepository extends JpaRepository<ScenarioEx
             """)
         List<Tuple> findLastByStatusAndScenariosIds(@Param("scenarioIds") List<String> scenarioIds, @Param("status")  ServerReportStatus status);
 
+    /**
+     * Finds durations of the last executions with the specified statuses on an environment, most recent first.
+     * Executions are ranked by scenario in a single pass.
+     *
+     * @param limit maximum number of executions by scenario
+     * @return A list of tuples representing the scenario id and the execution duration.
+     */
+    @Query("""
+            SELECT ranked.scenarioId, ranked.duration
+            FROM (
+                SELECT se.id AS id, se.scenarioId AS scenarioId, se.duration AS duration,
+                       ROW_NUMBER() OVER (PARTITION BY se.scenarioId ORDER BY se.id DESC) AS position
+                FROM SCENARIO_EXECUTIONS se
+                WHERE se.scenarioId IN :scenarioIds
+                  AND se.environment = :environment
+                  AND se.status IN :statuses
+                  AND se.duration IS NOT NULL
+            ) ranked
+            WHERE ranked.position <= :limit
+            ORDER BY ranked.id DESC
+            """)
+    List<Tuple> findLastDurations(@Param("scenarioIds") List<String> scenarioIds, @Param("environment") String environment, @Param("statuses") List<ServerReportStatus> statuses, @Param("limit") long limit);
+
     List<ScenarioExecutionEntity> findAllByScenarioId(String scenarioId);
 
+    /**
+     * Updates status and duration of an execution without loading it nor its report.
+     *
+     * @return the number of updated executions
+     */
+    @Modifying
+    @Query("UPDATE SCENARIO_EXECUTIONS se SET se.status = :status, se.duration = :duration, se.version = se.version + 1 WHERE se.id = :id")
+    int updateProgress(@Param("id") Long id, @Param("status") ServerReportStatus status, @Param("duration") Long duration);
+
     @Query(value = """
                 select se from SCENARIO s, SCENARIO_EXECUTIONS_REPORTS ser
                   inner join ser.scenarioExecution se
+                  left join fetch se.campaignExecution
                 where s.activated = true
                   and cast(s.id as string) = se.scenarioId
                   and ser.scenarioExecutionId in (:executionsIds)
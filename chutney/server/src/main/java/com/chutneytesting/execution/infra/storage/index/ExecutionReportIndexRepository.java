@@ -7,6 +7,9 @@
 
 package com.chutneytesting.execution.infra.storage.index;
 
+import static com.chutneytesting.index.infra.SubstringSearch.addNGramField;
+import static com.chutneytesting.index.infra.SubstringSearch.outdatedFormatQuery;
+import static com.chutneytesting.index.infra.SubstringSearch.substringQuery;
 import static org.apache.lucene.document.Field.Store;
 
 import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionReportEntity;
@@ -17,13 +20,11 @@ import java.util.List;
 import java.util.Set;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.StringField;
-import org.apache.lucene.document.TextField;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.TermQuery;
-import org.apache.lucene.search.WildcardQuery;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
@@ -41,25 +42,25 @@ public class ExecutionReportIndexRepository {
     }
 
     public void save(ScenarioExecutionReportEntity report) {
-        Document document = new Document();
-        document.add(new StringField(WHAT, WHAT_VALUE, Store.YES));
-        document.add(new StringField(ID, report.scenarioExecutionId().toString(), Store.YES));
-        document.add(new TextField(REPORT, report.getReport().toLowerCase(), Store.NO));
-        luceneIndexRepository.index(document);
+        luceneIndexRepository.index(createDocument(report));
     }
 
+    /**
+     * Adds reports in a single commit.
+     */
     public void saveAll(List<ScenarioExecutionReportEntity> reports) {
-        reports.forEach(this::save);
+        luceneIndexRepository.indexAll(reports.stream().map(this::createDocument).toList());
+    }
+
+    /**
+     * Replaces already indexed reports.
+     */
+    public void reindexAll(List<ScenarioExecutionReportEntity> reports) {
+        reports.forEach(report -> luceneIndexRepository.update(byIdQuery(report.scenarioExecutionId()), createDocument(report)));
     }
 
     public void delete(Long scenarioExecutionId) {
-        Query whatQuery = new TermQuery(new Term(WHAT, WHAT_VALUE));
-        Query idQuery = new TermQuery(new Term(ID, scenarioExecutionId.toString()));
-        BooleanQuery query = new BooleanQuery.Builder()
-            .add(idQuery, BooleanClause.Occur.MUST)
-            .add(whatQuery, BooleanClause.Occur.MUST)
-            .build();
-        luceneIndexRepository.delete(query);
+        luceneIndexRepository.delete(byIdQuery(scenarioExecutionId));
     }
 
     public void deleteAllById(Set<Long> scenarioExecutionIds) {
@@ -75,9 +76,20 @@ public class ExecutionReportIndexRepository {
 
     }
 
+    /**
+     * @return ids of reports indexed without the fields needed by the current search, to be reindexed
+     */
+    public List<Long> outdatedIds(int limit) {
+        Query whatQuery = new TermQuery(new Term(WHAT, WHAT_VALUE));
+        return luceneIndexRepository.search(outdatedFormatQuery(whatQuery), limit)
+            .stream()
+            .map(doc -> Long.parseLong(doc.get(ID)))
+            .toList();
+    }
+
     private List<Hit> search(String keyword) {
         Query whatQuery = new TermQuery(new Term(WHAT, WHAT_VALUE));
-        Query reportQuery = new WildcardQuery(new Term(REPORT, "*" + keyword.toLowerCase() + "*"));
+        Query reportQuery = substringQuery(REPORT, keyword);
 
         BooleanQuery query = new BooleanQuery.Builder()
             .add(reportQuery, BooleanClause.Occur.MUST)
@@ -99,4 +111,21 @@ public class ExecutionReportIndexRepository {
         Query whatQuery = new TermQuery(new Term(WHAT, WHAT_VALUE));
         return luceneIndexRepository.count(whatQuery);
     }
+
+    private Document createDocument(ScenarioExecutionReportEntity report) {
+        Document document = new Document();
+        document.add(new StringField(WHAT, WHAT_VALUE, Store.YES));
+        document.add(new StringField(ID, report.scenarioExecutionId().toString(), Store.YES));
+        addNGramField(document, REPORT, report.getReport());
+        return document;
+    }
+
+    private Query byIdQuery(Long scenarioExecutionId) {
+        Query whatQuery = new TermQuery(new Term(WHAT, WHAT_VALUE));
+        Query idQuery = new TermQuery(new Term(ID, scenarioExecutionId.toString()));
+        return new BooleanQuery.Builder()
+            .add(idQuery, BooleanClause.Occur.MUST)
+            .add(whatQuery, BooleanClause.Occur.MUST)
+            .build();
+    }
 }
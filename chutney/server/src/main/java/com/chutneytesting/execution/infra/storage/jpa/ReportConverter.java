@@ -67,7 +67,7 @@ public class ReportConverter implements AttributeConverter<String, byte[]> {
         }
     }
 
-    private boolean isCompressed(byte[] data) {
+    public static boolean isCompressed(byte[] data) {
         return (data != null && data.length >= 2 &&
             (data[0] == (byte) 0x1f && data[1] == (byte) 0x8b));
     }
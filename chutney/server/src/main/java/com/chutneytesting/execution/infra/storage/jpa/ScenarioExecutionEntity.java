@@ -7,6 +7,9 @@
 
 package com.chutneytesting.execution.infra.storage.jpa;
 
+import static com.chutneytesting.execution.infra.execution.DatasetEntityMapper.datasetConstantsToString;
+import static com.chutneytesting.execution.infra.execution.DatasetEntityMapper.datasetDatatableToString;
+import static com.chutneytesting.execution.infra.execution.DatasetEntityMapper.getDataset;
 import static java.util.Optional.ofNullable;
 
 import com.chutneytesting.campaign.infra.jpa.CampaignExecutionEntity;
@@ -77,6 +80,12 @@ public class ScenarioExecutionEntity {
     @Column(name = "DATASET_ID")
     private String datasetId;
 
+    @Column(name = "DATASET_CONSTANTS")
+    private String datasetConstants;
+
+    @Column(name = "DATASET_DATATABLE")
+    private String datasetDatatable;
+
     @Column(name = "VERSION")
     @Version
     private Integer version;
@@ -99,6 +108,27 @@ public class ScenarioExecutionEntity {
         String datasetId,
         String tags,
         Integer version
+    ) {
+        this(id, scenarioId, campaignExecution, executionTime, duration, status, information, error, scenarioTitle, environment, userId, datasetId, null, null, tags, version);
+    }
+
+    public ScenarioExecutionEntity(
+        Long id,
+        String scenarioId,
+        CampaignExecutionEntity campaignExecution,
+        Long executionTime,
+        Long duration,
+        ServerReportStatus status,
+        String information,
+        String error,
+        String scenarioTitle,
+        String environment,
+        String userId,
+        String datasetId,
+        String datasetConstants,
+        String datasetDatatable,
+        String tags,
+        Integer version
     ) {
         this.id = id;
         this.scenarioId = scenarioId;
@@ -112,6 +142,8 @@ public class ScenarioExecutionEntity {
         this.environment = environment;
         this.userId = userId;
         this.datasetId = datasetId;
+        this.datasetConstants = datasetConstants;
+        this.datasetDatatable = datasetDatatable;
         this.tags = tags;
         this.version = version;
     }
@@ -176,6 +208,14 @@ public class ScenarioExecutionEntity {
         return datasetId;
     }
 
+    public String datasetConstants() {
+        return datasetConstants;
+    }
+
+    public String datasetDatatable() {
+        return datasetDatatable;
+    }
+
     public String tags() {
         return tags;
     }
@@ -188,7 +228,12 @@ public class ScenarioExecutionEntity {
         return fromDomain(scenarioId, null, null, execution);
     }
 
+    /**
+     * Dataset constants and datatable are only stored for ad-hoc datasets, as {@link com.chutneytesting.execution.infra.storage.migration.ScenarioExecutionsDatasetMigration} does,
+     * a stored dataset being referenced by its id.
+     */
     public static ScenarioExecutionEntity fromDomain(String scenarioId, Long id, Integer version, ExecutionHistory.ExecutionProperties execution) {
+        Optional<DataSet> adHocDataset = execution.dataset().filter(ds -> ds.id == null);
         return new ScenarioExecutionEntity(
             id,
             scenarioId,
@@ -202,6 +247,8 @@ public class ScenarioExecutionEntity {
             execution.environment(),
             execution.user(),
             execution.dataset().map(ds -> ds.id).orElse(null),
+            adHocDataset.map(ds -> datasetConstantsToString(ds.constants)).orElse(null),
+            adHocDataset.map(ds -> datasetDatatableToString(ds.datatable)).orElse(null),
             truncateExecutionTags(TagListMapper.tagsToString(execution.tags().orElse(null))),
             version
         );
@@ -212,15 +259,7 @@ public class ScenarioExecutionEntity {
     }
 
     public ExecutionHistory.ExecutionSummary toDomain(CampaignExecution campaignReport) {
-        return toDomain(campaignReport, null);
-    }
-    public ExecutionHistory.ExecutionSummary toDomain(CampaignExecution campaignReport, DataSet dataset) {
-        Optional<DataSet> scenarioDataset = ofNullable(datasetId)
-            .map(id -> DataSet.builder()
-                .withId(datasetId)
-                .withName("")
-                .build())
-            .or(() -> ofNullable(dataset));
+        Optional<DataSet> scenarioDataset = ofNullable(getDataset(datasetId, datasetConstants, datasetDatatable));
         return ImmutableExecutionHistory.ExecutionSummary.builder()
             .executionId(id)
             .time(Instant.ofEpochMilli(executionTime).atZone(ZoneId.systemDefault()).toLocalDateTime())
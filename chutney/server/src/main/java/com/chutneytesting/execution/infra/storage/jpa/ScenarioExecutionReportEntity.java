@@ -60,6 +60,14 @@ public class ScenarioExecutionReportEntity {
         this.report = report;
     }
 
+    /**
+     * Detached report, without its execution.
+     */
+    public ScenarioExecutionReportEntity(Long scenarioExecutionId, String report) {
+        this.scenarioExecutionId = scenarioExecutionId;
+        this.report = report;
+    }
+
     public void updateReport(ExecutionHistory.Execution execution) {
         report = execution.report();
     }
@@ -0,0 +1,111 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.infra.storage.migration;
+
+import static com.chutneytesting.execution.infra.execution.DatasetEntityMapper.datasetConstantsToString;
+import static com.chutneytesting.execution.infra.execution.DatasetEntityMapper.datasetDatatableToString;
+
+import com.chutneytesting.engine.domain.execution.engine.step.jackson.ReportObjectMapperConfiguration;
+import com.chutneytesting.execution.infra.storage.jpa.ReportConverter;
+import com.chutneytesting.server.core.domain.execution.report.ScenarioExecutionReport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.DatabaseException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Copy dataset constants and datatable of executions without dataset id from their reports to SCENARIO_EXECUTIONS columns,
+ * so that executions summaries do not have to read reports anymore.
+ */
+public class ScenarioExecutionsDatasetMigration implements CustomTaskChange {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScenarioExecutionsDatasetMigration.class);
+    private static final int BATCH_SIZE = 500;
+
+    private final ObjectMapper reportObjectMapper = ReportObjectMapperConfiguration.reportObjectMapper();
+    private final ReportConverter reportConverter = new ReportConverter();
+    private int migratedExecutions;
+
+    @Override
+    public void execute(Database database) throws CustomChangeException {
+        JdbcConnection connection = (JdbcConnection) database.getConnection();
+        try (PreparedStatement select = connection.prepareStatement("""
+                SELECT r.SCENARIO_EXECUTION_ID, r.REPORT
+                FROM SCENARIO_EXECUTIONS_REPORTS r
+                INNER JOIN SCENARIO_EXECUTIONS e ON e.ID = r.SCENARIO_EXECUTION_ID
+                WHERE e.DATASET_ID IS NULL
+                """);
+             PreparedStatement update = connection.prepareStatement("UPDATE SCENARIO_EXECUTIONS SET DATASET_CONSTANTS = ?, DATASET_DATATABLE = ? WHERE ID = ?")) {
+            select.setFetchSize(BATCH_SIZE);
+            try (ResultSet executions = select.executeQuery()) {
+                while (executions.next()) {
+                    ScenarioExecutionReport report = readReport(executions.getLong(1), executions.getBytes(2));
+                    if (report == null) {
+                        continue;
+                    }
+                    String constants = datasetConstantsToString(report.constants);
+                    String datatable = datasetDatatableToString(report.datatable);
+                    if (constants != null || datatable != null) {
+                        update.setString(1, constants);
+                        update.setString(2, datatable);
+                        update.setLong(3, executions.getLong(1));
+                        update.addBatch();
+                        if (++migratedExecutions % BATCH_SIZE == 0) {
+                            update.executeBatch();
+                        }
+                    }
+                }
+            }
+            if (migratedExecutions % BATCH_SIZE != 0) {
+                update.executeBatch();
+            }
+        } catch (SQLException | DatabaseException e) {
+            throw new CustomChangeException("Cannot migrate scenario executions datasets", e);
+        }
+    }
+
+    private ScenarioExecutionReport readReport(long executionId, byte[] report) {
+        if (report == null || report.length == 0) {
+            return null;
+        }
+        try {
+            return reportObjectMapper.readValue(reportConverter.convertToEntityAttribute(report), ScenarioExecutionReport.class);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Cannot read report of execution {}, its dataset is not migrated", executionId, e);
+            return null;
+        }
+    }
+
+    @Override
+    public String getConfirmationMessage() {
+        return "Datasets of " + migratedExecutions + " scenario executions migrated";
+    }
+
+    @Override
+    public void setUp() {
+    }
+
+    @Override
+    public void setFileOpener(ResourceAccessor resourceAccessor) {
+    }
+
+    @Override
+    public ValidationErrors validate(Database database) {
+        return new ValidationErrors();
+    }
+}
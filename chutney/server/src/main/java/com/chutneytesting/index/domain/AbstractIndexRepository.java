@@ -7,6 +7,9 @@
 package com.chutneytesting.index.domain;
 
 
+import static com.chutneytesting.index.infra.SubstringSearch.addNGramField;
+import static com.chutneytesting.index.infra.SubstringSearch.outdatedFormatQuery;
+import static com.chutneytesting.index.infra.SubstringSearch.substringQuery;
 import static org.apache.lucene.search.BooleanClause.Occur.MUST;
 import static org.apache.lucene.search.BooleanClause.Occur.SHOULD;
 
@@ -22,7 +25,6 @@ import org.apache.lucene.index.Term;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.TermQuery;
-import org.apache.lucene.search.WildcardQuery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Repository;
@@ -36,6 +38,7 @@ public abstract class AbstractIndexRepository<T> implements IndexRepository<T> {
     protected static final String CONTENT = "content";
     protected static final String DESCRIPTION = "description";
     protected static final String TAGS = "tags";
+    private static final List<String> SEARCHED_FIELDS = List.of(ID, TITLE, DESCRIPTION, CONTENT, TAGS);
 
     protected final String whatValue;
 
@@ -53,6 +56,7 @@ public abstract class AbstractIndexRepository<T> implements IndexRepository<T> {
     @Override
     public void save(T entity) {
         Document document = createDocument(entity);
+        SEARCHED_FIELDS.forEach(field -> addNGramField(document, field, document.get(field)));
         luceneIndexRepository.update(byIdQuery(getId(entity)), document);
     }
 
@@ -102,8 +106,16 @@ public abstract class AbstractIndexRepository<T> implements IndexRepository<T> {
         return luceneIndexRepository.count(whatQuery);
     }
 
+    /**
+     * @return number of documents indexed without the fields needed by the current search, to be saved again
+     */
+    public int countOutdated() {
+        Query whatQuery = new TermQuery(new Term(WHAT, whatValue));
+        return luceneIndexRepository.count(outdatedFormatQuery(whatQuery));
+    }
+
     private Query likeQuery(String column, String keyword) {
-        return new WildcardQuery(new Term(column, "*" + keyword + "*"));
+        return substringQuery(column, keyword);
     }
 
     private Query byIdQuery(String id) {
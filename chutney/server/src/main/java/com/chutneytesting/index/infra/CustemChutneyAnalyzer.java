@@ -15,11 +15,28 @@ import org.apache.lucene.analysis.TokenStream;
 import org.apache.lucene.analysis.Tokenizer;
 import org.apache.lucene.analysis.core.LowerCaseFilter;
 import org.apache.lucene.analysis.core.WhitespaceTokenizer;
+import org.apache.lucene.analysis.ngram.NGramTokenizer;
 
+/**
+ * Splits text on whitespaces.<br>
+ * Fields named with {@link #ngramField(String)} are split in n-grams of {@link #NGRAM_SIZE} characters, one position apart,
+ * so that any substring of their value can be searched with a phrase query.
+ */
 public class CustemChutneyAnalyzer extends Analyzer {
 
+    public static final String NGRAM_FIELD_SUFFIX = "_ngram";
+    public static final int NGRAM_SIZE = 3;
+
+    public static String ngramField(String field) {
+        return field + NGRAM_FIELD_SUFFIX;
+    }
+
     @Override
     protected TokenStreamComponents createComponents(String fieldName) {
+        if (fieldName.endsWith(NGRAM_FIELD_SUFFIX)) {
+            Tokenizer source = new NGramTokenizer(NGRAM_SIZE, NGRAM_SIZE);
+            return new TokenStreamComponents(source, new LowerCaseFilter(source));
+        }
         Tokenizer source = new WhitespaceTokenizer();
         TokenStream tokenStream = new LowerCaseFilter(source);
         List<String> stopWords = List.of("#", "-", "+", "~", "*", "/", "\\");
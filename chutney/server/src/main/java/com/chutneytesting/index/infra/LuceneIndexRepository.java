@@ -7,16 +7,23 @@
 
 package com.chutneytesting.index.infra;
 
+import com.chutneytesting.index.infra.config.IndexCommitPolicy;
 import com.chutneytesting.index.infra.config.IndexConfig;
+import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
 import java.io.IOException;
 import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.TokenStream;
 import org.apache.lucene.document.Document;
-import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.StoredFields;
 import org.apache.lucene.index.Term;
@@ -26,89 +33,196 @@ import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.WildcardQuery;
 import org.apache.lucene.search.highlight.Highlighter;
 import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
 import org.apache.lucene.search.highlight.QueryScorer;
 import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
-import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.AlreadyClosedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class LuceneIndexRepository {
+/**
+ * Searches go through a near-real-time {@link SearcherManager} opened on the index writer, refreshed in background and before any search following a write.<br>
+ * Writes are committed according to given {@link IndexCommitPolicy}, remaining ones being committed on {@link #close()}.
+ */
+public class LuceneIndexRepository implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LuceneIndexRepository.class);
+    private static final ScheduledExecutorService MAINTENANCE_EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "lucene-index-maintenance");
+        thread.setDaemon(true);
+        return thread;
+    });
 
+    private final String name;
     private final IndexWriter indexWriter;
-    private final Directory indexDirectory;
     private final Analyzer analyzer;
-    private static final Logger LOGGER = LoggerFactory.getLogger(LuceneIndexRepository.class);
+    private final IndexCommitPolicy commitPolicy;
+    private final ChutneyMetrics metrics;
+    private final SearcherManager searcherManager;
+    private final AtomicLong writeGeneration = new AtomicLong();
+    private final AtomicLong refreshedGeneration = new AtomicLong();
+    private final AtomicInteger uncommittedWrites = new AtomicInteger();
+    private volatile long lastCommit = System.currentTimeMillis();
+    private final ScheduledFuture<?> maintenance;
 
-    public LuceneIndexRepository(IndexConfig config) {
-        this.indexDirectory = config.directory();
+    public LuceneIndexRepository(String name, IndexConfig config, IndexCommitPolicy commitPolicy, ChutneyMetrics metrics) {
+        this.name = name;
         this.indexWriter = config.indexWriter();
         this.analyzer = config.analyzer();
+        this.commitPolicy = commitPolicy;
+        this.metrics = metrics;
+        try {
+            this.searcherManager = new SearcherManager(indexWriter, null);
+        } catch (IOException e) {
+            throw new RuntimeException("Couldn't open index searcher", e);
+        }
+        this.maintenance = MAINTENANCE_EXECUTOR.scheduleWithFixedDelay(this::maintain, commitPolicy.refreshIntervalMs(), commitPolicy.refreshIntervalMs(), TimeUnit.MILLISECONDS);
     }
 
     public void index(Document document) {
-        try {
-            this.indexWriter.addDocument(document);
-            this.indexWriter.commit();
-        } catch (Exception e) {
-            LOGGER.error("Couldn't index data", e);
-        }
+        write(writer -> writer.addDocument(document), "Couldn't index data");
     }
 
     public void update(Query query, Document document) {
+        write(writer -> writer.updateDocuments(query, List.of(document)), "Couldn't index data");
+    }
+
+    /**
+     * Adds documents as a single write, committed at once whatever the commit policy.<br>
+     * Can be called concurrently, documents being analyzed in calling threads.
+     */
+    public void indexAll(List<Document> documents) {
+        write(writer -> {
+            for (Document document : documents) {
+                writer.addDocument(document);
+            }
+        }, "Couldn't index data");
         try {
-            this.indexWriter.updateDocuments(query, List.of(document));
-            this.indexWriter.commit();
-        } catch (Exception e) {
-            LOGGER.error("Couldn't index data", e);
+            commit();
+        } catch (AlreadyClosedException | IOException e) {
+            LOGGER.error("Couldn't commit index {}", name, e);
         }
     }
 
     public List<Document> search(Query query, int limit) {
+        long start = System.nanoTime();
         List<Document> result = new ArrayList<>();
-        try (DirectoryReader reader = DirectoryReader.open(indexDirectory)) {
-            IndexSearcher searcher = new IndexSearcher(reader);
-            ScoreDoc[] hits = searcher.search(query, limit).scoreDocs;
-            StoredFields storedFields = searcher.storedFields();
-            for (ScoreDoc hit : hits) {
-                result.add(storedFields.document(hit.doc));
+        try {
+            IndexSearcher searcher = acquireSearcher();
+            try {
+                ScoreDoc[] hits = searcher.search(query, limit).scoreDocs;
+                StoredFields storedFields = searcher.storedFields();
+                for (ScoreDoc hit : hits) {
+                    result.add(storedFields.document(hit.doc));
+                }
+            } finally {
+                searcherManager.release(searcher);
             }
         } catch (Exception ignored) {
+        } finally {
+            metrics.onIndexOperation(name, "search", System.nanoTime() - start);
         }
         return result;
     }
 
     public int count(Query query) {
-        try (DirectoryReader reader = DirectoryReader.open(indexDirectory)) {
-            IndexSearcher searcher = new IndexSearcher(reader);
-            return searcher.count(query);
-
+        long start = System.nanoTime();
+        try {
+            IndexSearcher searcher = acquireSearcher();
+            try {
+                return searcher.count(query);
+            } finally {
+                searcherManager.release(searcher);
+            }
         } catch (Exception e) {
             LOGGER.error("Couldn't count elements in index", e);
             return 0;
+        } finally {
+            metrics.onIndexOperation(name, "count", System.nanoTime() - start);
         }
     }
 
     public void delete(Query query) {
+        write(writer -> writer.deleteDocuments(query), "Couldn't delete index using query " + query);
+    }
+
+    public void deleteAll() {
+        write(IndexWriter::deleteAll, "Couldn't delete all indexes");
+    }
+
+    /**
+     * Commits pending writes and releases searchers, the index writer being left open.
+     */
+    @Override
+    public void close() {
+        maintenance.cancel(false);
         try {
-            indexWriter.deleteDocuments(query);
-            indexWriter.commit();
-        } catch (IOException e) {
-            LOGGER.error("Couldn't delete index using query " + query, e);
+            commit();
+            searcherManager.close();
+        } catch (AlreadyClosedException | IOException e) {
+            LOGGER.warn("Couldn't commit pending writes of index {}", name, e);
         }
     }
 
-    public void deleteAll() {
+    private void write(IndexWrite write, String errorMessage) {
+        long start = System.nanoTime();
         try {
-            indexWriter.deleteAll();
+            write.apply(indexWriter);
+            writeGeneration.incrementAndGet();
+            if (uncommittedWrites.incrementAndGet() >= commitPolicy.commitThreshold()) {
+                commit();
+            }
+        } catch (Exception e) {
+            LOGGER.error(errorMessage, e);
+        } finally {
+            metrics.onIndexOperation(name, "write", System.nanoTime() - start);
+        }
+    }
+
+    private synchronized void commit() throws IOException {
+        if (uncommittedWrites.getAndSet(0) > 0) {
             indexWriter.commit();
+        }
+        lastCommit = System.currentTimeMillis();
+    }
+
+    private IndexSearcher acquireSearcher() throws IOException {
+        refreshIfStale();
+        return searcherManager.acquire();
+    }
+
+    private void refreshIfStale() throws IOException {
+        long generation = writeGeneration.get();
+        if (refreshedGeneration.get() < generation) {
+            searcherManager.maybeRefreshBlocking();
+            refreshedGeneration.accumulateAndGet(generation, Math::max);
+        }
+    }
+
+    private void maintain() {
+        if (!indexWriter.isOpen()) {
+            // Index writer closed by its owner
+            maintenance.cancel(false);
+            return;
+        }
+        try {
+            refreshIfStale();
+            if (System.currentTimeMillis() - lastCommit >= commitPolicy.commitIntervalMs()) {
+                commit();
+            }
         } catch (Exception e) {
-            LOGGER.error("Couldn't delete all indexes", e);
+            LOGGER.warn("Couldn't maintain index {}", name, e);
         }
     }
 
+    @FunctionalInterface
+    private interface IndexWrite {
+        void apply(IndexWriter indexWriter) throws IOException;
+    }
+
     public String highlight(List<String> keywords, String field, String value, boolean strict) {
         if (StringUtils.isBlank(value)) {
             return null;
@@ -0,0 +1,95 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.index.infra;
+
+import static com.chutneytesting.index.infra.CustemChutneyAnalyzer.NGRAM_SIZE;
+import static com.chutneytesting.index.infra.CustemChutneyAnalyzer.ngramField;
+import static org.apache.lucene.search.BooleanClause.Occur.MUST;
+import static org.apache.lucene.search.BooleanClause.Occur.MUST_NOT;
+import static org.apache.lucene.search.BooleanClause.Occur.SHOULD;
+
+import java.util.Locale;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.PhraseQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.WildcardQuery;
+
+/**
+ * Substring search on n-gram fields analyzed by {@link CustemChutneyAnalyzer}.<br>
+ * A keyword is found with a phrase query on its n-grams instead of a leading wildcard query, which scans the whole terms dictionary.
+ * Keywords shorter than an n-gram fall back to wildcard queries.
+ * <p>
+ * Indexed documents are marked with the current {@link #FORMAT}, so documents indexed before n-gram fields can be found and reindexed.
+ */
+public final class SubstringSearch {
+
+    public static final String FORMAT_FIELD = "format";
+    public static final String FORMAT = NGRAM_SIZE + "-gram";
+
+    private SubstringSearch() {
+    }
+
+    /**
+     * Adds an n-gram copy of given field value to the document and marks it with the current format.
+     */
+    public static void addNGramField(Document document, String field, String value) {
+        if (value != null) {
+            document.add(new TextField(ngramField(field), value, Field.Store.NO));
+        }
+        if (document.getField(FORMAT_FIELD) == null) {
+            document.add(new StringField(FORMAT_FIELD, FORMAT, Field.Store.NO));
+        }
+    }
+
+    /**
+     * @return query matching documents whose field value contains the keyword, ignoring case
+     */
+    public static Query substringQuery(String field, String keyword) {
+        String lowerCaseKeyword = keyword.toLowerCase(Locale.ROOT);
+        int[] codePoints = lowerCaseKeyword.codePoints().toArray();
+        if (codePoints.length < NGRAM_SIZE) {
+            String pattern = "*" + escapeWildcard(lowerCaseKeyword) + "*";
+            return new BooleanQuery.Builder()
+                .add(new WildcardQuery(new Term(ngramField(field), pattern)), SHOULD)
+                .add(new WildcardQuery(new Term(field, pattern)), SHOULD)
+                .build();
+        }
+
+        // Non overlapping n-grams and the last one are enough to cover the keyword
+        PhraseQuery.Builder phrase = new PhraseQuery.Builder();
+        int lastGram = codePoints.length - NGRAM_SIZE;
+        for (int position = 0; position < lastGram; position += NGRAM_SIZE) {
+            phrase.add(new Term(ngramField(field), new String(codePoints, position, NGRAM_SIZE)), position);
+        }
+        phrase.add(new Term(ngramField(field), new String(codePoints, lastGram, NGRAM_SIZE)), lastGram);
+        return phrase.build();
+    }
+
+    /**
+     * @return query matching given documents which are not indexed with the current format
+     */
+    public static Query outdatedFormatQuery(Query documentsQuery) {
+        return new BooleanQuery.Builder()
+            .add(documentsQuery, MUST)
+            .add(new TermQuery(new Term(FORMAT_FIELD, FORMAT)), MUST_NOT)
+            .build();
+    }
+
+    private static String escapeWildcard(String keyword) {
+        return keyword
+            .replace("\\", "\\\\")
+            .replace("*", "\\*")
+            .replace("?", "\\?");
+    }
+}
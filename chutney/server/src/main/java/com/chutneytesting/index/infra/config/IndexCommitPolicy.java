@@ -0,0 +1,38 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.index.infra.config;
+
+/**
+ * Defines when index writes are committed, i.e. made durable on disk.<br>
+ * Whatever the policy, writes are visible to following searches as soon as they are done.
+ *
+ * @param durability           commit after each write, or group writes in commits
+ * @param maxUncommittedWrites with {@link Durability#GROUP}, commit as soon as this number of writes is pending
+ * @param commitIntervalMs     with {@link Durability#GROUP}, maximum time in milliseconds a write stays uncommitted
+ * @param refreshIntervalMs    period in milliseconds of searcher background refresh and pending writes commit
+ */
+public record IndexCommitPolicy(Durability durability, int maxUncommittedWrites, long commitIntervalMs, long refreshIntervalMs) {
+
+    public enum Durability {
+        SYNC, GROUP
+    }
+
+    public IndexCommitPolicy {
+        if (maxUncommittedWrites < 1 || commitIntervalMs < 0 || refreshIntervalMs < 1) {
+            throw new IllegalArgumentException("Invalid index commit policy: max uncommitted writes and refresh interval must be positive, commit interval must not be negative");
+        }
+    }
+
+    public static IndexCommitPolicy sync() {
+        return new IndexCommitPolicy(Durability.SYNC, 1, 0, 1000);
+    }
+
+    public int commitThreshold() {
+        return durability == Durability.SYNC ? 1 : maxUncommittedWrites;
+    }
+}
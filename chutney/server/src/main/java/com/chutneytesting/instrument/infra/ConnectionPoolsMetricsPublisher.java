@@ -0,0 +1,44 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.instrument.infra;
+
+import static com.chutneytesting.ServerConfigurationValues.CONNECTION_POOLS_METRICS_FIXED_RATE_SPRING_VALUE;
+import static java.util.function.Predicate.not;
+
+import com.chutneytesting.action.spi.metrics.ConnectionPools;
+import com.chutneytesting.action.spi.metrics.ConnectionPools.PoolStats;
+import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publish usage of connection pools kept by actions (ex. HTTP clients).<br>
+ * Closed pools are published once as empty.
+ */
+@Component
+class ConnectionPoolsMetricsPublisher {
+
+    private final ChutneyMetrics metrics;
+    private Set<String> publishedPools = Set.of();
+
+    ConnectionPoolsMetricsPublisher(ChutneyMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Scheduled(fixedRateString = CONNECTION_POOLS_METRICS_FIXED_RATE_SPRING_VALUE)
+    void publish() {
+        Map<String, PoolStats> pools = ConnectionPools.stats();
+        pools.forEach((pool, stats) -> metrics.onConnectionPoolStats(pool, stats.leased(), stats.available(), stats.pending()));
+        publishedPools.stream()
+            .filter(not(pools::containsKey))
+            .forEach(pool -> metrics.onConnectionPoolStats(pool, 0, 0, 0));
+        publishedPools = pools.keySet();
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.instrument.infra;
+
+import com.chutneytesting.ExecutionConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+@Component
+class EngineMeterBinder implements MeterBinder {
+
+    private final ExecutionConfiguration executionConfiguration;
+
+    EngineMeterBinder(ExecutionConfiguration executionConfiguration) {
+        this.executionConfiguration = executionConfiguration;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        GuavaCacheMetrics.monitor(meterRegistry, executionConfiguration.stepDataEvaluator().expressionCache(), "engine_expression_cache", List.of());
+    }
+}
@@ -28,6 +28,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import org.apache.commons.lang3.StringUtils;
@@ -39,6 +40,10 @@ class MicrometerMetrics implements ChutneyMetrics {
 
     private final MeterRegistry meterRegistry;
     private final Map<String, Map<ServerReportStatus, AtomicLong>> statusCountCache = new HashMap<>();
+    private final Map<String, Map<String, AtomicLong>> connectionPoolCache = new ConcurrentHashMap<>();
+    private final Map<String, Timer> indexTimerCache = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, AtomicLong>> campaignSchedulerCache = new ConcurrentHashMap<>();
+    private final Map<String, Timer> campaignSchedulerTimerCache = new ConcurrentHashMap<>();
 
     MicrometerMetrics(MeterRegistry meterRegistry) {
         this.meterRegistry = meterRegistry;
@@ -82,6 +87,60 @@ class MicrometerMetrics implements ChutneyMetrics {
         httpErrorCount.increment();
     }
 
+    @Override
+    public void onConnectionPoolStats(String pool, int leased, int available, int pending) {
+        final Map<String, AtomicLong> poolMetrics = connectionPoolCache.computeIfAbsent(pool, p -> {
+            final Map<String, AtomicLong> gauges = new HashMap<>();
+            List.of("leased", "available", "pending").forEach(state ->
+                gauges.put(state, this.meterRegistry.gauge("connection_pool_gauge", asList(of("pool", p), of("state", state)), new AtomicLong(0)))
+            );
+            return gauges;
+        });
+        poolMetrics.get("leased").set(leased);
+        poolMetrics.get("available").set(available);
+        poolMetrics.get("pending").set(pending);
+    }
+
+    @Override
+    public void onIndexOperation(String index, String operation, long durationInNanos) {
+        final Timer indexOperationTimer = indexTimerCache.computeIfAbsent(index + "|" + operation, k ->
+            Timer.builder("index_operation_timer")
+                .tags(asList(of("index", index), of("operation", operation)))
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(this.meterRegistry)
+        );
+        indexOperationTimer.record(durationInNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onCacheLookup(String cache, boolean hit) {
+        this.meterRegistry.counter("cache_lookup_count", asList(of("cache", cache), of("result", hit ? "hit" : "miss"))).increment();
+    }
+
+    @Override
+    public void onCampaignSchedulerStats(String environment, int queued, int running) {
+        final Map<String, AtomicLong> schedulerMetrics = campaignSchedulerCache.computeIfAbsent(environment, env -> {
+            final Map<String, AtomicLong> gauges = new HashMap<>();
+            List.of("queued", "running").forEach(state ->
+                gauges.put(state, this.meterRegistry.gauge("campaign_scheduler_gauge", asList(of("environment", env), of("state", state)), new AtomicLong(0)))
+            );
+            return gauges;
+        });
+        schedulerMetrics.get("queued").set(queued);
+        schedulerMetrics.get("running").set(running);
+    }
+
+    @Override
+    public void onCampaignScenarioWait(String environment, long waitInNanos) {
+        final Timer waitTimer = campaignSchedulerTimerCache.computeIfAbsent(environment, env ->
+            Timer.builder("campaign_scenario_wait_timer")
+                .tags(singleton(of("environment", env)))
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(this.meterRegistry)
+        );
+        waitTimer.record(waitInNanos, TimeUnit.NANOSECONDS);
+    }
+
     private void updateMetrics(Map<ServerReportStatus, Long> scenarioCountByStatus, Map<ServerReportStatus, AtomicLong> cachedMetrics) {
         cachedMetrics.forEach((key, value) -> {
             final Long valueInCache = scenarioCountByStatus.get(key);
@@ -20,7 +20,7 @@ public abstract class AbstractMigrator<T> implements DataMigrator {
     @Override
     public void migrate() {
         if (isMigrationDone()) {
-            LOGGER.info("{} index not empty. Skipping indexing...", getEntityName());
+            LOGGER.info("{} index up to date. Skipping indexing...", getEntityName());
             return;
         }
         LOGGER.info("Start indexing {}...", getEntityName());
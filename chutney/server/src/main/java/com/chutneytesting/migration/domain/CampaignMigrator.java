@@ -37,7 +37,7 @@ public class CampaignMigrator extends AbstractMigrator<CampaignEntity> {
 
     @Override
     protected boolean isMigrationDone() {
-        return campaignIndexRepository.count() > 0;
+        return campaignIndexRepository.count() > 0 && campaignIndexRepository.countOutdated() == 0;
     }
 
     @Override
@@ -30,7 +30,7 @@ public class DatasetMigrator implements DataMigrator {
     @Override
     public void migrate() {
         if (isMigrationDone()) {
-            LOGGER.info("Dataset index not empty. Skipping indexing...");
+            LOGGER.info("Dataset index up to date. Skipping indexing...");
             return;
         }
         LOGGER.info("Start indexing...");
@@ -44,7 +44,7 @@ public class DatasetMigrator implements DataMigrator {
     }
 
     private boolean isMigrationDone() {
-        int indexedReports = datasetIndexRepository.count();
-        return indexedReports > 0;
+        int indexedDatasets = datasetIndexRepository.count();
+        return indexedDatasets > 0 && datasetIndexRepository.countOutdated() == 0;
     }
 }
@@ -7,18 +7,19 @@
 
 package com.chutneytesting.migration.domain;
 
+import static java.util.stream.Collectors.toSet;
+
 import com.chutneytesting.execution.infra.storage.ScenarioExecutionReportJpaRepository;
 import com.chutneytesting.execution.infra.storage.index.ExecutionReportIndexRepository;
 import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionReportEntity;
+import com.chutneytesting.migration.infra.ExecutionReportBulkIndexer;
 import com.chutneytesting.migration.infra.ExecutionReportRepository;
-import com.chutneytesting.scenario.infra.jpa.ScenarioEntity;
 import com.chutneytesting.scenario.infra.raw.ScenarioJpaRepository;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -28,53 +29,73 @@ public class ExecutionReportMigrator implements DataMigrator {
     private final ExecutionReportIndexRepository executionReportIndexRepository;
     private final ExecutionReportRepository executionReportRepository;
     private final ScenarioJpaRepository scenarioJpaRepository;
+    private final ExecutionReportBulkIndexer executionReportBulkIndexer;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionReportMigrator.class);
-    private List<String> activatedScenariosIds;
+    private static final int REINDEX_BATCH_SIZE = 100;
 
     public ExecutionReportMigrator(ExecutionReportRepository executionReportRepository,
                                    ScenarioExecutionReportJpaRepository scenarioExecutionReportJpaRepository,
                                    ExecutionReportIndexRepository executionReportIndexRepository,
-                                   ScenarioJpaRepository scenarioJpaRepository) {
+                                   ScenarioJpaRepository scenarioJpaRepository,
+                                   ExecutionReportBulkIndexer executionReportBulkIndexer) {
         this.scenarioExecutionReportJpaRepository = scenarioExecutionReportJpaRepository;
         this.scenarioJpaRepository = scenarioJpaRepository;
         this.executionReportIndexRepository = executionReportIndexRepository;
         this.executionReportRepository = executionReportRepository;
+        this.executionReportBulkIndexer = executionReportBulkIndexer;
     }
 
     @Override
     public void migrate() {
         if (isMigrationDone()) {
             LOGGER.info("Report index not empty. Skipping indexing and in-db compression...");
+            reindexOutdated();
             return;
         }
         LOGGER.info("Start indexing and in-db compression...");
-        List<ScenarioEntity> activeScenarios = scenarioJpaRepository.findByActivated(true);
-        activatedScenariosIds = activeScenarios.stream().map(scenarioEntity -> scenarioEntity.getId().toString()).toList();
-        PageRequest firstPage = PageRequest.of(0, 10);
-        int count = 0;
-        migrate(firstPage, count);
-        activatedScenariosIds = null;
+        List<String> activatedScenariosIds = scenarioJpaRepository.findByActivated(true).stream()
+            .map(scenarioEntity -> scenarioEntity.getId().toString())
+            .toList();
+        int count = executionReportBulkIndexer.indexAll(activatedScenariosIds, executionReportRepository::compressAndSaveInDb);
+        LOGGER.info("{} report(s) successfully compressed and indexed", count);
     }
 
-    private void migrate(Pageable pageable, int previousCount) {
-        LOGGER.debug("Indexing and compressing reports in page n° {}", pageable.getPageNumber());
-        Slice<ScenarioExecutionReportEntity> slice = scenarioExecutionReportJpaRepository.findByScenarioExecutionScenarioIdIn(activatedScenariosIds, pageable);
-        List<ScenarioExecutionReportEntity> reports = slice.getContent();
+    /**
+     * Reindexes, by batches, reports indexed before the current index format.
+     * Indexed reports no longer in database are removed from index.
+     * Reports still outdated after their reindexing are skipped, so that failing ones do not stop the reindexing of others.
+     */
+    void reindexOutdated() {
+        Set<Long> failedIds = new HashSet<>();
+        List<Long> outdatedIds = executionReportIndexRepository.outdatedIds(REINDEX_BATCH_SIZE);
+        if (outdatedIds.isEmpty()) {
+            return;
+        }
+        LOGGER.info("Start reindexing reports...");
+        int count = 0;
+        while (!outdatedIds.isEmpty()) {
+            List<ScenarioExecutionReportEntity> reports = scenarioExecutionReportJpaRepository.findAllById(outdatedIds);
+            executionReportIndexRepository.reindexAll(reports);
 
-        executionReportRepository.compressAndSaveInDb(reports);
-        index(reports);
+            Set<Long> missingIds = new HashSet<>(outdatedIds);
+            reports.forEach(report -> missingIds.remove(report.scenarioExecutionId()));
+            executionReportIndexRepository.deleteAllById(missingIds);
 
-        int count = previousCount + slice.getNumberOfElements();
-        if (slice.hasNext()) {
-            migrate(slice.nextPageable(), count);
-        } else {
-            LOGGER.info("{} report(s) successfully compressed and indexed", count);
-        }
-    }
+            List<Long> stillOutdatedIds = executionReportIndexRepository.outdatedIds(REINDEX_BATCH_SIZE + failedIds.size() + outdatedIds.size());
+            Set<Long> batchFailedIds = stillOutdatedIds.stream().filter(outdatedIds::contains).collect(toSet());
+            failedIds.addAll(batchFailedIds);
+            count += outdatedIds.size() - missingIds.size() - batchFailedIds.size();
 
-    private void index(List<ScenarioExecutionReportEntity> reportsInDb) {
-        executionReportIndexRepository.saveAll(reportsInDb);
+            outdatedIds = stillOutdatedIds.stream()
+                .filter(id -> !failedIds.contains(id))
+                .limit(REINDEX_BATCH_SIZE)
+                .toList();
+        }
+        LOGGER.info("{} report(s) successfully reindexed", count);
+        if (!failedIds.isEmpty()) {
+            LOGGER.warn("{} report(s) could not be reindexed: {}", failedIds.size(), failedIds);
+        }
     }
 
     private boolean isMigrationDone() {
@@ -38,7 +38,7 @@ public class ScenarioMigrator extends AbstractMigrator<ScenarioEntity> {
 
     @Override
     protected boolean isMigrationDone() {
-        return scenarioIndexRepository.count() > 0;
+        return scenarioIndexRepository.count() > 0 && scenarioIndexRepository.countOutdated() == 0;
     }
 
     @Override
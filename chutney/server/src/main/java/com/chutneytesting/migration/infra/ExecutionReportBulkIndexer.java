@@ -0,0 +1,162 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.migration.infra;
+
+import com.chutneytesting.execution.infra.storage.index.ExecutionReportIndexRepository;
+import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionReportEntity;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Indexes execution reports in bulk.<br>
+ * Reports are read by batches, as stored, in the calling thread, while previous batches are decompressed, analyzed
+ * and indexed by parallel workers, each batch being committed at once.
+ * The number of batches waiting for a worker is bounded, so that reading does not outpace indexing.
+ * A failing batch does not stop the others, it is reported once all workers are done.
+ */
+@Component
+public class ExecutionReportBulkIndexer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionReportBulkIndexer.class);
+    private static final int BATCH_SIZE = 500;
+    private static final long PROGRESS_LOG_INTERVAL_MS = 10_000;
+
+    private final ExecutionReportRepository executionReportRepository;
+    private final ExecutionReportIndexRepository executionReportIndexRepository;
+    private final int workers = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+    public ExecutionReportBulkIndexer(ExecutionReportRepository executionReportRepository, ExecutionReportIndexRepository executionReportIndexRepository) {
+        this.executionReportRepository = executionReportRepository;
+        this.executionReportIndexRepository = executionReportIndexRepository;
+    }
+
+    /**
+     * @param scenarioIds    scenarios whose reports are indexed
+     * @param beforeIndexing applied by workers on the reports of each batch stored uncompressed, before they are indexed
+     * @return number of indexed reports, failing batches excluded
+     */
+    public int indexAll(List<String> scenarioIds, Consumer<List<ScenarioExecutionReportEntity>> beforeIndexing) {
+        if (scenarioIds.isEmpty()) {
+            return 0;
+        }
+        AtomicInteger indexed = new AtomicInteger();
+        Progress progress = new Progress();
+        Semaphore pendingBatches = new Semaphore(workers * 2);
+        ExecutorService executor = Executors.newFixedThreadPool(workers, Thread.ofPlatform().name("report-bulk-indexer-", 0).factory());
+        List<IndexedBatch> batches = new ArrayList<>();
+        try {
+            List<StoredReport> batch = executionReportRepository.findStoredReportsAfter(scenarioIds, Long.MIN_VALUE, BATCH_SIZE);
+            while (!batch.isEmpty()) {
+                pendingBatches.acquire();
+                List<StoredReport> storedReports = batch;
+                batches.add(new IndexedBatch(storedReports, executor.submit(() -> {
+                    try {
+                        index(storedReports, beforeIndexing);
+                        progress.log(indexed.addAndGet(storedReports.size()));
+                    } finally {
+                        pendingBatches.release();
+                    }
+                })));
+                batch = batch.size() < BATCH_SIZE
+                    ? List.of()
+                    : executionReportRepository.findStoredReportsAfter(scenarioIds, batch.getLast().scenarioExecutionId(), BATCH_SIZE);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Report bulk indexing interrupted");
+        } finally {
+            awaitTermination(executor);
+        }
+        reportFailures(batches);
+        LOGGER.info("{} report(s) indexed in {} s ({} reports/s)", indexed.get(), progress.elapsedSeconds(), progress.throughput(indexed.get()));
+        return indexed.get();
+    }
+
+    private void index(List<StoredReport> storedReports, Consumer<List<ScenarioExecutionReportEntity>> beforeIndexing) {
+        List<ScenarioExecutionReportEntity> reports = new ArrayList<>(storedReports.size());
+        List<ScenarioExecutionReportEntity> uncompressedReports = new ArrayList<>();
+        for (StoredReport storedReport : storedReports) {
+            ScenarioExecutionReportEntity report = storedReport.toEntity();
+            reports.add(report);
+            if (!storedReport.isCompressed()) {
+                uncompressedReports.add(report);
+            }
+        }
+        if (!uncompressedReports.isEmpty()) {
+            beforeIndexing.accept(uncompressedReports);
+        }
+        executionReportIndexRepository.saveAll(reports);
+    }
+
+    private void reportFailures(List<IndexedBatch> batches) {
+        int failedReports = 0;
+        for (IndexedBatch batch : batches) {
+            try {
+                batch.indexing().get();
+            } catch (ExecutionException e) {
+                failedReports += batch.reports().size();
+                LOGGER.error("Failed to index reports from {} to {}", batch.reports().getFirst().scenarioExecutionId(), batch.reports().getLast().scenarioExecutionId(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        if (failedReports > 0) {
+            LOGGER.error("{} report(s) not indexed", failedReports);
+        }
+    }
+
+    private void awaitTermination(ExecutorService executor) {
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(PROGRESS_LOG_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                LOGGER.debug("Waiting for report bulk indexing workers");
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record IndexedBatch(List<StoredReport> reports, Future<?> indexing) {
+    }
+
+    private static class Progress {
+        private final long start = System.nanoTime();
+        private final AtomicLong lastLog = new AtomicLong(start);
+
+        private void log(int indexed) {
+            long now = System.nanoTime();
+            long previousLog = lastLog.get();
+            if (now - previousLog >= TimeUnit.MILLISECONDS.toNanos(PROGRESS_LOG_INTERVAL_MS) && lastLog.compareAndSet(previousLog, now)) {
+                LOGGER.info("{} report(s) indexed ({} reports/s)", indexed, throughput(indexed));
+            }
+        }
+
+        private long elapsedSeconds() {
+            return TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start);
+        }
+
+        private long throughput(int indexed) {
+            long elapsedMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return indexed * 1000L / elapsedMs;
+        }
+    }
+}
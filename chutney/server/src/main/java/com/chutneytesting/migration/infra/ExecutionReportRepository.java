@@ -9,7 +9,12 @@ package com.chutneytesting.migration.infra;
 
 import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionReportEntity;
 import jakarta.persistence.EntityManager;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
 import java.util.List;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,7 +35,42 @@ public class ExecutionReportRepository {
                 .setParameter("report", report.getReport())
                 .setParameter("id", report.scenarioExecutionId())
                 .executeUpdate();
-            entityManager.detach(report);
         });
     }
+
+    /**
+     * Reads reports content, as stored, of given scenarios with an id greater than given one, in id order.<br>
+     * Pages are found through the id index whatever their rank, unlike offset paging.
+     */
+    @Transactional(readOnly = true)
+    public List<StoredReport> findStoredReportsAfter(List<String> scenarioIds, long lastReportId, int limit) {
+        List<?> rows = entityManager.createNativeQuery(
+                "SELECT r.SCENARIO_EXECUTION_ID, r.REPORT FROM SCENARIO_EXECUTIONS_REPORTS r " +
+                    "INNER JOIN SCENARIO_EXECUTIONS e ON e.ID = r.SCENARIO_EXECUTION_ID " +
+                    "WHERE e.SCENARIO_ID IN (:scenarioIds) AND r.SCENARIO_EXECUTION_ID > :lastReportId " +
+                    "ORDER BY r.SCENARIO_EXECUTION_ID")
+            .setParameter("scenarioIds", scenarioIds)
+            .setParameter("lastReportId", lastReportId)
+            .setMaxResults(limit)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, limit)
+            .getResultList();
+        return rows.stream()
+            .map(row -> (Object[]) row)
+            .map(row -> new StoredReport(((Number) row[0]).longValue(), content(row[1])))
+            .toList();
+    }
+
+    private static byte[] content(Object column) {
+        try {
+            return switch (column) {
+                case null -> new byte[0];
+                case byte[] bytes -> bytes;
+                case Blob blob -> blob.getBytes(1, (int) blob.length());
+                case Clob clob -> clob.getSubString(1, (int) clob.length()).getBytes(StandardCharsets.UTF_8);
+                default -> column.toString().getBytes(StandardCharsets.UTF_8);
+            };
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot read report content", e);
+        }
+    }
 }
@@ -0,0 +1,30 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.migration.infra;
+
+import com.chutneytesting.execution.infra.storage.jpa.ReportConverter;
+import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionReportEntity;
+
+/**
+ * Report content as stored in database, compressed or not.
+ */
+public record StoredReport(long scenarioExecutionId, byte[] content) {
+
+    private static final ReportConverter REPORT_CONVERTER = new ReportConverter();
+
+    public boolean isCompressed() {
+        return ReportConverter.isCompressed(content);
+    }
+
+    /**
+     * @return a detached entity holding the decompressed report
+     */
+    public ScenarioExecutionReportEntity toEntity() {
+        return new ScenarioExecutionReportEntity(scenarioExecutionId, REPORT_CONVERTER.convertToEntityAttribute(content));
+    }
+}
@@ -15,6 +15,7 @@ import static org.apache.commons.lang3.StringUtils.isNumeric;
 import com.chutneytesting.campaign.infra.CampaignScenarioJpaRepository;
 import com.chutneytesting.campaign.infra.jpa.CampaignScenarioEntity;
 import com.chutneytesting.execution.infra.storage.DatabaseExecutionJpaRepository;
+import com.chutneytesting.execution.infra.execution.ExecutableScenarioCache;
 import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionEntity;
 import com.chutneytesting.scenario.domain.gwt.GwtTestCase;
 import com.chutneytesting.scenario.infra.jpa.ScenarioEntity;
@@ -38,15 +39,18 @@ public class DatabaseTestCaseRepository implements AggregatedRepository<GwtTestC
     private final ScenarioJpaRepository scenarioJpaRepository;
     private final DatabaseExecutionJpaRepository scenarioExecutionsJpaRepository;
     private final CampaignScenarioJpaRepository campaignScenarioJpaRepository;
+    private final ExecutableScenarioCache executableScenarioCache;
 
 
     public DatabaseTestCaseRepository(
         ScenarioJpaRepository jpa,
         DatabaseExecutionJpaRepository scenarioExecutionsJpaRepository,
-        CampaignScenarioJpaRepository campaignScenarioJpaRepository, EntityManager entityManager) {
+        CampaignScenarioJpaRepository campaignScenarioJpaRepository, EntityManager entityManager,
+        ExecutableScenarioCache executableScenarioCache) {
         this.scenarioJpaRepository = jpa;
         this.scenarioExecutionsJpaRepository = scenarioExecutionsJpaRepository;
         this.campaignScenarioJpaRepository = campaignScenarioJpaRepository;
+        this.executableScenarioCache = executableScenarioCache;
     }
 
     @Override
@@ -54,10 +58,13 @@ public class DatabaseTestCaseRepository implements AggregatedRepository<GwtTestC
     public String save(GwtTestCase testCase) {
         if (scenarioWithExplicitIdNotExists(testCase)) {
             saveScenarioWithExplicitId(testCase);
+            executableScenarioCache.invalidate(testCase.id());
             return testCase.id();
         }
         try {
-            return scenarioJpaRepository.save(ScenarioEntity.fromGwtTestCase(testCase)).getId().toString();
+            String scenarioId = scenarioJpaRepository.save(ScenarioEntity.fromGwtTestCase(testCase)).getId().toString();
+            executableScenarioCache.invalidate(scenarioId);
+            return scenarioId;
         } catch (ObjectOptimisticLockingFailureException e) {
             throw new ScenarioNotFoundException(testCase.id(), testCase.metadata().version());
         }
@@ -84,7 +91,12 @@ public class DatabaseTestCaseRepository implements AggregatedRepository<GwtTestC
 
     @Override
     public Optional<TestCase> findExecutableById(String id) {
-        return findById(id).map(TestCase.class::cast);
+        if (checkIdInput(id)) {
+            return empty();
+        }
+        return scenarioJpaRepository.findByIdAndActivated(valueOf(id), true)
+            .filter(ScenarioEntity::isActivated)
+            .map(scenario -> executableScenarioCache.testCase(scenario.getId().toString(), scenario.getVersion(), scenario::toGwtTestCase));
     }
 
     @Override
@@ -128,6 +140,7 @@ public class DatabaseTestCaseRepository implements AggregatedRepository<GwtTestC
 
                 scenarioJpa.deactivate();
                 scenarioJpaRepository.save(scenarioJpa);
+                executableScenarioCache.invalidate(scenarioId);
             });
     }
 
@@ -12,18 +12,21 @@ import static java.util.Collections.singletonList;
 import static java.util.Optional.of;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
-import static org.mockito.AdditionalMatchers.or;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static util.WaitUtils.awaitDuring;
 
@@ -36,6 +39,7 @@ import com.chutneytesting.jira.api.ReportForJira;
 import com.chutneytesting.scenario.domain.gwt.GwtTestCase;
 import com.chutneytesting.server.core.domain.dataset.DataSet;
 import com.chutneytesting.server.core.domain.execution.ExecutionRequest;
+import com.chutneytesting.server.core.domain.execution.FailedExecutionAttempt;
 import com.chutneytesting.server.core.domain.execution.ScenarioExecutionEngine;
 import com.chutneytesting.server.core.domain.execution.ScenarioExecutionEngineAsync;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory;
@@ -43,6 +47,8 @@ import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryR
 import com.chutneytesting.server.core.domain.execution.history.ImmutableExecutionHistory;
 import com.chutneytesting.server.core.domain.execution.report.ScenarioExecutionReport;
 import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
+import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportCore;
+import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportCoreBuilder;
 import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
 import com.chutneytesting.server.core.domain.scenario.TestCase;
 import com.chutneytesting.server.core.domain.scenario.TestCaseMetadataImpl;
@@ -51,8 +57,9 @@ import com.chutneytesting.server.core.domain.scenario.campaign.Campaign;
 import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecution;
 import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecutionReportBuilder;
 import com.chutneytesting.server.core.domain.scenario.campaign.ScenarioExecutionCampaign;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -88,11 +95,11 @@ public class CampaignExecutionEngineTest {
     private final JiraXrayEmbeddedApi jiraXrayPlugin = mock(JiraXrayEmbeddedApi.class);
     private final ChutneyMetrics metrics = mock(ChutneyMetrics.class);
     private final DataSetRepository datasetRepository = mock(DataSetRepository.class);
-    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
 
 
     private GwtTestCase firstTestCase;
     private GwtTestCase secondTestCase;
+    private Map<String, Long> stubbedExecutionIds = Map.of();
     Long firstScenarioExecutionId = 10L;
     Long secondScenarioExecutionId = 20L;
 
@@ -107,16 +114,13 @@ public class CampaignExecutionEngineTest {
 
     @BeforeEach
     public void setUp() {
-        sut = new CampaignExecutionEngine(campaignRepository, campaignExecutionRepository, scenarioExecutionEngine, scenarioExecutionEngineAsync, executionHistoryRepository, testCaseRepository, jiraXrayPlugin, metrics, executorService, datasetRepository, objectMapper);
+        sut = new CampaignExecutionEngine(campaignRepository, campaignExecutionRepository, scenarioExecutionEngine, scenarioExecutionEngineAsync, executionHistoryRepository, testCaseRepository, jiraXrayPlugin, metrics, CampaignScenarioScheduler.unlimited(executorService, metrics), new CampaignScenarioPlanner(CampaignScenarioPlanner.Order.DECLARATION, executionHistoryRepository), datasetRepository);
         firstTestCase = createGwtTestCase("1");
         secondTestCase = createGwtTestCase("2");
         when(testCaseRepository.findExecutableById(firstTestCase.id())).thenReturn(of(firstTestCase));
         when(testCaseRepository.findExecutableById(secondTestCase.id())).thenReturn(of(secondTestCase));
-        when(executionHistoryRepository.getExecution(eq(firstTestCase.id()), or(eq(0L), eq(10L))))
-            .thenReturn(executionWithId(firstTestCase.id(), firstScenarioExecutionId));
-        when(executionHistoryRepository.getExecution(eq(secondTestCase.id()), or(eq(0L), eq(20L))))
-            .thenReturn(executionWithId(secondTestCase.id(), secondScenarioExecutionId));
-        when(scenarioExecutionEngine.execute(any(ExecutionRequest.class))).thenReturn(mock(ScenarioExecutionReport.class));
+        stubExecutions(executionWithId(firstTestCase.id(), firstScenarioExecutionId), executionWithId(secondTestCase.id(), secondScenarioExecutionId));
+        when(scenarioExecutionEngine.execute(any(ExecutionRequest.class))).thenAnswer(invocation -> scenarioExecutionReport(invocation.getArgument(0)));
         when(scenarioExecutionEngine.saveNotExecutedScenarioExecution(any(ExecutionRequest.class))).thenReturn(mock(ExecutionHistory.Execution.class));
     }
 
@@ -135,6 +139,46 @@ public class CampaignExecutionEngineTest {
 
     }
 
+    @Test
+    public void should_not_read_execution_history_when_campaign_scenarios_are_executed() {
+        // Given
+        Campaign campaign = createCampaign(firstTestCase, secondTestCase);
+
+        // When
+        CampaignExecution campaignExecution = sut.executeScenarioInCampaign(campaign, "user", null);
+
+        // Then
+        verifyNoInteractions(executionHistoryRepository);
+        assertThat(campaignExecution.scenarioExecutionReports()).extracting(ScenarioExecutionCampaign::status).containsOnly(ServerReportStatus.SUCCESS);
+        ArgumentCaptor<ReportForJira> reportForJiraCaptor = ArgumentCaptor.forClass(ReportForJira.class);
+        verify(jiraXrayPlugin, times(2)).updateTestExecution(eq(campaign.id), eq(campaignExecution.executionId), anyString(), eq(""), reportForJiraCaptor.capture());
+        assertThat(reportForJiraCaptor.getAllValues()).extracting(report -> report.status).containsOnly("SUCCESS");
+    }
+
+    @Test
+    public void should_only_read_execution_summary_when_scenario_execution_attempt_failed() {
+        // Given
+        Campaign campaign = createCampaign(firstTestCase, secondTestCase);
+        when(scenarioExecutionEngine.execute(any(ExecutionRequest.class))).thenAnswer(invocation -> {
+            ExecutionRequest request = invocation.getArgument(0);
+            if (request.testCase.id().equals(firstTestCase.id())) {
+                throw new FailedExecutionAttempt(new RuntimeException("engine down"), firstScenarioExecutionId, "first");
+            }
+            return scenarioExecutionReport(request);
+        });
+        when(executionHistoryRepository.getExecutionSummary(firstScenarioExecutionId)).thenReturn(failedExecutionWithId(firstTestCase.id(), firstScenarioExecutionId).summary());
+
+        // When
+        CampaignExecution campaignExecution = sut.executeScenarioInCampaign(campaign, "user", null);
+
+        // Then
+        verify(executionHistoryRepository).getExecutionSummary(firstScenarioExecutionId);
+        verifyNoMoreInteractions(executionHistoryRepository);
+        assertThat(campaignExecution.scenarioExecutionReports()).extracting(ScenarioExecutionCampaign::status)
+            .containsExactly(ServerReportStatus.FAILURE, ServerReportStatus.SUCCESS);
+        verify(jiraXrayPlugin).updateTestExecution(eq(campaign.id), eq(campaignExecution.executionId), eq(firstTestCase.id()), eq(""), any(ReportForJira.class));
+    }
+
     @Test
     public void should_execute_scenarios_in_sequence_and_store_reports_in_campaign_report_when_executed() {
         // Given
@@ -146,7 +190,7 @@ public class CampaignExecutionEngineTest {
         // Then
         verify(testCaseRepository, times(2)).findExecutableById(anyString());
         verify(scenarioExecutionEngine, times(2)).execute(any(ExecutionRequest.class));
-        verify(executionHistoryRepository, times(4)).getExecution(anyString(), anyLong());
+        verify(scenarioExecutionEngine, times(2)).storedSummary(any(ScenarioExecutionReport.class));
 
         assertThat(campaignExecution.scenarioExecutionReports()).hasSize(campaign.scenarios.size());
         assertThat(campaignExecution.scenarioExecutionReports().getFirst().execution().executionId()).isEqualTo(firstScenarioExecutionId);
@@ -170,7 +214,7 @@ public class CampaignExecutionEngineTest {
         // Then
         verify(testCaseRepository).findExecutableById(anyString());
         verify(scenarioExecutionEngine).execute(any(ExecutionRequest.class));
-        verify(executionHistoryRepository, times(2)).getExecution(anyString(), anyLong());
+        verify(scenarioExecutionEngine).storedSummary(any(ScenarioExecutionReport.class));
 
         assertThat(campaignExecution.scenarioExecutionReports()).hasSize(1);
         assertThat(campaignExecution.scenarioExecutionReports().getFirst().execution().executionId()).isEqualTo(secondScenarioExecutionId);
@@ -185,13 +229,12 @@ public class CampaignExecutionEngineTest {
 
         when(scenarioExecutionEngine.execute(any(ExecutionRequest.class))).then((Answer<ScenarioExecutionReport>) invocationOnMock -> {
             awaitDuring(1, SECONDS);
-            return mock(ScenarioExecutionReport.class);
+            return scenarioExecutionReport(invocationOnMock.getArgument(0));
         });
 
         Long firstScenarioExecutionId = 10L;
         var firstScenarioExecution = executionWithId(firstTestCase.id(), firstScenarioExecutionId);
-        when(executionHistoryRepository.getExecution(eq(firstTestCase.id()), or(eq(0L), eq(10L))))
-            .thenReturn(firstScenarioExecution);
+        stubExecutions(firstScenarioExecution);
 
         when(scenarioExecutionEngine.saveNotExecutedScenarioExecution(any(ExecutionRequest.class)))
             .thenReturn(executionWithId(secondTestCase.id(), secondScenarioExecutionId, ServerReportStatus.NOT_EXECUTED));
@@ -215,7 +258,7 @@ public class CampaignExecutionEngineTest {
 
         // Then
         verify(scenarioExecutionEngine).execute(any(ExecutionRequest.class));
-        verify(executionHistoryRepository, times(3)).getExecution(anyString(), anyLong());
+        verify(executionHistoryRepository, never()).getExecution(anyString(), anyLong());
         verify(campaignExecutionRepository).getCampaignExecutionById(0L);
         verify(scenarioExecutionEngineAsync).stop(firstTestCase.id(), firstScenarioExecutionId);
 
@@ -233,8 +276,7 @@ public class CampaignExecutionEngineTest {
         // Given
         Campaign campaign = createCampaign(firstTestCase, secondTestCase, true);
 
-        when(executionHistoryRepository.getExecution(eq(firstTestCase.id()), or(eq(0L), eq(10L)))).thenReturn(failedExecutionWithId(firstTestCase.id(), 10L));
-        when(executionHistoryRepository.getExecution(eq(secondTestCase.id()), or(eq(0L), eq(20L)))).thenReturn(failedExecutionWithId(secondTestCase.id(), 20L));
+        stubExecutions(failedExecutionWithId(firstTestCase.id(), 10L), failedExecutionWithId(secondTestCase.id(), 20L));
 
         // When
         sut.executeScenarioInCampaign(campaign, "user");
@@ -250,10 +292,9 @@ public class CampaignExecutionEngineTest {
 
         when(scenarioExecutionEngine.execute(any(ExecutionRequest.class))).then((Answer<ScenarioExecutionReport>) invocationOnMock -> {
             awaitDuring(1, SECONDS);
-            return mock(ScenarioExecutionReport.class);
+            return scenarioExecutionReport(invocationOnMock.getArgument(0));
         });
-        when(executionHistoryRepository.getExecution(eq(firstTestCase.id()), or(eq(0L), eq(10L)))).thenReturn(failedExecutionWithId(firstTestCase.id(), 10L));
-        when(executionHistoryRepository.getExecution(eq(secondTestCase.id()), or(eq(0L), eq(20L)))).thenReturn(failedExecutionWithId(secondTestCase.id(), 20L));
+        stubExecutions(failedExecutionWithId(firstTestCase.id(), 10L), failedExecutionWithId(secondTestCase.id(), 20L));
 
         // When
         StopWatch watch = new StopWatch();
@@ -507,7 +548,7 @@ public class CampaignExecutionEngineTest {
 
         when(campaignRepository.findById(campaign.id)).thenReturn(campaign);
         when(testCaseRepository.findExecutableById(gwtTestCase.id())).thenReturn(of(gwtTestCase));
-        when(executionHistoryRepository.getExecution(any(), any())).thenReturn(executionWithId(gwtTestCase.id(), 42L));
+        stubExecutions(executionWithId(gwtTestCase.id(), 42L));
 
         when(datasetRepository.findById(eq("campaignDataSet"))).thenReturn(DataSet.builder().withName("campaignDataSet").build());
 
@@ -540,7 +581,7 @@ public class CampaignExecutionEngineTest {
 
         when(campaignRepository.findById(campaign.id)).thenReturn(campaign);
         when(testCaseRepository.findExecutableById(gwtTestCase.id())).thenReturn(of(gwtTestCase));
-        when(executionHistoryRepository.getExecution(any(), any())).thenReturn(executionWithId(gwtTestCase.id(), 42L));
+        stubExecutions(executionWithId(gwtTestCase.id(), 42L));
 
         when(datasetRepository.findById(eq("scenarioInCampaignDataset"))).thenReturn(DataSet.builder().withName("scenarioInCampaignDataset").build());
 
@@ -573,7 +614,7 @@ public class CampaignExecutionEngineTest {
 
         when(campaignRepository.findById(campaign.id)).thenReturn(campaign);
         when(testCaseRepository.findExecutableById(gwtTestCase.id())).thenReturn(of(gwtTestCase));
-        when(executionHistoryRepository.getExecution(any(), any())).thenReturn(executionWithId(gwtTestCase.id(), 42L));
+        stubExecutions(executionWithId(gwtTestCase.id(), 42L));
 
         // When
         sut.executeById(campaign.id, "user");
@@ -711,6 +752,25 @@ public class CampaignExecutionEngineTest {
         return (long) campaignIdGenerator.nextInt(1000);
     }
 
+    private void stubExecutions(ExecutionHistory.Execution... executions) {
+        stubbedExecutionIds = Arrays.stream(executions)
+            .collect(toMap(ExecutionHistory.Execution::scenarioId, ExecutionHistory.Execution::executionId));
+        Map<Long, ExecutionHistory.ExecutionSummary> summaries = Arrays.stream(executions)
+            .collect(toMap(ExecutionHistory.Execution::executionId, ExecutionHistory.Execution::summary));
+        when(scenarioExecutionEngine.storedSummary(any(ScenarioExecutionReport.class)))
+            .thenAnswer(invocation -> summaries.get(invocation.<ScenarioExecutionReport>getArgument(0).executionId));
+    }
+
+    private ScenarioExecutionReport scenarioExecutionReport(ExecutionRequest executionRequest) {
+        StepExecutionReportCore report = new StepExecutionReportCoreBuilder()
+            .setName(executionRequest.testCase.metadata().title())
+            .setDuration(3L)
+            .setStartDate(Instant.now())
+            .setStatus(ServerReportStatus.SUCCESS)
+            .createStepExecutionReport();
+        return new ScenarioExecutionReport(stubbedExecutionIds.getOrDefault(executionRequest.testCase.id(), 0L), executionRequest.testCase.metadata().title(), executionRequest.environment, executionRequest.userId, executionRequest.tags, executionRequest.dataset, report);
+    }
+
     private ExecutionHistory.Execution executionWithId(String scenarioId, Long executionId) {
         return executionWithId(scenarioId, executionId, ServerReportStatus.SUCCESS);
     }
@@ -0,0 +1,97 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.domain.campaign;
+
+import static com.chutneytesting.execution.domain.campaign.CampaignScenarioPlanner.HISTORY_SIZE;
+import static com.chutneytesting.execution.domain.campaign.CampaignScenarioPlanner.Order.DECLARATION;
+import static com.chutneytesting.execution.domain.campaign.CampaignScenarioPlanner.Order.LONGEST_FIRST;
+import static com.chutneytesting.execution.domain.campaign.CampaignScenarioScheduler.UNLIMITED;
+import static com.chutneytesting.server.core.domain.dataset.DataSet.NO_DATASET;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.chutneytesting.scenario.domain.gwt.GwtTestCase;
+import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryRepository;
+import com.chutneytesting.server.core.domain.scenario.TestCaseMetadataImpl;
+import com.chutneytesting.server.core.domain.scenario.campaign.TestCaseDataset;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class CampaignScenarioPlannerTest {
+
+    private final ExecutionHistoryRepository executionHistoryRepository = mock(ExecutionHistoryRepository.class);
+
+    private final TestCaseDataset short1 = scenario("short");
+    private final TestCaseDataset unknown = scenario("unknown");
+    private final TestCaseDataset long1 = scenario("long");
+
+    @Test
+    void should_keep_declaration_order_without_reading_history() {
+        CampaignScenarioPlanner sut = new CampaignScenarioPlanner(DECLARATION, executionHistoryRepository);
+
+        CampaignScenarioPlanner.Plan plan = sut.plan(List.of(short1, unknown, long1), "env", true, UNLIMITED);
+
+        assertThat(plan.scenarios()).containsExactly(short1, unknown, long1);
+        assertThat(plan.predictedDuration()).isEmpty();
+        verifyNoInteractions(executionHistoryRepository);
+    }
+
+    @Test
+    void should_run_longest_scenarios_first_and_predict_campaign_duration() {
+        when(executionHistoryRepository.getLastDurations(List.of("short", "unknown", "long"), "env", HISTORY_SIZE)).thenReturn(Map.of(
+            "short", List.of(100L, 120L, 80L),
+            "long", List.of(900L, 1000L, 950L, 5000L, 980L, 990L, 1000L, 1000L, 1000L, 1000L)
+        ));
+        CampaignScenarioPlanner sut = new CampaignScenarioPlanner(LONGEST_FIRST, executionHistoryRepository);
+
+        CampaignScenarioPlanner.Plan plan = sut.plan(List.of(short1, unknown, long1), "env", true, 2);
+
+        // 90th percentile : long 1000ms, short 120ms, unknown takes their average 560ms
+        assertThat(plan.scenarios()).containsExactly(long1, unknown, short1);
+        assertThat(plan.predictedDuration()).hasValue(1000L);
+    }
+
+    @Test
+    void should_keep_sequential_campaign_order() {
+        CampaignScenarioPlanner sut = new CampaignScenarioPlanner(LONGEST_FIRST, executionHistoryRepository);
+
+        CampaignScenarioPlanner.Plan plan = sut.plan(List.of(short1, long1), "env", false, 1);
+
+        assertThat(plan.scenarios()).containsExactly(short1, long1);
+        verifyNoInteractions(executionHistoryRepository);
+    }
+
+    @Test
+    void should_keep_declaration_order_when_history_cannot_be_read() {
+        when(executionHistoryRepository.getLastDurations(any(), any(), anyInt())).thenThrow(new IllegalStateException("db down"));
+        CampaignScenarioPlanner sut = new CampaignScenarioPlanner(LONGEST_FIRST, executionHistoryRepository);
+
+        CampaignScenarioPlanner.Plan plan = sut.plan(List.of(short1, long1), "env", true, UNLIMITED);
+
+        assertThat(plan.scenarios()).containsExactly(short1, long1);
+        assertThat(plan.predictedDuration()).isEmpty();
+        verify(executionHistoryRepository).getLastDurations(List.of("short", "long"), "env", HISTORY_SIZE);
+    }
+
+    @Test
+    void makespan_starts_each_scenario_on_first_free_slot() {
+        assertThat(CampaignScenarioPlanner.makespan(List.of(5L, 4L, 3L, 3L, 3L), 2)).isEqualTo(10L);
+        assertThat(CampaignScenarioPlanner.makespan(List.of(3L, 3L, 3L, 4L, 5L), 2)).isEqualTo(11L);
+        assertThat(CampaignScenarioPlanner.makespan(List.of(5L, 4L, 3L), 3)).isEqualTo(5L);
+    }
+
+    private TestCaseDataset scenario(String id) {
+        return new TestCaseDataset(GwtTestCase.builder().withMetadata(TestCaseMetadataImpl.builder().withId(id).build()).build(), NO_DATASET);
+    }
+}
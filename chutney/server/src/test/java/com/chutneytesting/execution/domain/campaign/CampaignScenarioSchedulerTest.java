@@ -0,0 +1,126 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.domain.campaign;
+
+import static com.chutneytesting.execution.domain.campaign.CampaignScenarioScheduler.UNLIMITED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static util.WaitUtils.awaitDuring;
+
+import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class CampaignScenarioSchedulerTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(10);
+    private final ChutneyMetrics metrics = mock(ChutneyMetrics.class);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void should_not_run_more_scenarios_than_campaign_limit() throws InterruptedException {
+        CampaignScenarioScheduler sut = new CampaignScenarioScheduler(executor, UNLIMITED, 2, UNLIMITED, metrics);
+        ConcurrencyProbe probe = new ConcurrencyProbe();
+
+        sut.runAll("env", true, probe.scenarios(6));
+
+        assertThat(probe.executed.get()).isEqualTo(6);
+        assertThat(probe.maxRunning.get()).isEqualTo(2);
+        verify(metrics, times(6)).onCampaignScenarioWait(eq("env"), anyLong());
+        verify(metrics, atLeastOnce()).onCampaignSchedulerStats("env", 0, 0);
+    }
+
+    @Test
+    void should_run_sequential_campaign_scenarios_one_after_the_other_in_order() throws InterruptedException {
+        CampaignScenarioScheduler sut = CampaignScenarioScheduler.unlimited(executor, metrics);
+        List<Integer> executionOrder = new CopyOnWriteArrayList<>();
+        ConcurrencyProbe probe = new ConcurrencyProbe();
+
+        sut.runAll("env", false, IntStream.range(0, 4).<Runnable>mapToObj(i -> () -> probe.run(() -> executionOrder.add(i))).toList());
+
+        assertThat(executionOrder).containsExactly(0, 1, 2, 3);
+        assertThat(probe.maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    void should_share_environment_limit_between_campaigns() {
+        CampaignScenarioScheduler sut = new CampaignScenarioScheduler(executor, UNLIMITED, UNLIMITED, 3, metrics);
+        ConcurrencyProbe probe = new ConcurrencyProbe();
+
+        CompletableFuture.allOf(
+            CompletableFuture.runAsync(() -> runAll(sut, "env", probe.scenarios(5))),
+            CompletableFuture.runAsync(() -> runAll(sut, "env", probe.scenarios(5)))
+        ).join();
+
+        assertThat(probe.executed.get()).isEqualTo(10);
+        assertThat(probe.maxRunning.get()).isEqualTo(3);
+    }
+
+    @Test
+    void should_give_free_slots_to_campaigns_in_turn() throws InterruptedException {
+        CampaignScenarioScheduler sut = new CampaignScenarioScheduler(executor, 1, UNLIMITED, UNLIMITED, metrics);
+        List<String> executionOrder = new CopyOnWriteArrayList<>();
+        CountDownLatch bigCampaignStarted = new CountDownLatch(1);
+
+        CompletableFuture<Void> bigCampaign = CompletableFuture.runAsync(() -> runAll(sut, "env", IntStream.range(0, 5).<Runnable>mapToObj(i -> () -> {
+            bigCampaignStarted.countDown();
+            awaitDuring(50, TimeUnit.MILLISECONDS);
+            executionOrder.add("big");
+        }).toList()));
+        bigCampaignStarted.await();
+        runAll(sut, "other", List.of(() -> executionOrder.add("small")));
+        bigCampaign.join();
+
+        assertThat(executionOrder).hasSize(6);
+        assertThat(executionOrder.indexOf("small")).isLessThanOrEqualTo(2);
+    }
+
+    private static void runAll(CampaignScenarioScheduler sut, String environment, List<Runnable> scenarios) {
+        try {
+            sut.runAll(environment, true, scenarios);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static class ConcurrencyProbe {
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger maxRunning = new AtomicInteger();
+        private final AtomicInteger executed = new AtomicInteger();
+
+        private List<Runnable> scenarios(int count) {
+            return IntStream.range(0, count).<Runnable>mapToObj(i -> () -> run(() -> {})).toList();
+        }
+
+        private void run(Runnable scenario) {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            awaitDuring(100, TimeUnit.MILLISECONDS);
+            scenario.run();
+            executed.incrementAndGet();
+            running.decrementAndGet();
+        }
+    }
+}
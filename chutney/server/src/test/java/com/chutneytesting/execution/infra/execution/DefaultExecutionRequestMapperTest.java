@@ -7,8 +7,12 @@
 
 package com.chutneytesting.execution.infra.execution;
 
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.chutneytesting.agent.domain.explore.CurrentNetworkDescription;
@@ -16,6 +20,7 @@ import com.chutneytesting.engine.api.execution.ExecutionRequestDto;
 import com.chutneytesting.environment.api.environment.EmbeddedEnvironmentApi;
 import com.chutneytesting.environment.api.environment.dto.EnvironmentDto;
 import com.chutneytesting.environment.api.target.EmbeddedTargetApi;
+import com.chutneytesting.environment.api.target.dto.TargetDto;
 import com.chutneytesting.scenario.domain.gwt.GwtScenario;
 import com.chutneytesting.scenario.domain.gwt.GwtStep;
 import com.chutneytesting.scenario.domain.gwt.GwtStepImplementation;
@@ -23,6 +28,7 @@ import com.chutneytesting.scenario.domain.gwt.GwtTestCase;
 import com.chutneytesting.scenario.domain.gwt.Strategy;
 import com.chutneytesting.server.core.domain.dataset.DataSet;
 import com.chutneytesting.server.core.domain.execution.ExecutionRequest;
+import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
 import com.chutneytesting.server.core.domain.scenario.TestCaseMetadataImpl;
 import java.util.Collections;
 import java.util.List;
@@ -36,7 +42,9 @@ public class DefaultExecutionRequestMapperTest {
     private final EmbeddedEnvironmentApi embeddedEnvironmentApi = mock(EmbeddedEnvironmentApi.class);
     private final CurrentNetworkDescription currentNetworkDescription = mock(CurrentNetworkDescription.class);
 
-    private final DefaultExecutionRequestMapper sut = new DefaultExecutionRequestMapper(embeddedTargetApi, embeddedEnvironmentApi, currentNetworkDescription);
+    private final ExecutableScenarioCache executableScenarioCache = new ExecutableScenarioCache(10, mock(ChutneyMetrics.class));
+
+    private final DefaultExecutionRequestMapper sut = new DefaultExecutionRequestMapper(embeddedTargetApi, embeddedEnvironmentApi, currentNetworkDescription, executableScenarioCache);
 
     @Test
     public void should_map_test_case_to_execution_request() {
@@ -61,6 +69,55 @@ public class DefaultExecutionRequestMapperTest {
         assertThat(executionRequestDto.dataset.constants).isEqualTo(dataset.constants);
     }
 
+    @Test
+    public void should_reuse_step_definitions_of_cached_scenario_while_targets_are_unchanged() {
+        String envName = "env";
+        when(embeddedEnvironmentApi.getEnvironment(envName)).thenReturn(new EnvironmentDto(envName));
+        when(embeddedTargetApi.getTarget(envName, "server"))
+            .thenReturn(new TargetDto("server", "http://server:8080", emptySet()))
+            .thenReturn(new TargetDto("server", "http://server:8080", emptySet()))
+            .thenReturn(new TargetDto("server", "http://server:9090", emptySet()));
+        GwtTestCase testCase = executableScenarioCache.testCase("1", 1, this::getGwtTestCaseWithTarget);
+
+        ExecutionRequestDto first = sut.toDto(new ExecutionRequest(testCase, envName, ""));
+        ExecutionRequestDto second = sut.toDto(new ExecutionRequest(testCase, envName, ""));
+        ExecutionRequestDto afterTargetChange = sut.toDto(new ExecutionRequest(testCase, envName, ""));
+
+        assertThat(second.scenario).isSameAs(first.scenario);
+        assertThat(afterTargetChange.scenario).isNotSameAs(first.scenario);
+        assertThat(afterTargetChange.scenario.steps.getFirst().target.url).isEqualTo("http://server:9090");
+        verify(embeddedTargetApi, times(3)).getTarget(envName, "server");
+    }
+
+    @Test
+    public void should_not_reuse_step_definitions_of_scenario_not_given_by_cache() {
+        String envName = "env";
+        when(embeddedEnvironmentApi.getEnvironment(envName)).thenReturn(new EnvironmentDto(envName));
+        when(embeddedTargetApi.getTarget(envName, "server")).thenReturn(new TargetDto("server", "http://server:8080", emptySet()));
+        executableScenarioCache.testCase("1", 1, this::getGwtTestCaseWithTarget);
+        GwtTestCase unsavedTestCase = getGwtTestCaseWithTarget();
+
+        ExecutionRequestDto first = sut.toDto(new ExecutionRequest(unsavedTestCase, envName, ""));
+        ExecutionRequestDto second = sut.toDto(new ExecutionRequest(unsavedTestCase, envName, ""));
+
+        assertThat(second.scenario).isNotSameAs(first.scenario);
+    }
+
+    private GwtTestCase getGwtTestCaseWithTarget() {
+        GwtStep targetedStep = GwtStep.builder()
+            .withDescription("http-get name")
+            .withImplementation(new GwtStepImplementation("http-get", "server", Map.of("uri", "/"), emptyMap(), emptyMap(), null))
+            .build();
+        return GwtTestCase.builder()
+            .withMetadata(TestCaseMetadataImpl.builder().withId("1").withVersion(1).withTitle("root step").build())
+            .withScenario(GwtScenario.builder()
+                .withTitle("root step")
+                .withWhen(targetedStep)
+                .withThens(List.of(targetedStep))
+                .build())
+            .build();
+    }
+
     private GwtTestCase getGwtTestCase() {
         return GwtTestCase.builder()
             .withMetadata(TestCaseMetadataImpl.builder().withTitle("root step").build())
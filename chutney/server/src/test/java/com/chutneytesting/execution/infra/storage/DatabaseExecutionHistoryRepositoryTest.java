@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.entry;
 
 import com.chutneytesting.campaign.infra.CampaignExecutionDBRepository;
 import com.chutneytesting.campaign.infra.jpa.CampaignEntity;
@@ -163,6 +164,34 @@ public class DatabaseExecutionHistoryRepositoryTest {
                 .extracting(summary -> summary.info().get()).containsExactly("exec3", "exec2", "exec1");
         }
 
+        @Test
+        public void execution_summary_holds_dataset_stored_with_execution() {
+            String scenarioId = givenScenarioId();
+            DataSet dataSet = DataSet.builder().withName("").withConstants(Map.of("constant", "value")).withDatatable(List.of(Map.of("C", "C1"))).build();
+            sut.store(scenarioId, ImmutableExecutionHistory.DetachedExecution.copyOf(buildDetachedExecution(SUCCESS, "exec", "")).withDataset(dataSet));
+
+            assertThat(sut.getExecutions(scenarioId)).singleElement()
+                .satisfies(summary -> assertThat(summary.dataset()).hasValueSatisfying(ds -> {
+                    assertThat(ds.id).isNull();
+                    assertThat(ds.constants).containsExactly(entry("constant", "value"));
+                    assertThat(ds.datatable).containsExactly(Map.of("C", "C1"));
+                }));
+        }
+
+        @Test
+        public void execution_summary_holds_only_id_of_stored_dataset() {
+            String scenarioId = givenScenarioId();
+            DataSet dataSet = DataSet.builder().withId("ds287").withName("").withConstants(Map.of("constant", "value")).withDatatable(List.of(Map.of("C", "C1"))).build();
+            sut.store(scenarioId, ImmutableExecutionHistory.DetachedExecution.copyOf(buildDetachedExecution(SUCCESS, "exec", "")).withDataset(dataSet));
+
+            assertThat(sut.getExecutions(scenarioId)).singleElement()
+                .satisfies(summary -> assertThat(summary.dataset()).hasValueSatisfying(ds -> {
+                    assertThat(ds.id).isEqualTo("ds287");
+                    assertThat(ds.constants).isEmpty();
+                    assertThat(ds.datatable).isEmpty();
+                }));
+        }
+
         @Test
         public void last_execution_return_newest_first() {
             String scenarioIdOne = givenScenarioId();
@@ -270,6 +299,48 @@ public class DatabaseExecutionHistoryRepositoryTest {
                 .withMessage("Unable to find report " + unknownExecutionId + " of scenario " + scenarioId);
         }
 
+        @Test
+        public void update_progress_alters_only_status_and_duration() {
+            String scenarioId = givenScenario().getId().toString();
+            Execution stored = sut.store(scenarioId, buildDetachedExecution(RUNNING, "exec", ""));
+
+            sut.updateProgress(scenarioId, stored.executionId(), PAUSED, 42L);
+
+            Execution updatedExecution = sut.getExecution(scenarioId, stored.executionId());
+            assertThat(updatedExecution.status()).isEqualTo(PAUSED);
+            assertThat(updatedExecution.duration()).isEqualTo(42L);
+            assertThat(updatedExecution.info()).hasValue("exec");
+            assertThat(updatedExecution.report()).isEqualTo(stored.report());
+        }
+
+        @Test
+        public void last_durations_are_limited_to_finished_executions_on_environment() {
+            String scenarioIdOne = givenScenarioId();
+            String scenarioIdTwo = givenScenarioId();
+            sut.store(scenarioIdOne, executionOn("ENV", SUCCESS, 100L));
+            sut.store(scenarioIdOne, executionOn("ENV", FAILURE, 200L));
+            sut.store(scenarioIdOne, executionOn("OTHER", SUCCESS, 300L));
+            sut.store(scenarioIdOne, executionOn("ENV", STOPPED, 400L));
+            sut.store(scenarioIdOne, executionOn("ENV", SUCCESS, 500L));
+            sut.store(scenarioIdTwo, executionOn("ENV", SUCCESS, 600L));
+
+            Map<String, List<Long>> lastDurations = sut.getLastDurations(List.of(scenarioIdOne, scenarioIdTwo), "ENV", 2);
+
+            assertThat(lastDurations).containsOnly(
+                entry(scenarioIdOne, List.of(500L, 200L)),
+                entry(scenarioIdTwo, List.of(600L))
+            );
+        }
+
+        @Test
+        public void update_progress_on_empty_history_throws() {
+            String scenarioId = givenScenarioId();
+            long unknownExecutionId = -1L;
+            assertThatExceptionOfType(ReportNotFoundException.class)
+                .isThrownBy(() -> sut.updateProgress(scenarioId, unknownExecutionId, SUCCESS, 42L))
+                .withMessage("Unable to find report " + unknownExecutionId + " of scenario " + scenarioId);
+        }
+
         @Test
         public void all_running_executions_are_set_to_KO_on_startup() {
             // Given running executions
@@ -616,6 +687,12 @@ public class DatabaseExecutionHistoryRepositoryTest {
             }
         }
 
+        private DetachedExecution executionOn(String environment, ServerReportStatus status, long duration) {
+            return ImmutableExecutionHistory.DetachedExecution.copyOf(buildDetachedExecution(status, "", ""))
+                .withEnvironment(environment)
+                .withDuration(duration);
+        }
+
         private DetachedExecution buildDetachedExecution(ServerReportStatus status, String info, String error) {
             return ImmutableExecutionHistory.DetachedExecution.builder()
                 .time(LocalDateTime.now())
@@ -7,6 +7,7 @@
 
 package com.chutneytesting.index.domain;
 
+import static com.chutneytesting.index.infra.config.IndexCommitPolicy.Durability.GROUP;
 import static java.time.Instant.now;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -19,14 +20,20 @@ import com.chutneytesting.dataset.infra.index.DatasetIndexRepository;
 import com.chutneytesting.index.api.dto.Hit;
 import com.chutneytesting.index.infra.CustemChutneyAnalyzer;
 import com.chutneytesting.index.infra.LuceneIndexRepository;
+import com.chutneytesting.index.infra.config.IndexCommitPolicy;
 import com.chutneytesting.index.infra.config.IndexConfig;
 import com.chutneytesting.scenario.infra.index.ScenarioIndexRepository;
 import com.chutneytesting.scenario.infra.jpa.ScenarioEntity;
 import com.chutneytesting.server.core.domain.dataset.DataSet;
+import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.store.ByteBuffersDirectory;
@@ -39,6 +46,7 @@ public class IndexRepositoryTest {
 
     private Directory directory;
     private IndexWriter indexWriter;
+    private LuceneIndexRepository luceneIndexRepository;
 
     private CampaignIndexRepository campaignRepository;
     private ScenarioIndexRepository scenarioRepository;
@@ -57,7 +65,8 @@ public class IndexRepositoryTest {
         when(indexConfig.indexWriter()).thenReturn(indexWriter);
         when(indexConfig.analyzer()).thenReturn(analyzer);
 
-        LuceneIndexRepository luceneIndexRepository = new LuceneIndexRepository(indexConfig);
+        // Writes are left uncommitted, searches must see them anyway
+        luceneIndexRepository = new LuceneIndexRepository("test", indexConfig, new IndexCommitPolicy(GROUP, 1000, 60_000, 1000), mock(ChutneyMetrics.class));
 
         campaignRepository = new CampaignIndexRepository(luceneIndexRepository);
         scenarioRepository = new ScenarioIndexRepository(luceneIndexRepository);
@@ -66,6 +75,7 @@ public class IndexRepositoryTest {
 
     @AfterEach
     public void tearDown() throws IOException {
+        luceneIndexRepository.close();
         indexWriter.close();
         directory.close();
     }
@@ -117,6 +127,33 @@ public class IndexRepositoryTest {
         assertThat(results.getFirst().title()).isEqualTo("~12345 OR <mark>#appel</mark> OR --copy");
     }
 
+    @Test
+    public void search_substring_inside_words() {
+        ScenarioEntity scenario = createScenarioEntity(1L, "Unbelievable Title", "", "Content with \"payload\":{}", "tag1");
+        scenarioRepository.save(scenario);
+
+        assertThat(scenarioRepository.search("BELIEV")).hasSize(1);
+        assertThat(scenarioRepository.search("oad\":{")).hasSize(1);
+        assertThat(scenarioRepository.search("believx")).isEmpty();
+        assertThat(scenarioRepository.search("ag1")).hasSize(1);
+    }
+
+    @Test
+    public void documents_indexed_without_ngram_fields_are_outdated_until_saved_again() {
+        Document legacyDocument = new Document();
+        legacyDocument.add(new StringField("what", "scenario", Field.Store.YES));
+        legacyDocument.add(new StringField("id", "1", Field.Store.YES));
+        legacyDocument.add(new TextField("title", "Scenario Title", Field.Store.YES));
+        luceneIndexRepository.index(legacyDocument);
+
+        assertThat(scenarioRepository.countOutdated()).isEqualTo(1);
+
+        scenarioRepository.save(createScenarioEntity(1L, "Scenario Title", "", "", ""));
+
+        assertThat(scenarioRepository.count()).isEqualTo(1);
+        assertThat(scenarioRepository.countOutdated()).isZero();
+    }
+
     private CampaignEntity createCampaignEntity(Long id, String title, String description, String environment, boolean parallelRun, boolean retryAuto, String datasetId, List<String> tags, Integer version, List<CampaignScenarioEntity> campaignScenarios) {
         return new CampaignEntity(id, title, description, environment, parallelRun, retryAuto, datasetId, tags, version, campaignScenarios);
     }
@@ -7,19 +7,27 @@
 
 package com.chutneytesting.index.infra;
 
+import static com.chutneytesting.index.infra.config.IndexCommitPolicy.Durability.GROUP;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.chutneytesting.index.infra.config.IndexCommitPolicy;
 import com.chutneytesting.index.infra.config.IndexConfig;
+import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
 import java.io.IOException;
 import java.util.List;
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexNotFoundException;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.queryparser.classic.QueryParser;
@@ -36,6 +44,7 @@ public class LuceneIndexRepositoryTest {
     private Analyzer analyzer;
     private IndexWriter indexWriter;
     private LuceneIndexRepository luceneIndexRepository;
+    private final ChutneyMetrics metrics = mock(ChutneyMetrics.class);
 
     @BeforeEach
     public void setUp() throws IOException {
@@ -49,11 +58,12 @@ public class LuceneIndexRepositoryTest {
         when(indexConfig.indexWriter()).thenReturn(indexWriter);
         when(indexConfig.analyzer()).thenReturn(analyzer);
 
-        luceneIndexRepository = new LuceneIndexRepository(indexConfig);
+        luceneIndexRepository = new LuceneIndexRepository("test", indexConfig, IndexCommitPolicy.sync(), metrics);
     }
 
     @AfterEach
     public void tearDown() throws IOException {
+        luceneIndexRepository.close();
         indexWriter.close();
         directory.close();
     }
@@ -99,6 +109,64 @@ public class LuceneIndexRepositoryTest {
         assertTrue(results.isEmpty());
     }
 
+    @Test
+    public void testGroupCommit() throws Exception {
+        IndexConfig indexConfig = mock(IndexConfig.class);
+        when(indexConfig.indexWriter()).thenReturn(indexWriter);
+        when(indexConfig.analyzer()).thenReturn(analyzer);
+        LuceneIndexRepository groupCommitRepository = new LuceneIndexRepository("test", indexConfig, new IndexCommitPolicy(GROUP, 2, 60_000, 1000), metrics);
+        Query query = createQuery("content", "group");
+
+        groupCommitRepository.index(createDocument("First", "First group document"));
+        assertEquals(1, groupCommitRepository.count(query));
+        assertEquals(0, committedDocuments());
+
+        groupCommitRepository.index(createDocument("Second", "Second group document"));
+        groupCommitRepository.index(createDocument("Third", "Third group document"));
+        assertEquals(3, groupCommitRepository.count(query));
+        assertEquals(2, committedDocuments());
+
+        groupCommitRepository.close();
+        assertEquals(3, committedDocuments());
+    }
+
+    @Test
+    public void testIndexAllInSingleCommit() throws Exception {
+        IndexConfig indexConfig = mock(IndexConfig.class);
+        when(indexConfig.indexWriter()).thenReturn(indexWriter);
+        when(indexConfig.analyzer()).thenReturn(analyzer);
+        LuceneIndexRepository groupCommitRepository = new LuceneIndexRepository("test", indexConfig, new IndexCommitPolicy(GROUP, 1000, 60_000, 1000), metrics);
+
+        groupCommitRepository.indexAll(List.of(
+            createDocument("First", "First bulk document"),
+            createDocument("Second", "Second bulk document"),
+            createDocument("Third", "Third bulk document")
+        ));
+
+        assertEquals(3, groupCommitRepository.count(createQuery("content", "bulk")));
+        assertEquals(3, committedDocuments());
+        groupCommitRepository.close();
+    }
+
+    @Test
+    public void testMetrics() throws Exception {
+        luceneIndexRepository.index(createDocument("Metrics", "Operations are timed"));
+        luceneIndexRepository.search(createQuery("content", "timed"), 10);
+        luceneIndexRepository.count(createQuery("content", "timed"));
+
+        verify(metrics).onIndexOperation(eq("test"), eq("write"), anyLong());
+        verify(metrics).onIndexOperation(eq("test"), eq("search"), anyLong());
+        verify(metrics).onIndexOperation(eq("test"), eq("count"), anyLong());
+    }
+
+    private int committedDocuments() throws IOException {
+        try (DirectoryReader reader = DirectoryReader.open(directory)) {
+            return reader.numDocs();
+        } catch (IndexNotFoundException e) {
+            return 0;
+        }
+    }
+
     private Query createQuery(String field, String queryString) throws Exception {
         QueryParser parser = new QueryParser(field, analyzer);
         return parser.parse(queryString);
@@ -0,0 +1,135 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.index.infra;
+
+import static com.chutneytesting.index.infra.SubstringSearch.addNGramField;
+import static com.chutneytesting.index.infra.SubstringSearch.substringQuery;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.WildcardQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Time to search a keyword in synthetic execution reports, with a leading wildcard query on whitespace separated tokens
+ * or with a phrase query on n-grams of the same report.<br>
+ * The index is built once on disk in a temporary folder, which takes a while for the default number of reports.
+ * Run with the main method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class ReportSearchBenchmark {
+
+    private static final String REPORT = "report";
+    private static final String[] WORDS = {"http", "get", "post", "status", "json", "assert", "success", "failure", "sql", "select", "kafka", "topic", "payload", "header", "context"};
+
+    @Param({"500000"})
+    public int reports;
+
+    @Param({"tus-4242", "payl"})
+    public String keyword;
+
+    private Path indexFolder;
+    private Directory directory;
+    private DirectoryReader reader;
+    private IndexSearcher searcher;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        indexFolder = Files.createTempDirectory("report-search-benchmark");
+        directory = FSDirectory.open(indexFolder);
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig(new CustemChutneyAnalyzer()).setRAMBufferSizeMB(256))) {
+            Random random = new Random(42);
+            for (int i = 0; i < reports; i++) {
+                String report = syntheticReport(i, random);
+                Document document = new Document();
+                document.add(new TextField(REPORT, report.toLowerCase(), Field.Store.NO));
+                addNGramField(document, REPORT, report);
+                writer.addDocument(document);
+            }
+            writer.forceMerge(1);
+        }
+        reader = DirectoryReader.open(directory);
+        searcher = new IndexSearcher(reader);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        reader.close();
+        directory.close();
+        try (Stream<Path> files = Files.walk(indexFolder)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public int leading_wildcard_query() throws IOException {
+        return searcher.search(new WildcardQuery(new Term(REPORT, "*" + keyword + "*")), 100).scoreDocs.length;
+    }
+
+    @Benchmark
+    public int ngram_phrase_query() throws IOException {
+        return searcher.search(substringQuery(REPORT, keyword), 100).scoreDocs.length;
+    }
+
+    private static String syntheticReport(int executionId, Random random) {
+        StringBuilder steps = new StringBuilder();
+        for (int step = 0; step < 5; step++) {
+            if (step > 0) {
+                steps.append(',');
+            }
+            steps.append("{\"name\":\"").append(word(random)).append(' ').append(word(random)).append("\",")
+                .append("\"status\":\"").append(random.nextInt(10) == 0 ? "FAILURE" : "SUCCESS").append("\",")
+                .append("\"information\":[\"").append(word(random)).append(" status-").append(random.nextInt(10_000)).append("\"],")
+                .append("\"errors\":[],\"duration\":").append(random.nextInt(5_000)).append('}');
+        }
+        return "{\"executionId\":" + executionId + ",\"scenarioName\":\"scenario " + executionId % 1_000 + "\",\"steps\":[" + steps + "]}";
+    }
+
+    private static String word(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ReportSearchBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.migration.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.chutneytesting.execution.infra.storage.ScenarioExecutionReportJpaRepository;
+import com.chutneytesting.execution.infra.storage.index.ExecutionReportIndexRepository;
+import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionReportEntity;
+import com.chutneytesting.migration.infra.ExecutionReportBulkIndexer;
+import com.chutneytesting.migration.infra.ExecutionReportRepository;
+import com.chutneytesting.scenario.infra.raw.ScenarioJpaRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ExecutionReportMigratorTest {
+
+    private final ScenarioExecutionReportJpaRepository scenarioExecutionReportJpaRepository = mock(ScenarioExecutionReportJpaRepository.class);
+    private final ExecutionReportIndexRepository executionReportIndexRepository = mock(ExecutionReportIndexRepository.class);
+    private final ExecutionReportMigrator sut = new ExecutionReportMigrator(
+        mock(ExecutionReportRepository.class),
+        scenarioExecutionReportJpaRepository,
+        executionReportIndexRepository,
+        mock(ScenarioJpaRepository.class),
+        mock(ExecutionReportBulkIndexer.class)
+    );
+
+    private final SortedSet<Long> outdatedIndexIds = new TreeSet<>();
+    private final Set<Long> failingIds = new TreeSet<>();
+    private final Set<Long> databaseIds = new TreeSet<>();
+    private final AtomicInteger outdatedSearches = new AtomicInteger();
+
+    @BeforeEach
+    void givenIndex() {
+        when(executionReportIndexRepository.outdatedIds(anyInt())).thenAnswer(invocation -> {
+            outdatedSearches.incrementAndGet();
+            return outdatedIndexIds.stream().limit(invocation.<Integer>getArgument(0)).toList();
+        });
+        when(scenarioExecutionReportJpaRepository.findAllById(anyList())).thenAnswer(invocation -> {
+            List<ScenarioExecutionReportEntity> reports = new ArrayList<>();
+            for (Long id : invocation.<List<Long>>getArgument(0)) {
+                if (databaseIds.contains(id)) {
+                    ScenarioExecutionReportEntity report = mock(ScenarioExecutionReportEntity.class);
+                    when(report.scenarioExecutionId()).thenReturn(id);
+                    reports.add(report);
+                }
+            }
+            return reports;
+        });
+        doAnswer(invocation -> {
+            invocation.<List<ScenarioExecutionReportEntity>>getArgument(0).stream()
+                .map(ScenarioExecutionReportEntity::scenarioExecutionId)
+                .filter(id -> !failingIds.contains(id))
+                .forEach(outdatedIndexIds::remove);
+            return null;
+        }).when(executionReportIndexRepository).reindexAll(anyList());
+        doAnswer(invocation -> {
+            outdatedIndexIds.removeAll(invocation.<Set<Long>>getArgument(0));
+            return null;
+        }).when(executionReportIndexRepository).deleteAllById(anySet());
+    }
+
+    @Test
+    void should_reindex_outdated_reports_by_batches_and_remove_deleted_ones() {
+        LongStream.rangeClosed(1, 250).forEach(outdatedIndexIds::add);
+        LongStream.rangeClosed(1, 240).forEach(databaseIds::add);
+
+        sut.reindexOutdated();
+
+        assertThat(outdatedIndexIds).isEmpty();
+    }
+
+    @Test
+    void should_skip_reports_failing_to_be_reindexed() {
+        LongStream.rangeClosed(1, 250).forEach(outdatedIndexIds::add);
+        LongStream.rangeClosed(1, 250).forEach(databaseIds::add);
+        failingIds.addAll(List.of(3L, 150L));
+
+        sut.reindexOutdated();
+
+        assertThat(outdatedIndexIds).containsExactly(3L, 150L);
+        assertThat(outdatedSearches.get()).isLessThanOrEqualTo(5);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.migration.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.chutneytesting.execution.infra.storage.index.ExecutionReportIndexRepository;
+import com.chutneytesting.execution.infra.storage.jpa.ReportConverter;
+import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionReportEntity;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ExecutionReportBulkIndexerTest {
+
+    private static final List<String> SCENARIOS_IDS = List.of("1");
+
+    private final ExecutionReportRepository executionReportRepository = mock(ExecutionReportRepository.class);
+    private final ExecutionReportIndexRepository executionReportIndexRepository = mock(ExecutionReportIndexRepository.class);
+    private final ExecutionReportBulkIndexer sut = new ExecutionReportBulkIndexer(executionReportRepository, executionReportIndexRepository);
+
+    private final TreeSet<Long> databaseIds = new TreeSet<>();
+    private final Set<Long> failingIds = new TreeSet<>();
+    private final Set<Long> indexedIds = new ConcurrentSkipListSet<>();
+    private final Map<Long, byte[]> storedReports = new HashMap<>();
+    private final Map<Long, String> indexedReports = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void givenDatabaseAndIndex() {
+        when(executionReportRepository.findStoredReportsAfter(eq(SCENARIOS_IDS), anyLong(), anyInt())).thenAnswer(invocation ->
+            databaseIds.tailSet(invocation.<Long>getArgument(1), false).stream()
+                .limit(invocation.<Integer>getArgument(2))
+                .map(id -> new StoredReport(id, storedReports.getOrDefault(id, new byte[0])))
+                .toList()
+        );
+        doAnswer(invocation -> {
+            List<Long> ids = invocation.<List<ScenarioExecutionReportEntity>>getArgument(0).stream()
+                .map(ScenarioExecutionReportEntity::scenarioExecutionId)
+                .toList();
+            if (!Collections.disjoint(ids, failingIds)) {
+                throw new IllegalStateException("Cannot index");
+            }
+            indexedIds.addAll(ids);
+            invocation.<List<ScenarioExecutionReportEntity>>getArgument(0).forEach(report -> indexedReports.put(report.scenarioExecutionId(), report.getReport()));
+            return null;
+        }).when(executionReportIndexRepository).saveAll(anyList());
+    }
+
+    @Test
+    void should_index_all_reports_by_keyset_pages() {
+        LongStream.rangeClosed(1, 1200).forEach(databaseIds::add);
+        List<Integer> batchesSizes = Collections.synchronizedList(new ArrayList<>());
+
+        int count = sut.indexAll(SCENARIOS_IDS, batch -> batchesSizes.add(batch.size()));
+
+        assertThat(count).isEqualTo(1200);
+        assertThat(indexedIds).containsExactlyElementsOf(databaseIds);
+        assertThat(batchesSizes).containsExactlyInAnyOrder(500, 500, 200);
+        verify(executionReportRepository).findStoredReportsAfter(SCENARIOS_IDS, Long.MIN_VALUE, 500);
+        verify(executionReportRepository).findStoredReportsAfter(SCENARIOS_IDS, 500L, 500);
+        verify(executionReportRepository).findStoredReportsAfter(SCENARIOS_IDS, 1000L, 500);
+    }
+
+    @Test
+    void should_read_next_page_when_last_one_is_full() {
+        LongStream.rangeClosed(1, 1000).forEach(databaseIds::add);
+
+        int count = sut.indexAll(SCENARIOS_IDS, batch -> {});
+
+        assertThat(count).isEqualTo(1000);
+        verify(executionReportRepository).findStoredReportsAfter(SCENARIOS_IDS, 1000L, 500);
+    }
+
+    @Test
+    void should_decompress_reports_in_workers_and_give_uncompressed_ones_before_indexing() {
+        databaseIds.addAll(List.of(1L, 2L));
+        storedReports.put(1L, new ReportConverter().convertToDatabaseColumn("compressed report"));
+        storedReports.put(2L, "uncompressed report".getBytes(StandardCharsets.UTF_8));
+        List<Long> uncompressedIds = Collections.synchronizedList(new ArrayList<>());
+        Set<String> beforeIndexingThreads = new ConcurrentSkipListSet<>();
+
+        sut.indexAll(SCENARIOS_IDS, batch -> {
+            batch.forEach(report -> uncompressedIds.add(report.scenarioExecutionId()));
+            beforeIndexingThreads.add(Thread.currentThread().getName());
+        });
+
+        assertThat(indexedReports).containsOnly(entry(1L, "compressed report"), entry(2L, "uncompressed report"));
+        assertThat(uncompressedIds).containsExactly(2L);
+        assertThat(beforeIndexingThreads).allMatch(name -> name.startsWith("report-bulk-indexer-"));
+    }
+
+    @Test
+    void should_keep_indexing_other_batches_when_one_fails() {
+        LongStream.rangeClosed(1, 1200).forEach(databaseIds::add);
+        failingIds.add(600L);
+
+        int count = sut.indexAll(SCENARIOS_IDS, batch -> {});
+
+        assertThat(count).isEqualTo(700);
+        assertThat(indexedIds)
+            .hasSize(700)
+            .doesNotContain(501L, 600L, 1000L)
+            .contains(1L, 500L, 1001L, 1200L);
+    }
+
+    @Test
+    void should_not_index_without_scenarios() {
+        assertThat(sut.indexAll(List.of(), batch -> {})).isZero();
+    }
+}
@@ -7,15 +7,19 @@
 
 package util.infra;
 
+import static org.mockito.Mockito.mock;
 import static util.infra.AbstractLocalDatabaseTest.DB_CHANGELOG_DB_CHANGELOG_MASTER_XML;
 
 import com.chutneytesting.ServerConfiguration;
 import com.chutneytesting.execution.infra.aop.ExecutionReportIndexingAspect;
+import com.chutneytesting.execution.infra.execution.ExecutableScenarioCache;
 import com.chutneytesting.execution.infra.storage.DatabaseExecutionJpaRepository;
 import com.chutneytesting.execution.infra.storage.index.ExecutionReportIndexRepository;
 import com.chutneytesting.index.infra.LuceneIndexRepository;
+import com.chutneytesting.index.infra.config.IndexCommitPolicy;
 import com.chutneytesting.index.infra.config.IndexConfig;
 import com.chutneytesting.index.infra.config.OnDiskIndexConfig;
+import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
@@ -70,6 +74,7 @@ import util.SocketUtil;
 class TestInfraConfiguration {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TestInfraConfiguration.class);
+    private static final ChutneyMetrics NO_METRICS = mock(ChutneyMetrics.class);
 
     @Configuration
     @Profile("test-infra-h2")
@@ -196,24 +201,29 @@ class TestInfraConfiguration {
         return new ServerConfiguration().reportObjectMapper();
     }
 
+    @Bean
+    public ExecutableScenarioCache executableScenarioCache() {
+        return new ExecutableScenarioCache(1000, NO_METRICS);
+    }
+
     @Bean
     public LuceneIndexRepository reportLuceneIndexRepository(IndexConfig reportIndexConfig) {
-        return new LuceneIndexRepository(reportIndexConfig);
+        return new LuceneIndexRepository("report", reportIndexConfig, IndexCommitPolicy.sync(), NO_METRICS);
     }
 
     @Bean
     public LuceneIndexRepository scenarioLuceneIndexRepository(IndexConfig scenarioIndexConfig) {
-        return new LuceneIndexRepository(scenarioIndexConfig);
+        return new LuceneIndexRepository("scenario", scenarioIndexConfig, IndexCommitPolicy.sync(), NO_METRICS);
     }
 
     @Bean
     public LuceneIndexRepository datasetLuceneIndexRepository(IndexConfig datasetIndexConfig) {
-        return new LuceneIndexRepository(datasetIndexConfig);
+        return new LuceneIndexRepository("dataset", datasetIndexConfig, IndexCommitPolicy.sync(), NO_METRICS);
     }
 
     @Bean
     public LuceneIndexRepository campaignLuceneIndexRepository(IndexConfig campaignIndexConfig) {
-        return new LuceneIndexRepository(campaignIndexConfig);
+        return new LuceneIndexRepository("campaign", campaignIndexConfig, IndexCommitPolicy.sync(), NO_METRICS);
     }
 
     @Bean
@@ -1856,6 +1856,9 @@ enum class KafkaSpringOffsetCommitBehavior { RECORD, BATCH, TIME, COUNT, COUNT_T
  * - body : list of bodies of messages consumed (List<Map<String, Object>>)
  * - payloads : list of payload of messages consumed (List<Object>)
  * - headers : list of headers of messages consumed (List<Map<String, Object>>)
+ * - kafkaConsumerSession : running consumer session, when keepSession or session is given
+ * -------
+ * Finally action registered when a session is started : KafkaConsumerSessionStopAction
  */
 fun ChutneyStepBuilder.KafkaBasicConsumeAction(
     target: String,
@@ -1869,6 +1872,8 @@ fun ChutneyStepBuilder.KafkaBasicConsumeAction(
     contentType: String? = null,
     ackMode: KafkaSpringOffsetCommitBehavior? = null,
     resetOffset: Boolean = false,
+    keepSession: Boolean? = null,
+    session: String? = null,
     outputs: Map<String, Any> = mapOf(),
     validations: Map<String, Any> = mapOf(),
     strategy: Strategy? = null
@@ -1886,7 +1891,9 @@ fun ChutneyStepBuilder.KafkaBasicConsumeAction(
             "header-selector" to headerSelector,
             "content-type" to contentType,
             "ackMode" to ackMode,
-            "resetOffset" to resetOffset
+            "resetOffset" to resetOffset,
+            "keep-session" to keepSession,
+            "session" to session
         ).notEmptyToMap(),
         outputs = outputs,
         validations = validations
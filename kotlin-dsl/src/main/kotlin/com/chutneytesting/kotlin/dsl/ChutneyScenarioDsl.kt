@@ -94,8 +94,13 @@ open class RetryTimeOutStrategy(timeout: String, retryDelay: String) :
     }
 }
 
-open class ForStrategy(dataset: String = "dataset".spEL, index: String = "i") :
-    Strategy(type = "for", parameters = mapOf("dataset" to dataset, "index" to index)) {
+open class ForStrategy(dataset: String = "dataset".spEL, index: String = "i", parallel: Boolean = false, maxConcurrency: Int? = null) :
+    Strategy(
+        type = "for",
+        parameters = mapOf("dataset" to dataset, "index" to index)
+            + (if (parallel) mapOf("parallel" to "true") else emptyMap())
+            + (maxConcurrency?.let { mapOf("maxConcurrency" to it.toString()) } ?: emptyMap())
+    ) {
 }
 open class IfStrategy(condition: String) :
     Strategy(type = "if", parameters = mapOf("condition" to condition)) {